@@ -0,0 +1,23 @@
+package com.nhnacademy.book_data_batch.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 도서 CSV 행의 내용 지문(fingerprint)
+ * 증분(delta) 임포트 시 이전 덤프와 비교해 변경된 행만 반영하는 데 사용합니다.
+ */
+@Entity
+@Table(name = "book_fingerprint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BookFingerprint {
+
+    @Id
+    @Column(name = "isbn_13", length = 13)
+    private String isbn;
+
+    @Column(name = "fingerprint", nullable = false)
+    private Long fingerprint;
+}
@@ -0,0 +1,8 @@
+package com.nhnacademy.book_data_batch.domain.repository;
+
+import com.nhnacademy.book_data_batch.domain.entity.BookFingerprint;
+import com.nhnacademy.book_data_batch.domain.repository.custom.BookFingerprintRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookFingerprintRepository extends JpaRepository<BookFingerprint, String>, BookFingerprintRepositoryCustom {
+}
@@ -1,13 +1,14 @@
 package com.nhnacademy.book_data_batch.domain.repository;
 
 import com.nhnacademy.book_data_batch.domain.entity.Category;
+import com.nhnacademy.book_data_batch.domain.repository.custom.CategoryRepositoryCustom;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
 
     Optional<Category> findByKdcCode(String kdcCode);
 
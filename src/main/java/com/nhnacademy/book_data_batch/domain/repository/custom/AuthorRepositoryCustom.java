@@ -15,7 +15,7 @@ public interface AuthorRepositoryCustom {
      * 따라서 INSERT와 SELECT 모두 JDBC로 처리하여 일관성 유지.
      *
      * @param names 저자 이름 목록 (중복이 제거된 집합)
-     * @param batchSize IN 절 분할 크기
+     * @param batchSize IN 절 분할 크기 (대량이면 임시 테이블 JOIN, JdbcExecutor.lookupIds)
      * @return 이름 → ID 맵
      */
     Map<String, Long> findIdsByNames(Set<String> names, int batchSize);
@@ -5,11 +5,13 @@ import com.nhnacademy.book_data_batch.jobs.embedding.dto.EmbeddingFailureDto;
 import com.nhnacademy.book_data_batch.domain.entity.Batch;
 import com.nhnacademy.book_data_batch.domain.enums.BatchStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BatchRepositoryCustom {
 
     void bulkInsert(List<Batch> batches);
+    void bulkInsertByBookIds(Collection<Long> bookIds);
 
     // Enrichment (Aladin)
     void bulkUpdateEnrichmentStatus(List<Long> batchIds, BatchStatus status);
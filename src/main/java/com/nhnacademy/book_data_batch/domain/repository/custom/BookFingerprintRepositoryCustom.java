@@ -0,0 +1,13 @@
+package com.nhnacademy.book_data_batch.domain.repository.custom;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface BookFingerprintRepositoryCustom {
+
+    // ISBN → 저장된 지문
+    Map<String, Long> findFingerprints(Collection<String> isbns);
+
+    // ISBN → 지문 저장 (있으면 갱신)
+    void bulkUpsert(Map<String, Long> fingerprints);
+}
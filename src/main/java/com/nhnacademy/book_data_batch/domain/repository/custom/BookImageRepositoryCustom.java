@@ -7,4 +7,6 @@ import java.util.List;
 public interface BookImageRepositoryCustom {
 
     void bulkInsert(List<BookImageDto> bookImages);
+
+    void replaceImages(List<BookImageDto> bookImages);
 }
@@ -2,12 +2,29 @@ package com.nhnacademy.book_data_batch.domain.repository.custom;
 
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.EnrichmentSuccessDto;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.UpsertResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface BookRepositoryCustom {
 
     void bulkInsert(List<Book> books);
 
-    void bulkUpdateFromEnrichment(List<EnrichmentSuccessDto> enrichmentData);
+    // INSERT 후 ISBN → book_id (생성 키 사용, 건너뛴 행만 ID 조회)
+    Map<String, Long> bulkInsertReturningIds(List<Book> books);
+
+    // 있으면 바뀐 CSV 유래 컬럼만 갱신 후 ISBN → book_id (값 오류로 거부된 행은 결과에 없음)
+    Map<String, Long> bulkUpsertReturningIds(List<Book> books);
+
+    // ID만 조회 (엔티티 로딩 없음)
+    Map<String, Long> findIdsByIsbns(Collection<String> isbns);
+
+    // 전체 ISBN 순회 (기존 도서 인덱스 적재용, 결과 List 없음)
+    void forEachIsbn(Consumer<String> consumer);
+
+    // 보강 필드 갱신 (값이 같은 행은 UNCHANGED로 쓰기 생략, 값 오류 행은 REJECTED + 거부 목록)
+    UpsertResult<EnrichmentSuccessDto> bulkUpdateFromEnrichment(List<EnrichmentSuccessDto> enrichmentData);
 }
@@ -0,0 +1,11 @@
+package com.nhnacademy.book_data_batch.domain.repository.custom;
+
+import com.nhnacademy.book_data_batch.domain.entity.Category;
+
+import java.util.function.Consumer;
+
+public interface CategoryRepositoryCustom {
+
+    // 전체 카테고리 스트리밍 순회 (부모 없이 ID/코드/이름/경로/깊이만 채운 참조용 객체, 영속성 컨텍스트 밖)
+    void forEachCategory(Consumer<Category> consumer);
+}
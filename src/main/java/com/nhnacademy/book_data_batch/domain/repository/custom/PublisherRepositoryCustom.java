@@ -1,8 +1,17 @@
 package com.nhnacademy.book_data_batch.domain.repository.custom;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 public interface PublisherRepositoryCustom {
 
     void bulkInsert(Set<String> publisherNames);
+
+    // 이름 → publisher_id (엔티티 로딩 없음, 대량이면 임시 테이블 JOIN)
+    Map<String, Long> findIdsByNames(Collection<String> publisherNames);
+
+    // 전체 (publisher_id, 이름) 순회 (결과 List 없음)
+    void forEachIdAndName(BiConsumer<Long, String> consumer);
 }
@@ -1,8 +1,13 @@
 package com.nhnacademy.book_data_batch.domain.repository.custom;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 public interface TagRepositoryCustom {
 
     void bulkInsert(Set<String> tagNames);
+
+    // 이름 → tag_id (엔티티 로딩 없음, 대량이면 임시 테이블 JOIN)
+    Map<String, Long> findIdsByNames(Collection<String> names);
 }
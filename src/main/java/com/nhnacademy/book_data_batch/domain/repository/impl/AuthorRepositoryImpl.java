@@ -4,7 +4,6 @@ import com.nhnacademy.book_data_batch.domain.repository.custom.AuthorRepositoryC
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -14,7 +13,6 @@ public class AuthorRepositoryImpl implements AuthorRepositoryCustom {
     private final JdbcExecutor bulkExecutor;
 
     private static final String INSERT_SQL = "INSERT IGNORE INTO author (author_name) VALUES (?)";
-    private static final String SELECT_SQL_TEMPLATE = "SELECT author_id, author_name FROM author WHERE author_name IN (%s)";
 
     @Override
     public void bulkInsert(Set<String> authorNames) {
@@ -27,18 +25,6 @@ public class AuthorRepositoryImpl implements AuthorRepositoryCustom {
 
     @Override
     public Map<String, Long> findIdsByNames(Set<String> names, int batchSize) {
-        Map<String, Long> result = new HashMap<>();
-
-        bulkExecutor.queryInBatches(
-                SELECT_SQL_TEMPLATE,
-                (rs, rowNum) -> {
-                    result.put(rs.getString("author_name"), rs.getLong("author_id"));
-                    return null;
-                },
-                names,
-                batchSize
-        );
-
-        return result;
+        return bulkExecutor.lookupIds("author", "author_name", "author_id", names, batchSize);
     }
 }
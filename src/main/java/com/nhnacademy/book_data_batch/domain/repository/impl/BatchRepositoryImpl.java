@@ -9,6 +9,7 @@ import com.nhnacademy.book_data_batch.domain.repository.custom.BatchRepositoryCu
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -17,21 +18,19 @@ public class BatchRepositoryImpl implements BatchRepositoryCustom {
 
     private final JdbcExecutor bulkExecutor;
 
-    private static final String INSERT_BATCH_SQL = """
-            INSERT IGNORE INTO batch (book_id, enrichment_status, embedding_status, error_message)
-            VALUES (?, ?, ?, NULL)
-            """;
+    private static final String BATCH_TABLE = "batch";
+    private static final List<String> INSERT_COLUMNS = List.of("book_id", "enrichment_status", "embedding_status");
 
-    // Enrichment
+    // Enrichment (이미 같은 상태인 행은 건드리지 않음)
     private static final String UPDATE_ENRICHMENT_STATUS_SQL = 
-            "UPDATE batch SET enrichment_status = ? WHERE batch_id = ?";
+            "UPDATE batch SET enrichment_status = ? WHERE batch_id = ? AND enrichment_status <> ?";
 
     private static final String UPDATE_ENRICHMENT_FAILED_SQL = 
             "UPDATE batch SET enrichment_status = ?, error_message = ? WHERE batch_id = ?";
 
-    // Embedding
+    // Embedding (이미 같은 상태인 행은 건드리지 않음)
     private static final String UPDATE_EMBEDDING_STATUS_SQL = 
-            "UPDATE batch SET embedding_status = ? WHERE batch_id = ?";
+            "UPDATE batch SET embedding_status = ? WHERE batch_id = ? AND embedding_status <> ?";
 
     private static final String UPDATE_EMBEDDING_FAILED_SQL = 
             "UPDATE batch SET embedding_status = ?, error_message = ? WHERE batch_id = ?";
@@ -48,14 +47,20 @@ public class BatchRepositoryImpl implements BatchRepositoryCustom {
             return;
         }
 
-        bulkExecutor.execute(
-                INSERT_BATCH_SQL,
-                batches,
-                (ps, batch) -> {
-                    ps.setLong(1, batch.getBook().getId());
-                    ps.setInt(2, BatchStatus.PENDING.getCode());
-                    ps.setInt(3, BatchStatus.PENDING.getCode());
-                }
+        bulkInsertByBookIds(batches.stream().map(batch -> batch.getBook().getId()).toList());
+    }
+
+    @Override
+    public void bulkInsertByBookIds(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+
+        bulkExecutor.insertIgnore(
+                BATCH_TABLE,
+                INSERT_COLUMNS,
+                bookIds,
+                bookId -> new Object[]{bookId, BatchStatus.PENDING.getCode(), BatchStatus.PENDING.getCode()}
         );
     }
 
@@ -71,6 +76,7 @@ public class BatchRepositoryImpl implements BatchRepositoryCustom {
                 (ps, batchId) -> {
                     ps.setInt(1, status.getCode());
                     ps.setLong(2, batchId);
+                    ps.setInt(3, status.getCode());
                 }
         );
     }
@@ -104,6 +110,7 @@ public class BatchRepositoryImpl implements BatchRepositoryCustom {
                 (ps, batchId) -> {
                     ps.setInt(1, status.getCode());
                     ps.setLong(2, batchId);
+                    ps.setInt(3, status.getCode());
                 }
         );
     }
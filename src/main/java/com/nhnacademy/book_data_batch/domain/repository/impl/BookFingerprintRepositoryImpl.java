@@ -0,0 +1,41 @@
+package com.nhnacademy.book_data_batch.domain.repository.impl;
+
+import com.nhnacademy.book_data_batch.domain.repository.custom.BookFingerprintRepositoryCustom;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class BookFingerprintRepositoryImpl implements BookFingerprintRepositoryCustom {
+
+    private final JdbcExecutor bulkExecutor;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO book_fingerprint (isbn_13, fingerprint) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE fingerprint = VALUES(fingerprint)
+            """;
+
+    @Override
+    public Map<String, Long> findFingerprints(Collection<String> isbns) {
+        // ISBN → fingerprint (대량이면 임시 테이블 JOIN 한 번)
+        return bulkExecutor.lookupLongs("book_fingerprint", "isbn_13", "fingerprint", isbns);
+    }
+
+    @Override
+    public void bulkUpsert(Map<String, Long> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return;
+        }
+
+        bulkExecutor.execute(
+                UPSERT_SQL,
+                fingerprints.entrySet(),
+                (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                }
+        );
+    }
+}
@@ -5,27 +5,55 @@ import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.custom.BookImageRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class BookImageRepositoryImpl implements BookImageRepositoryCustom {
 
     private final JdbcExecutor bulkExecutor;
 
-    private static final String INSERT_SQL =
-            "INSERT IGNORE INTO book_image (book_id, image_url, image_type, display_order) VALUES (?, ?, ?, ?)";
+    private static final String TABLE = "book_image";
+    private static final List<String> COLUMNS = List.of("book_id", "image_url", "image_type", "display_order");
+
+    private static final String DELETE_BY_BOOK_AND_TYPE_SQL =
+            "DELETE FROM book_image WHERE book_id = ? AND image_type = ?";
 
     @Override
     public void bulkInsert(List<BookImageDto> bookImages) {
-        bulkExecutor.execute(
-                INSERT_SQL,
+        bulkExecutor.insertIgnore(
+                TABLE,
+                COLUMNS,
                 bookImages,
-                (ps, dto) -> {
-                    ps.setLong(1, dto.bookId());
-                    ps.setString(2, dto.imageUrl());
-                    ps.setInt(3, dto.imageType());
-                    ps.setInt(4, dto.displayOrder());
+                dto -> new Object[]{dto.bookId(), dto.imageUrl(), dto.imageType(), dto.displayOrder()}
+        );
+    }
+
+    /**
+     * 도서별로 같은 유형의 기존 이미지를 지우고 새로 저장 (변경된 도서 재적재 시 이전 URL이 남지 않음)
+     */
+    @Override
+    public void replaceImages(List<BookImageDto> bookImages) {
+        if (bookImages.isEmpty()) {
+            return;
+        }
+
+        Set<ImageSlot> slots = new LinkedHashSet<>();
+        for (BookImageDto dto : bookImages) {
+            slots.add(new ImageSlot(dto.bookId(), dto.imageType()));
+        }
+        bulkExecutor.execute(
+                DELETE_BY_BOOK_AND_TYPE_SQL,
+                slots,
+                (ps, slot) -> {
+                    ps.setLong(1, slot.bookId());
+                    ps.setInt(2, slot.imageType());
                 }
         );
+        bulkInsert(bookImages);
+    }
+
+    private record ImageSlot(long bookId, int imageType) {
     }
 }
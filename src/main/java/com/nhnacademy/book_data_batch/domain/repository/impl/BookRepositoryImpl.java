@@ -1,14 +1,23 @@
 package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.EnrichmentSuccessDto;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.BulkWriteResult;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.UpsertResult;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.UpsertSpec;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.repository.custom.BookRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Date;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -16,26 +25,29 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
 
     private final JdbcExecutor bulkExecutor;
 
-    private static final String INSERT_BOOK_SQL = """
-            INSERT IGNORE INTO book (
-                isbn_13, title, description, publisher_id, published_date,
-                price_standard, price_sales, category_id, volume_number,
-                stock, stock_status, packaging_available
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-            """;
-
-    private static final String UPDATE_ENRICHED_FIELDS_SQL = """
-            UPDATE book SET
-                description = ?,
-                subtitle = ?,
-                book_index = ?,
-                page_count = ?,
-                price_standard = ?,
-                price_sales = ?,
-                published_date = ?,
-                language = ?
-            WHERE book_id = ?
-            """;
+    private static final String BOOK_TABLE = "book";
+    private static final List<String> BOOK_COLUMNS = List.of(
+            "isbn_13", "title", "description", "publisher_id", "published_date",
+            "price_standard", "price_sales", "category_id", "volume_number",
+            "stock", "stock_status", "packaging_available"
+    );
+    private static final String INSERT_BOOK_SQL = JdbcExecutor.insertIgnoreSql(BOOK_TABLE, BOOK_COLUMNS);
+
+    // 변경된 CSV 행 반영 (price_sales는 할인 재계산 Job이 관리하므로 유지, 실제로 바뀐 행만 updated_at 갱신)
+    private static final UpsertSpec UPSERT_BOOK_SPEC = UpsertSpec.of(BOOK_TABLE, "isbn_13", BOOK_COLUMNS, List.of(
+            "title", "description", "publisher_id", "published_date",
+            "price_standard", "category_id", "volume_number"
+    )).touching("updated_at").hashing("description");
+
+    private static final String SELECT_ALL_ISBN_SQL = "SELECT isbn_13 FROM book";
+
+    private static final UpsertSpec ENRICHED_FIELDS_SPEC = UpsertSpec.of(BOOK_TABLE, "book_id", List.of(
+            "book_id", "description", "subtitle", "book_index", "page_count",
+            "price_standard", "price_sales", "published_date", "language"
+    ), List.of(
+            "description", "subtitle", "book_index", "page_count",
+            "price_standard", "price_sales", "published_date", "language"
+    )).hashing("description", "book_index");
 
     @Override
     public void bulkInsert(List<Book> books) {
@@ -43,50 +55,109 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
             return;
         }
 
-        bulkExecutor.execute(
-                INSERT_BOOK_SQL,
-                books,
-                (ps, book) -> {
-                    ps.setString(1, book.getIsbn());
-                    ps.setString(2, book.getTitle());
-                    ps.setString(3, book.getDescription());
-                    ps.setObject(4, book.getPublisher() != null ? book.getPublisher().getId() : null);
-                    ps.setObject(5, book.getPublishedDate() != null 
-                            ? Date.valueOf(book.getPublishedDate()) : null);
-                    ps.setObject(6, book.getPriceStandard());
-                    ps.setObject(7, book.getPriceSales() != null ? book.getPriceSales() :
-                            (book.getPriceStandard() != null ? (int) (book.getPriceStandard() * 0.9) : null));
-                    ps.setObject(8, book.getCategory() != null ? book.getCategory().getId() : null);
-                    ps.setObject(9, book.getVolumeNumber() != null ? book.getVolumeNumber() : 1);
-                    ps.setInt(10, 0);  // stock 기본값
-                    ps.setInt(11, 0);  // stock_status 기본값 (PRE_ORDER)
-                    ps.setBoolean(12, true);  // packaging_available 기본값
-                }
-        );
+        bulkExecutor.insertIgnore(BOOK_TABLE, BOOK_COLUMNS, books, this::toRow);
+    }
+
+    @Override
+    public Map<String, Long> bulkInsertReturningIds(List<Book> books) {
+        if (books.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // 대량이면 LOAD DATA로 적재 후 ID만 조회 (LOAD DATA는 생성 키를 돌려주지 않음)
+        if (bulkExecutor.shouldLoadData(books.size())) {
+            bulkInsert(books);
+            return findIdsByIsbns(books.stream().map(Book::getIsbn).distinct().toList());
+        }
+
+        // 1. INSERT + 생성 키로 ISBN → book_id 매핑
+        Map<String, Long> idsByIsbn = bulkExecutor.executeReturningKeys(
+                INSERT_BOOK_SQL, books, (ps, book) -> JdbcExecutor.bind(ps, toRow(book)), Book::getIsbn);
+
+        // 2. INSERT IGNORE로 건너뛴(이미 존재하는) 행만 ID 조회
+        List<String> missingIsbns = books.stream()
+                .map(Book::getIsbn)
+                .filter(isbn -> !idsByIsbn.containsKey(isbn))
+                .distinct()
+                .toList();
+        idsByIsbn.putAll(findIdsByIsbns(missingIsbns));
+
+        return idsByIsbn;
     }
 
     @Override
-    public void bulkUpdateFromEnrichment(List<EnrichmentSuccessDto> enrichmentData) {
+    public Map<String, Long> bulkUpsertReturningIds(List<Book> books) {
+        if (books.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // 값이 그대로인 행은 쓰지 않음, 값 오류(제목 길이 초과 등) 행만 격리
+        UpsertResult<Book> result = bulkExecutor.upsert(UPSERT_BOOK_SPEC, books, this::toRow);
+
+        Set<String> rejectedIsbns = new HashSet<>();
+        for (BulkWriteResult.RejectedRow<Book> reject : result.rejects()) {
+            rejectedIsbns.add(reject.item().getIsbn());
+            log.warn("[BOOK] UPSERT 거부 - ISBN: {}, SQLState: {}, {}",
+                    reject.item().getIsbn(), reject.sqlState(), reject.message());
+        }
+        log.debug("[BOOK] UPSERT - 추가: {}, 갱신: {}, 동일: {}",
+                result.count(UpsertResult.Outcome.INSERTED),
+                result.count(UpsertResult.Outcome.UPDATED),
+                result.count(UpsertResult.Outcome.UNCHANGED));
+
+        // ON DUPLICATE KEY UPDATE는 갱신 행의 생성 키가 없으므로 ID는 한 번에 조회 (거부된 행 제외)
+        return findIdsByIsbns(books.stream()
+                .map(Book::getIsbn)
+                .filter(isbn -> !rejectedIsbns.contains(isbn))
+                .distinct()
+                .toList());
+    }
+
+    @Override
+    public void forEachIsbn(Consumer<String> consumer) {
+        bulkExecutor.forEachRow(SELECT_ALL_ISBN_SQL, rs -> consumer.accept(rs.getString(1)));
+    }
+
+    @Override
+    public Map<String, Long> findIdsByIsbns(Collection<String> isbns) {
+        return bulkExecutor.lookupIds(BOOK_TABLE, "isbn_13", "book_id", isbns);
+    }
+
+    private Object[] toRow(Book book) {
+        return new Object[]{
+                book.getIsbn(),
+                book.getTitle(),
+                book.getDescription(),
+                book.getPublisher() != null ? book.getPublisher().getId() : null,
+                book.getPublishedDate() != null ? Date.valueOf(book.getPublishedDate()) : null,
+                book.getPriceStandard(),
+                book.getPriceSales() != null ? book.getPriceSales() :
+                        (book.getPriceStandard() != null ? (int) (book.getPriceStandard() * 0.9) : null),
+                book.getCategory() != null ? book.getCategory().getId() : null,
+                book.getVolumeNumber() != null ? book.getVolumeNumber() : 1,
+                0,      // stock 기본값
+                0,      // stock_status 기본값 (PRE_ORDER)
+                true    // packaging_available 기본값
+        };
+    }
+
+    @Override
+    public UpsertResult<EnrichmentSuccessDto> bulkUpdateFromEnrichment(List<EnrichmentSuccessDto> enrichmentData) {
         if (enrichmentData.isEmpty()) {
-            return;
+            return UpsertResult.empty();
         }
 
-        bulkExecutor.execute(
-                UPDATE_ENRICHED_FIELDS_SQL,
-                enrichmentData,
-                (ps, data) -> {
-                    ps.setString(1, data.description());
-                    ps.setString(2, data.subtitle());
-                    ps.setString(3, data.bookIndex());
-                    ps.setObject(4, data.pageCount());
-                    ps.setObject(5, data.priceStandard());
-                    ps.setObject(6, data.priceStandard() != null
-                            ? (int)(data.priceStandard() * 0.9) : null); // 10% 할인 판매가
-                    ps.setObject(7, data.publishedDate() != null
-                            ? Date.valueOf(data.publishedDate()) : null);
-                    ps.setString(8, data.language());
-                    ps.setLong(9, data.bookId());
-                }
-        );
+        // 재수집 결과가 기존 값과 같으면 UNCHANGED (쓰기 생략)
+        return bulkExecutor.updateChanged(ENRICHED_FIELDS_SPEC, enrichmentData, data -> new Object[]{
+                data.bookId(),
+                data.description(),
+                data.subtitle(),
+                data.bookIndex(),
+                data.pageCount(),
+                data.priceStandard(),
+                data.priceStandard() != null ? (int) (data.priceStandard() * 0.9) : null, // 10% 할인 판매가
+                data.publishedDate() != null ? Date.valueOf(data.publishedDate()) : null,
+                data.language()
+        });
     }
 }
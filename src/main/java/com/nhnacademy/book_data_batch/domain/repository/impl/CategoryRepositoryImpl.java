@@ -0,0 +1,29 @@
+package com.nhnacademy.book_data_batch.domain.repository.impl;
+
+import com.nhnacademy.book_data_batch.domain.entity.Category;
+import com.nhnacademy.book_data_batch.domain.repository.custom.CategoryRepositoryCustom;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
+
+    private final JdbcExecutor bulkExecutor;
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT category_id, kdc_code, category_name, path, depth FROM category";
+
+    @Override
+    public void forEachCategory(Consumer<Category> consumer) {
+        bulkExecutor.forEachRow(SELECT_ALL_SQL, rs -> consumer.accept(new Category(
+                rs.getLong(1),
+                null,
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getInt(5)
+        )));
+    }
+}
@@ -4,21 +4,39 @@ import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.custom.PublisherRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 @RequiredArgsConstructor
 public class PublisherRepositoryImpl implements PublisherRepositoryCustom {
 
     private final JdbcExecutor bulkExecutor;
 
-    private static final String INSERT_SQL = "INSERT IGNORE INTO publisher (publisher_name) VALUES (?)";
+    private static final String TABLE = "publisher";
+    private static final List<String> COLUMNS = List.of("publisher_name");
+
+    private static final String SELECT_ALL_IDS_SQL = "SELECT publisher_id, publisher_name FROM publisher";
 
     @Override
     public void bulkInsert(Set<String> publisherNames) {
-        bulkExecutor.execute(
-                INSERT_SQL,
+        bulkExecutor.insertIgnore(
+                TABLE,
+                COLUMNS,
                 publisherNames,
-                (ps, name) -> ps.setString(1, name)
+                name -> new Object[]{name}
         );
     }
+
+    @Override
+    public Map<String, Long> findIdsByNames(Collection<String> publisherNames) {
+        return bulkExecutor.lookupIds(TABLE, "publisher_name", "publisher_id", publisherNames);
+    }
+
+    @Override
+    public void forEachIdAndName(BiConsumer<Long, String> consumer) {
+        bulkExecutor.forEachRow(SELECT_ALL_IDS_SQL, rs -> consumer.accept(rs.getLong(1), rs.getString(2)));
+    }
 }
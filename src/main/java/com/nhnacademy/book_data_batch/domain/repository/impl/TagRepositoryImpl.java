@@ -4,6 +4,8 @@ import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.custom.TagRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 @RequiredArgsConstructor
@@ -21,4 +23,9 @@ public class TagRepositoryImpl implements TagRepositoryCustom {
                 (ps, name) -> ps.setString(1, name)
         );
     }
+
+    @Override
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        return bulkExecutor.lookupIds("tag", "tag_name", "tag_id", names);
+    }
 }
@@ -0,0 +1,167 @@
+package com.nhnacademy.book_data_batch.domain.service.publisher;
+
+import com.nhnacademy.book_data_batch.domain.entity.Publisher;
+import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * PublisherDictionary
+ * - 정규화된 출판사 이름 → publisher_id (프로세스 전체 공유, CSV 임포트/알라딘 수집 공용)
+ * - 첫 사용 시 (ID, 이름) 프로젝션을 스트리밍으로 읽어 한 번만 적재 (알라딘 신간 Job 시작/종료 시 clear → 실행마다 다시 적재)
+ * - 처음 보는 이름만 INSERT 후 ID 조회, 이후 사전에 추가
+ * - 트랜잭션 안에서 추가한 ID는 커밋 후 사전에 반영 (롤백된 출판사 ID가 남지 않도록)
+ * - 반환하는 Publisher는 ID만 채운 참조용 객체 (영속성 컨텍스트에 올리지 않음)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublisherDictionary {
+
+    private final PublisherRepository publisherRepository;
+
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+    private volatile boolean warmedUp;
+
+    /**
+     * 전체 출판사 적재 (이미 적재됐으면 무시)
+     */
+    public void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+        synchronized (this) {
+            if (warmedUp) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            publisherRepository.forEachIdAndName((id, name) -> {
+                if (name != null) {
+                    idsByKey.putIfAbsent(normalize(name), id);
+                }
+            });
+            warmedUp = true;
+            log.info("[Publisher] 출판사 사전 적재 완료: {}개, {}ms",
+                    idsByKey.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 이름들의 ID 확보 (처음 보는 이름만 INSERT)
+     *
+     * @return 이번 호출에서 확보한 정규화 키 → ID (같은 트랜잭션에서는 이 결과로 조회)
+     */
+    public Resolved resolve(Collection<String> publisherNames) {
+        warmUp();
+
+        Map<String, Long> resolved = new HashMap<>();
+        Map<String, String> unseen = new LinkedHashMap<>();
+        for (String name : publisherNames) {
+            if (!StringUtils.hasText(name)) {
+                continue;
+            }
+            String key = normalize(name);
+            Long id = idsByKey.get(key);
+            if (id != null) {
+                resolved.put(key, id);
+            } else {
+                unseen.putIfAbsent(key, name.trim());
+            }
+        }
+
+        if (!unseen.isEmpty()) {
+            publisherRepository.bulkInsert(new HashSet<>(unseen.values()));
+
+            Map<String, Long> inserted = new HashMap<>();
+            publisherRepository.findIdsByNames(unseen.values())
+                    .forEach((name, id) -> inserted.put(normalize(name), id));
+            resolved.putAll(inserted);
+            register(inserted);
+        }
+        return new Resolved(resolved);
+    }
+
+    /**
+     * 사전에 있는 출판사 참조 (없거나 이름이 비어 있으면 null)
+     */
+    public Publisher find(String publisherName) {
+        if (!StringUtils.hasText(publisherName)) {
+            return null;
+        }
+        Long id = idsByKey.get(normalize(publisherName));
+        return id != null ? new Publisher(id, publisherName.trim()) : null;
+    }
+
+    public int size() {
+        return idsByKey.size();
+    }
+
+    /**
+     * 사전 비우기 (다음 사용 시 다시 적재)
+     */
+    public synchronized void clear() {
+        idsByKey.clear();
+        warmedUp = false;
+    }
+
+    /**
+     * 앞뒤 공백 제거 + 소문자 + 연속 공백을 하나로 (정규식 없이 한 번 순회)
+     */
+    public static String normalize(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !key.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(Character.toLowerCase(c));
+        }
+        return key.toString();
+    }
+
+    private void register(Map<String, Long> inserted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inserted.forEach(idsByKey::putIfAbsent);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inserted.forEach(idsByKey::putIfAbsent);
+            }
+        });
+    }
+
+    /**
+     * resolve 결과 (정규화 키 → ID)
+     */
+    public record Resolved(Map<String, Long> idsByKey) {
+
+        public Publisher find(String publisherName) {
+            if (!StringUtils.hasText(publisherName)) {
+                return null;
+            }
+            Long id = idsByKey.get(normalize(publisherName));
+            return id != null ? new Publisher(id, publisherName.trim()) : null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.book_data_batch.global.batch;
+
+import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
+import com.nhnacademy.book_data_batch.global.index.IsbnKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * IsbnExistenceIndexListener
+ * - Job 시작 시 book 테이블의 ISBN으로 IsbnExistenceIndex 적재, 종료 시 해제
+ *   (인덱스는 @JobScope → 해당 JobExecution의 인덱스만 적재/해제)
+ * - 기존 도서 사전 필터가 필요한 Job에만 등록
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IsbnExistenceIndexListener implements JobExecutionListener {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final BookRepository bookRepository;
+    private final IsbnExistenceIndex isbnExistenceIndex;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        long start = System.currentTimeMillis();
+
+        long[][] keys = {new long[INITIAL_CAPACITY]};
+        int[] count = {0};
+        bookRepository.forEachIsbn(isbn -> {
+            long key = IsbnKeys.toKey(isbn);
+            if (key == IsbnKeys.INVALID) {
+                return;
+            }
+            if (count[0] == keys[0].length) {
+                keys[0] = Arrays.copyOf(keys[0], keys[0].length * 2);
+            }
+            keys[0][count[0]++] = key;
+        });
+        isbnExistenceIndex.load(keys[0], count[0]);
+
+        log.info("[INDEX] 기존 도서 ISBN 인덱스 적재 - {}건, {}ms",
+                isbnExistenceIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        isbnExistenceIndex.clear();
+    }
+}
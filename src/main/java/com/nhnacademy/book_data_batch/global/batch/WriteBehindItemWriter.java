@@ -0,0 +1,237 @@
+package com.nhnacademy.book_data_batch.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * <pre>
+ * WriteBehindItemWriter
+ * - write(): 미확인(쓰기 미완료) Chunk가 maxInFlightChunks 미만이 될 때까지 대기한 뒤 queue에 넣고 반환
+ *   (기본 1: Chunk N의 write()는 Chunk N-1의 쓰기가 커밋된 뒤에 반환 → Chunk N 쓰기와 Chunk N+1 읽기/처리가 겹침)
+ * - 전용 writer 스레드가 queue를 비우며 delegate.write()를 별도 트랜잭션(REQUIRES_NEW)으로 실행
+ * - 앞선 Chunk의 쓰기 실패는 다음 write()/update()에서 예외로 드러나고, afterStep()은 남은 Chunk를 모두 쓴 뒤 실패 시 Step FAILED
+ *
+ * 주의
+ * - Step은 Chunk N을 그 쓰기가 끝나기 전에 커밋함 → 상태를 DB에서 다시 읽는 Reader(saveState=false)에만 사용
+ * - 쓰기 실패는 실패한 Chunk의 write()에서 드러나지 않으므로 skip 정책이 적용되지 않음 → faultTolerant().skip() Step에는 사용하지 않음
+ * - writer 스레드가 2개 이상이면 Chunk 간 쓰기 순서는 보장하지 않음
+ * </pre>
+ */
+@Slf4j
+public class WriteBehindItemWriter<T> implements ItemStreamWriter<T>, StepExecutionListener {
+
+    private final ItemWriter<T> delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final int writerThreads;
+    private final int maxInFlightChunks;
+    private final BlockingQueue<PendingChunk<T>> queue;
+
+    private final Object ackLock = new Object();
+    private int inFlight;                       // ackLock으로 보호
+    private volatile Throwable failure;
+    private List<Thread> workers = List.of();
+
+    public WriteBehindItemWriter(
+            ItemWriter<T> delegate,
+            PlatformTransactionManager transactionManager,
+            int writerThreads,
+            int maxInFlightChunks
+    ) {
+        if (writerThreads < 1 || maxInFlightChunks < 1) {
+            throw new IllegalArgumentException("writerThreads, maxInFlightChunks는 1 이상이어야 함");
+        }
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writerThreads = writerThreads;
+        this.maxInFlightChunks = maxInFlightChunks;
+        this.queue = new ArrayBlockingQueue<>(maxInFlightChunks);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+        if (!workers.isEmpty()) {
+            return;
+        }
+
+        failure = null;
+        inFlight = 0;
+        List<Thread> started = new ArrayList<>(writerThreads);
+        for (int i = 0; i < writerThreads; i++) {
+            started.add(Thread.ofPlatform()
+                    .name("write-behind-" + i)
+                    .daemon(true)
+                    .start(this::drain));
+        }
+        workers = started;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Chunk는 Step 스레드에서 재사용되므로 항목만 복사해서 넘김
+        Chunk<T> copy = new Chunk<>(new ArrayList<T>(chunk.getItems()));
+        StepContext context = StepSynchronizationManager.getContext();
+
+        awaitAcknowledged(maxInFlightChunks - 1);
+        synchronized (ackLock) {
+            inFlight++;
+        }
+        queue.put(new PendingChunk<>(copy, context != null ? context.getStepExecution() : null));
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        awaitAcknowledged(maxInFlightChunks);
+        if (delegate instanceof ItemStream stream) {
+            stream.update(executionContext);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        try {
+            awaitAcknowledged(0);
+            return null;
+        } catch (ItemStreamException e) {
+            stepExecution.setStatus(BatchStatus.FAILED);
+            stepExecution.addFailureException(e);
+            return ExitStatus.FAILED;
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            awaitAcknowledged(0);
+        } catch (ItemStreamException e) {
+            log.warn("[WRITE-BEHIND] 종료 시 미완료 쓰기 있음 - {}", e.getMessage());
+        } finally {
+            stopWorkers();
+            if (delegate instanceof ItemStream stream) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * 미확인 Chunk가 allowed 이하가 될 때까지 대기, 그 사이 쓰기가 실패했으면 예외
+     */
+    private void awaitAcknowledged(int allowed) {
+        synchronized (ackLock) {
+            while (inFlight > allowed && failure == null) {
+                try {
+                    ackLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ItemStreamException("write-behind 쓰기 대기 중 인터럽트", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw new ItemStreamException("write-behind 쓰기 실패", failure);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            PendingChunk<T> pending;
+            try {
+                pending = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (pending.chunk() == null) {
+                return;
+            }
+
+            try {
+                // 앞선 쓰기가 실패했으면 Step이 실패하므로 나머지는 버림
+                if (failure == null) {
+                    writeInNewTransaction(pending);
+                }
+            } catch (Throwable e) {
+                log.error("[WRITE-BEHIND] Chunk 쓰기 실패 - {}건: {}", pending.chunk().size(), e.getMessage(), e);
+                failure = e;
+            } finally {
+                synchronized (ackLock) {
+                    inFlight--;
+                    ackLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void writeInNewTransaction(PendingChunk<T> pending) {
+        // @StepScope 빈을 쓰는 delegate를 위해 Step 컨텍스트를 writer 스레드에 등록
+        if (pending.stepExecution() != null) {
+            StepSynchronizationManager.register(pending.stepExecution());
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    delegate.write(pending.chunk());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            if (pending.stepExecution() != null) {
+                StepSynchronizationManager.close();
+            }
+        }
+    }
+
+    private void stopWorkers() {
+        List<Thread> running = workers;
+        workers = List.of();
+        for (int i = 0; i < running.size(); i++) {
+            try {
+                queue.put(new PendingChunk<>(null, null));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running.forEach(Thread::interrupt);
+                return;
+            }
+        }
+        for (Thread worker : running) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record PendingChunk<T>(Chunk<T> chunk, StepExecution stepExecution) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.nhnacademy.book_data_batch.global.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * <pre>
+ * Step Writer를 WriteBehindItemWriter로 감쌈 (batch.write-behind.enabled=false면 그대로 반환)
+ * - Step마다 새 인스턴스 (writer 스레드, queue를 Step끼리 공유하지 않음)
+ * - StepBuilder.writer()에 넘기면 ItemStream/StepExecutionListener로 자동 등록됨
+ * - 기본 비활성, saveState=false Reader를 쓰고 skip 정책이 없는 Step에만 사용 (WriteBehindItemWriter 주의 사항)
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class WriteBehindWriterFactory {
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${batch.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batch.write-behind.writer-threads:1}")
+    private int writerThreads = 1;
+
+    @Value("${batch.write-behind.max-in-flight-chunks:1}")
+    private int maxInFlightChunks = 1;
+
+    public <T> ItemWriter<T> wrap(ItemWriter<T> delegate) {
+        if (!enabled) {
+            return delegate;
+        }
+        return new WriteBehindItemWriter<>(delegate, transactionManager, writerThreads, maxInFlightChunks);
+    }
+}
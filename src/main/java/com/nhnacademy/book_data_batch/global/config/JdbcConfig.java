@@ -0,0 +1,31 @@
+package com.nhnacademy.book_data_batch.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class JdbcConfig {
+
+    /**
+     * <pre>
+     * JdbcExecutor.executeParallel 공용 스레드 풀
+     * - 스레드 수 상한 batch.jdbc.parallel.threads (스레드는 처음 필요할 때 생성)
+     * - 호출별 동시 실행 수는 JdbcExecutor.parallelism()으로 따로 제한 (커넥션 풀 크기 기준)
+     * - 여러 Step이 동시에 호출하면 남는 작업은 풀 큐에서 대기
+     * </pre>
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService jdbcParallelExecutor(@Value("${batch.jdbc.parallel.threads:8}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-parallel-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,26 +1,125 @@
 package com.nhnacademy.book_data_batch.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
-import java.time.Duration;
-
+/**
+ * <pre>
+ * 외부 API별 RestClient (Apache HttpClient 5 커넥션 풀)
+ * - 업스트림마다 풀 분리 (알라딘 조회가 몰려도 Ollama 연결을 잠식하지 않음)
+ * - keep-alive: 서버 Keep-Alive 헤더와 keep-alive-ms 중 짧은 쪽, 유휴 연결은 주기적으로 정리
+ * - gzip: HttpClient 5 기본 동작 (Accept-Encoding 추가 + 응답 자동 해제)
+ * - 풀 지표: httpcomponents.httpclient.pool.* (leased / available / pending, httpclient 태그 = aladin / ollama)
+ * </pre>
+ */
 @Configuration
 public class RestClientConfig {
 
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private long connectTimeoutMs = 5_000;
+
+    // 풀에서 연결을 빌릴 때까지 대기 한도
+    @Value("${http.client.pool-wait-timeout-ms:5000}")
+    private long poolWaitTimeoutMs = 5_000;
+
+    @Value("${http.client.keep-alive-ms:30000}")
+    private long keepAliveMs = 30_000;
+
+    @Value("${http.client.idle-evict-ms:60000}")
+    private long idleEvictMs = 60_000;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aladinConnectionManager(
+            @Value("${http.client.aladin.max-connections:16}") int maxConnections,
+            @Value("${http.client.aladin.read-timeout-ms:10000}") long readTimeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return connectionManager("aladin", maxConnections, readTimeoutMs, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager ollamaConnectionManager(
+            @Value("${http.client.ollama.max-connections:8}") int maxConnections,
+            @Value("${http.client.ollama.read-timeout-ms:10000}") long readTimeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return connectionManager("ollama", maxConnections, readTimeoutMs, meterRegistry);
+    }
+
     @Bean
-    public RestClient restClient() {
-        int connectTimeoutMillis = 5_000;
-        int readTimeoutMillis = 10_000;
+    public RestClient aladinRestClient(
+            @Qualifier("aladinConnectionManager") PoolingHttpClientConnectionManager connectionManager
+    ) {
+        return pooledRestClient(connectionManager);
+    }
+
+    @Bean
+    public RestClient ollamaRestClient(
+            @Qualifier("ollamaConnectionManager") PoolingHttpClientConnectionManager connectionManager
+    ) {
+        return pooledRestClient(connectionManager);
+    }
+
+    /**
+     * 단일 호스트용 풀 (호스트당 한도 = 전체 한도)
+     */
+    private PoolingHttpClientConnectionManager connectionManager(
+            String name,
+            int maxConnections,
+            long readTimeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(registry);
+        }
+        return connectionManager;
+    }
+
+    private RestClient pooledRestClient(PoolingHttpClientConnectionManager connectionManager) {
+        TimeValue keepAlive = TimeValue.ofMilliseconds(keepAliveMs);
 
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMillis));
-        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue server = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(server) && server.compareTo(keepAlive) < 0 ? server : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
 
         return RestClient.builder()
-            .requestFactory(requestFactory)
-            .build();
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
     }
 }
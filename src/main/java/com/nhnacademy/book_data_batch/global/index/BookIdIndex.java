@@ -0,0 +1,117 @@
+package com.nhnacademy.book_data_batch.global.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <pre>
+ * BookIdIndex
+ * - ISBN → book_id 인덱스 (Book 엔티티 대신 ID만 보관)
+ * - 13자리 숫자 ISBN은 LongLongHashMap, 그 외(비정상 값)는 작은 HashMap에 보관
+ * - 여러 Step/스레드에서 공유 → 읽기/쓰기 락으로 보호
+ * </pre>
+ */
+public class BookIdIndex {
+
+    public static final long NOT_FOUND = -1L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongLongHashMap ids;
+    private final Map<String, Long> irregularIds = new HashMap<>();
+
+    public BookIdIndex() {
+        this(1024);
+    }
+
+    public BookIdIndex(int expectedSize) {
+        this.ids = new LongLongHashMap(expectedSize);
+    }
+
+    public void put(String isbn13, long bookId) {
+        long key = IsbnKeys.toKey(isbn13);
+        lock.writeLock().lock();
+        try {
+            if (key != IsbnKeys.INVALID) {
+                ids.put(key, bookId, NOT_FOUND);
+            } else if (isbn13 != null) {
+                irregularIds.put(isbn13.trim(), bookId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putAll(Map<String, Long> idsByIsbn) {
+        lock.writeLock().lock();
+        try {
+            idsByIsbn.forEach((isbn, bookId) -> {
+                if (bookId == null) {
+                    return;
+                }
+                long key = IsbnKeys.toKey(isbn);
+                if (key != IsbnKeys.INVALID) {
+                    ids.put(key, bookId, NOT_FOUND);
+                } else if (isbn != null) {
+                    irregularIds.put(isbn.trim(), bookId);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return book_id, 없으면 NOT_FOUND
+     */
+    public long find(String isbn13) {
+        long key = IsbnKeys.toKey(isbn13);
+        lock.readLock().lock();
+        try {
+            if (key != IsbnKeys.INVALID) {
+                return ids.get(key, NOT_FOUND);
+            }
+            Long bookId = isbn13 != null ? irregularIds.get(isbn13.trim()) : null;
+            return bookId != null ? bookId : NOT_FOUND;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 book_id 스냅샷 (Batch 일괄 등록용)
+     */
+    public List<Long> bookIds() {
+        lock.readLock().lock();
+        try {
+            List<Long> bookIds = new ArrayList<>(size());
+            ids.forEach((key, bookId) -> bookIds.add(bookId));
+            bookIds.addAll(irregularIds.values());
+            return bookIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size() + irregularIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            irregularIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
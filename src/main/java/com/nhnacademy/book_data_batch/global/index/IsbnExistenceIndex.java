@@ -0,0 +1,158 @@
+package com.nhnacademy.book_data_batch.global.index;
+
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <pre>
+ * IsbnExistenceIndex
+ * - book 테이블에 이미 있는 ISBN-13 집합 (DB 쓰기 전에 기존 도서 제외용)
+ * - Job 시작 시 정렬된 long[]로 한 번 적재, 이후 INSERT한 ISBN은 추가 집합에 기록
+ * - 추가 집합이 커지면 정렬 배열에 병합
+ * - 트랜잭션 안에서 추가하면 커밋 후 반영 (롤백된 Chunk의 ISBN이 남지 않도록)
+ * - 적재 전(또는 clear 후)에는 항상 false → 기존처럼 INSERT IGNORE에 맡김
+ * - 13자리 숫자가 아닌 ISBN은 보관하지 않음 (항상 false)
+ * - JobExecution마다 별도 인스턴스 (@JobScope) → 동시에 도는 다른 Job이 끝나도 비워지지 않음
+ * </pre>
+ */
+@Component
+@JobScope
+public class IsbnExistenceIndex {
+
+    private static final int MERGE_THRESHOLD = 65_536;
+    private static final long PRESENT = 1L;
+    private static final long ABSENT = 0L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] sortedKeys = new long[0];
+    private LongLongHashMap recentKeys = new LongLongHashMap();
+    private boolean loaded;
+
+    /**
+     * 인덱스 교체
+     *
+     * @param keys IsbnKeys.toKey 값 (정렬/중복 무관, 배열은 인덱스가 소유)
+     * @param count 유효한 키 개수
+     */
+    public void load(long[] keys, int count) {
+        long[] sorted = sortAndDistinct(keys, count);
+        lock.writeLock().lock();
+        try {
+            sortedKeys = sorted;
+            recentKeys = new LongLongHashMap();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String isbn13) {
+        long key = IsbnKeys.toKey(isbn13);
+        if (key == IsbnKeys.INVALID) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return loaded && (Arrays.binarySearch(sortedKeys, key) >= 0 || recentKeys.containsKey(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새로 INSERT한 ISBN 반영 (적재 전이면 무시)
+     */
+    public void addAll(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> committed = List.copyOf(isbns);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(committed);
+                }
+            });
+            return;
+        }
+        addNow(isbns);
+    }
+
+    private void addNow(Collection<String> isbns) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            for (String isbn : isbns) {
+                long key = IsbnKeys.toKey(isbn);
+                if (key != IsbnKeys.INVALID && Arrays.binarySearch(sortedKeys, key) < 0) {
+                    recentKeys.put(key, PRESENT, ABSENT);
+                }
+            }
+            if (recentKeys.size() >= MERGE_THRESHOLD) {
+                mergeRecentKeys();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return sortedKeys.length + recentKeys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            sortedKeys = new long[0];
+            recentKeys = new LongLongHashMap();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void mergeRecentKeys() {
+        long[] merged = Arrays.copyOf(sortedKeys, sortedKeys.length + recentKeys.size());
+        int[] position = {sortedKeys.length};
+        recentKeys.forEach((key, value) -> merged[position[0]++] = key);
+        sortedKeys = sortAndDistinct(merged, merged.length);
+        recentKeys = new LongLongHashMap();
+    }
+
+    private static long[] sortAndDistinct(long[] keys, int count) {
+        Arrays.sort(keys, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || keys[i] != keys[distinct - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return distinct == keys.length ? keys : Arrays.copyOf(keys, distinct);
+    }
+}
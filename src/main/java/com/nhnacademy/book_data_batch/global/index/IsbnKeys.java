@@ -0,0 +1,59 @@
+package com.nhnacademy.book_data_batch.global.index;
+
+/**
+ * <pre>
+ * IsbnKeys
+ * - ISBN-13 문자열 ↔ long 키 변환 (13자리 숫자는 long 범위에 들어감)
+ * - 13자리 숫자가 아니면 INVALID (-1) → 호출 측에서 문자열 경로로 처리
+ * </pre>
+ */
+public final class IsbnKeys {
+
+    public static final long INVALID = -1L;
+
+    private static final int ISBN13_LENGTH = 13;
+
+    private IsbnKeys() {
+    }
+
+    /**
+     * ISBN-13 → long 키 (앞뒤 공백 허용)
+     */
+    public static long toKey(String isbn13) {
+        if (isbn13 == null) {
+            return INVALID;
+        }
+
+        int start = 0;
+        int end = isbn13.length();
+        while (start < end && isbn13.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && isbn13.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start != ISBN13_LENGTH) {
+            return INVALID;
+        }
+
+        long key = 0;
+        for (int i = start; i < end; i++) {
+            char c = isbn13.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    /**
+     * long 키 → ISBN-13 (13자리 0 채움)
+     */
+    public static String toIsbn(long key) {
+        String digits = Long.toString(key);
+        return digits.length() >= ISBN13_LENGTH
+                ? digits
+                : "0".repeat(ISBN13_LENGTH - digits.length()) + digits;
+    }
+}
@@ -0,0 +1,55 @@
+package com.nhnacademy.book_data_batch.global.util;
+
+/**
+ * <pre>
+ * ContentFingerprint
+ * - 정규화된 필드 값들로 64비트 FNV-1a 지문 계산
+ * - 필드 사이에 구분 바이트를 넣어 ("ab", "c")와 ("a", "bc")를 구분, null과 빈 문자열도 구분
+ *
+ * 사용 예) long fp = ContentFingerprint.start().add(isbn).add(title).add(price).value();
+ * </pre>
+ */
+public final class ContentFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final int FIELD_SEPARATOR = 0x1F;
+    private static final int NULL_MARKER = 0x00;
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    private ContentFingerprint() {
+    }
+
+    public static ContentFingerprint start() {
+        return new ContentFingerprint();
+    }
+
+    public ContentFingerprint add(String value) {
+        if (value == null) {
+            mix(NULL_MARKER);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                mix(c & 0xFF);
+                mix(c >>> 8);
+            }
+        }
+        mix(FIELD_SEPARATOR);
+        return this;
+    }
+
+    public ContentFingerprint add(Object value) {
+        return add(value != null ? value.toString() : null);
+    }
+
+    public long value() {
+        return hash;
+    }
+
+    private void mix(int b) {
+        hash ^= b;
+        hash *= FNV_PRIME;
+    }
+}
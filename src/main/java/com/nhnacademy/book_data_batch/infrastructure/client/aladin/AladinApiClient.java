@@ -2,28 +2,35 @@ package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
 
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.exception.AladinApiException;
 import com.nhnacademy.book_data_batch.jobs.aladin.exception.RateLimitExceededException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Optional;
 
+/**
+ * <pre>
+ * Aladin Open API 클라이언트
+ * - 응답 본문은 AladinResponseParser로 스트리밍 디코딩 (필요한 필드만, 긴 텍스트는 잘라서)
+ * </pre>
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AladinApiClient {
 
     private static final String LIST_URL = "http://www.aladin.co.kr/ttb/api/ItemList.aspx";
     private static final String QUERY_TYPE = "ItemNewAll";
     private static final String SEARCH_TARGET = "Book";
     private static final String MAX_RESULTS = "50"; // 아니 최대값은 100이라면서 왜 50만 줌??
-    private static final String CATEGORY_ID =
+    public static final String CATEGORY_ID =
             // "437"; // 프로그래밍 언어
             // "2719"; // 컴퓨터 공학
             // "7396"; // 프로그래밍 개발/방법론
@@ -37,25 +44,39 @@ public class AladinApiClient {
     private static final String OUT_OF_STOCK_FILTER = "1";
 
     private final RestClient restClient;
+    private final AladinResponseParser responseParser;
+
+    public AladinApiClient(@Qualifier("aladinRestClient") RestClient restClient, AladinResponseParser responseParser) {
+        this.restClient = restClient;
+        this.responseParser = responseParser;
+    }
 
     /**
      * 도서 목록 조회 (신간 넣기 용도)
      *
      * @param start  조회 시작 위치
      * @param apiKey 사용할 Aladin API 키
-     * @return 조회된 도서 목록 응답 (없으면 빈 Optional)
+     * @return 조회된 도서 목록 응답 (응답/결과가 없거나 네트워크 오류면 빈 Optional)
+     * @throws RateLimitExceededException 일일 쿼터 초과 응답 (호출 측에서 다른 키로 재시도)
+     * @throws AladinApiException         그 밖의 에러 응답
      */
     public Optional<AladinResponseDto> listItems(int start, String apiKey) {
         String url = buildListUrl(start, apiKey);
 
         try {
-            AladinResponseDto response = restClient
-                    .get()
-                    .uri(url)
-                    .retrieve()
-                    .body(AladinResponseDto.class);
+            AladinResponseDto response = fetch(url);
+
+            if (response != null && response.hasError()) {
+                if (response.isQuotaExceeded()) {
+                    log.warn("[Aladin API] 쿼터 초과: start={}, error={}", start, response.errorMessage());
+                    throw new RateLimitExceededException(apiKey, response.errorCode(),
+                            "[Aladin API] 일일 쿼터 초과: " + response.errorMessage());
+                }
+                throw new AladinApiException(response.errorCode(),
+                        "[Aladin API] API 에러: start=" + start + ", code=" + response.errorCode() + ", msg=" + response.errorMessage());
+            }
 
-            if (response == null || response.hasError() || response.item() == null) {
+            if (response == null || response.item() == null) {
                 log.debug("[Aladin API] 목록 조회 실패 또는 결과 없음: start={}", start);
                 return Optional.empty();
             }
@@ -73,7 +94,9 @@ public class AladinApiClient {
      *
      * @param isbn13 조회할 도서의 ISBN13
      * @param apiKey 사용할 Aladin API 키
-     * @return 조회된 도서 정보 (없으면 빈 Optional)
+     * @return 조회된 도서 정보 (item 목록이 비어 있을 때만 빈 Optional)
+     * @throws RateLimitExceededException 일일 쿼터 초과 응답
+     * @throws AladinApiException         그 밖의 에러 응답 또는 빈 응답 (결과 없음으로 보지 않음)
      */
     @Retryable(
             retryFor = {RestClientException.class},
@@ -83,15 +106,10 @@ public class AladinApiClient {
     public Optional<AladinItemDto> lookupByIsbn(String isbn13, String apiKey) {
         String url = buildLookUpUrl(isbn13, apiKey);
 
-        AladinResponseDto response = restClient
-                .get()
-                .uri(url)
-                .retrieve()
-                .body(AladinResponseDto.class);
+        AladinResponseDto response = fetch(url);
 
         if (response == null) {
-            log.debug("[Aladin API] 응답 없음: ISBN={}", isbn13);
-            return Optional.empty();
+            throw new AladinApiException(null, "[Aladin API] 응답 없음: ISBN=" + isbn13);
         }
 
         // 에러 응답 체크 (200 OK로 에러가 오는 경우)
@@ -102,9 +120,8 @@ public class AladinApiClient {
                 throw new RateLimitExceededException(apiKey, response.errorCode(),
                         "[Aladin API] 일일 쿼터 초과: " + response.errorMessage());
             }
-            log.debug("[Aladin API] API 에러: ISBN={}, code={}, msg={}",
-                    isbn13, response.errorCode(), response.errorMessage());
-            return Optional.empty();
+            throw new AladinApiException(response.errorCode(),
+                    "[Aladin API] API 에러: ISBN=" + isbn13 + ", code=" + response.errorCode() + ", msg=" + response.errorMessage());
         }
 
         if (response.item() == null || response.item().isEmpty()) {
@@ -115,6 +132,24 @@ public class AladinApiClient {
         return Optional.of(response.item().getFirst());
     }
 
+    /**
+     * GET 호출 후 응답 스트림을 바로 디코딩 (본문 전체를 버퍼링/바인딩하지 않음)
+     * - HTTP 오류 상태는 RestClientResponseException, 디코딩 실패는 ResourceAccessException (둘 다 RestClientException)
+     */
+    private AladinResponseDto fetch(String url) {
+        return restClient
+                .get()
+                .uri(url)
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new RestClientResponseException(
+                                "[Aladin API] HTTP " + response.getStatusCode().value(),
+                                response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null);
+                    }
+                    return responseParser.parse(response.getBody());
+                });
+    }
+
     private String buildListUrl(int start, String apiKey) {
         return UriComponentsBuilder.fromUriString(LIST_URL)
                 .queryParam("ttbkey", apiKey)
@@ -0,0 +1,315 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ * Aladin API 키 스케줄러 (Reader/Processor 공용)
+ * - 키마다 토큰 버킷 (초당 rate-per-key, 최대 burst-per-key) → 한 키로 호출이 몰리지 않음
+ * - 남은 예산이 가장 많은 키 → 진행 중 호출이 가장 적은 키 순으로 선택
+ * - 선택한 키의 일일 쿼터는 AladinQuotaTracker에서 차감, 다 쓴 키는 당일 제외
+ * - 일일 쿼터 초과 응답(에러 코드 10)을 받은 키는 exhaust()로 당일 제외
+ * - 그 밖의 속도 제한 응답은 해당 키만 쿨다운 (연속이면 2배, 상한 max-cooldown)
+ * - 모든 키가 소진됐을 때만 빈 값 → 호출 측에서 전체 소진 처리
+ *
+ * 사용: try (Permit permit = scheduler.acquire().orElse(null)) { ... permit.apiKey() ... }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AladinKeyScheduler {
+
+    private final AladinQuotaTracker quotaTracker;
+    private final List<KeyState> keys;
+    private final long cooldownNanos;
+    private final long maxCooldownNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public AladinKeyScheduler(
+            AladinQuotaTracker quotaTracker,
+            @Value("${aladin.api.keys}") List<String> apiKeys,
+            @Value("${aladin.api.rate-per-key:5}") double ratePerKey,
+            @Value("${aladin.api.burst-per-key:5}") int burstPerKey,
+            @Value("${aladin.api.key-cooldown-ms:60000}") long cooldownMs,
+            @Value("${aladin.api.key-max-cooldown-ms:3600000}") long maxCooldownMs
+    ) {
+        this(quotaTracker, apiKeys, ratePerKey, burstPerKey, cooldownMs, maxCooldownMs, System::nanoTime);
+    }
+
+    AladinKeyScheduler(
+            AladinQuotaTracker quotaTracker,
+            List<String> apiKeys,
+            double ratePerKey,
+            int burstPerKey,
+            long cooldownMs,
+            long maxCooldownMs,
+            LongSupplier nanoClock
+    ) {
+        if (apiKeys == null || apiKeys.isEmpty()) {
+            throw new IllegalStateException("Aladin API 키 목록이 비어 있습니다.");
+        }
+        this.quotaTracker = quotaTracker;
+        this.cooldownNanos = TimeUnit.MILLISECONDS.toNanos(cooldownMs);
+        this.maxCooldownNanos = TimeUnit.MILLISECONDS.toNanos(maxCooldownMs);
+        this.nanoClock = nanoClock;
+
+        long now = nanoClock.getAsLong();
+        List<KeyState> states = new ArrayList<>(apiKeys.size());
+        for (String apiKey : apiKeys) {
+            states.add(new KeyState(apiKey, ratePerKey, burstPerKey, now));
+        }
+        this.keys = List.copyOf(states);
+    }
+
+    /**
+     * 호출에 쓸 키 선택 + 쿼터 차감 + 토큰 대기
+     * - 쓸 수 있는 키가 모두 쿨다운 중이면 가장 먼저 풀리는 시각까지 대기
+     *
+     * @return 사용 허가 (close()로 반환), 모든 키의 일일 쿼터가 소진됐으면 빈 값
+     */
+    public Optional<Permit> acquire() throws InterruptedException {
+        while (true) {
+            KeyState selected;
+            long waitNanos;
+            synchronized (this) {
+                long now = nanoClock.getAsLong();
+                selected = select(now);
+                if (selected == null) {
+                    long earliest = earliestCooldownEnd();
+                    if (earliest == Long.MAX_VALUE) {
+                        return Optional.empty();
+                    }
+                    waitNanos = Math.max(earliest - now, 0);
+                } else {
+                    waitNanos = 0;
+                    selected.inFlight++;
+                    selected.used++;
+                }
+            }
+            if (selected == null) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+                continue;
+            }
+
+            // 쿼터 차감 (Redis 블록) - 다 쓴 키는 당일 제외하고 다른 키로 재시도
+            if (!quotaTracker.tryAcquire(selected.apiKey)) {
+                synchronized (this) {
+                    selected.inFlight--;
+                    selected.used--;
+                    selected.exhausted = true;
+                }
+                log.info("[AladinKeyScheduler] 키 일일 쿼터 소진 - {}", mask(selected.apiKey));
+                continue;
+            }
+
+            try {
+                selected.takeToken(nanoClock);
+            } catch (InterruptedException e) {
+                release(selected);
+                throw e;
+            }
+            return Optional.of(new Permit(this, selected));
+        }
+    }
+
+    /**
+     * 일일 쿼터 초과 응답을 받은 키를 당일 제외 (쿨다운으로는 풀리지 않으므로 대기하지 않음)
+     * - 남은 키가 모두 소진되면 acquire()는 빈 값
+     */
+    public synchronized void exhaust(String apiKey) {
+        for (KeyState state : keys) {
+            if (state.apiKey.equals(apiKey)) {
+                if (!state.exhausted) {
+                    state.exhausted = true;
+                    log.warn("[AladinKeyScheduler] 키 일일 쿼터 초과 응답 → 당일 제외 - {}", mask(apiKey));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 속도 제한 응답을 받은 키만 쿨다운 (다른 키는 계속 사용)
+     */
+    public synchronized void cooldown(String apiKey) {
+        for (KeyState state : keys) {
+            if (state.apiKey.equals(apiKey)) {
+                long now = nanoClock.getAsLong();
+                if (state.cooldownUntil - now > 0) {
+                    return;  // 이미 쿨다운 중 (동시에 진행되던 호출의 실패) → 배수 증가 없음
+                }
+                long duration = state.nextCooldownNanos == 0 ? cooldownNanos : state.nextCooldownNanos;
+                state.cooldownUntil = now + duration;
+                state.nextCooldownNanos = Math.min(duration * 2, maxCooldownNanos);
+                log.warn("[AladinKeyScheduler] 키 쿨다운 {}ms - {}",
+                        TimeUnit.NANOSECONDS.toMillis(duration), mask(apiKey));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 모든 키의 일일 쿼터가 소진됐는지 (쿨다운 중인 키는 아직 사용 가능으로 봄)
+     */
+    public synchronized boolean isExhausted() {
+        for (KeyState state : keys) {
+            if (!state.exhausted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Job 시작 시 호출 - 소진/쿨다운 표시와 선택용 사용량 초기화 (실제 일일 사용량은 AladinQuotaTracker가 관리)
+     */
+    public synchronized void reset() {
+        for (KeyState state : keys) {
+            state.used = 0;
+            state.exhausted = false;
+            state.cooldownUntil = 0;
+            state.nextCooldownNanos = 0;
+        }
+    }
+
+    synchronized int inFlight(String apiKey) {
+        for (KeyState state : keys) {
+            if (state.apiKey.equals(apiKey)) {
+                return state.inFlight;
+            }
+        }
+        return 0;
+    }
+
+    // 남은 예산 많은 순 → 진행 중 호출 적은 순
+    private KeyState select(long now) {
+        KeyState best = null;
+        for (KeyState state : keys) {
+            if (state.exhausted || state.cooldownUntil - now > 0) {
+                continue;
+            }
+            if (best == null
+                    || state.remainingBudget() > best.remainingBudget()
+                    || (state.remainingBudget() == best.remainingBudget() && state.inFlight < best.inFlight)) {
+                best = state;
+            }
+        }
+        return best;
+    }
+
+    private long earliestCooldownEnd() {
+        long earliest = Long.MAX_VALUE;
+        for (KeyState state : keys) {
+            if (!state.exhausted && state.cooldownUntil < earliest) {
+                earliest = state.cooldownUntil;
+            }
+        }
+        return earliest;
+    }
+
+    private synchronized void release(KeyState state) {
+        state.inFlight--;
+    }
+
+    private synchronized void succeeded(KeyState state) {
+        state.nextCooldownNanos = 0;
+    }
+
+    private static String mask(String apiKey) {
+        return apiKey.length() <= 4 ? "****" : apiKey.substring(0, 4) + "****";
+    }
+
+    /**
+     * 키 사용 허가 - 호출이 끝나면 close() (진행 중 호출 수 반환)
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final AladinKeyScheduler scheduler;
+        private final KeyState state;
+        private boolean closed;
+
+        private Permit(AladinKeyScheduler scheduler, KeyState state) {
+            this.scheduler = scheduler;
+            this.state = state;
+        }
+
+        public String apiKey() {
+            return state.apiKey;
+        }
+
+        /**
+         * 호출 성공 → 연속 쿨다운 배수 초기화
+         */
+        public void succeeded() {
+            scheduler.succeeded(state);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                scheduler.release(state);
+            }
+        }
+    }
+
+    private final class KeyState {
+
+        private final String apiKey;
+        private final double tokensPerNano;
+        private final double capacity;
+
+        // 아래는 AladinKeyScheduler 모니터로 보호
+        private int inFlight;
+        private int used;               // 이 노드가 이번 Job에서 차감한 쿼터 (키 선택용)
+        private boolean exhausted;
+        private long cooldownUntil;
+        private long nextCooldownNanos;
+
+        // 토큰 버킷은 키 모니터로 보호
+        private double tokens;
+        private long refilledAt;
+
+        private KeyState(String apiKey, double ratePerSecond, int burst, long now) {
+            this.apiKey = apiKey;
+            this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private int remainingBudget() {
+            return quotaTracker.getQuotaPerKey() - used;
+        }
+
+        private void takeToken(LongSupplier clock) throws InterruptedException {
+            if (tokensPerNano <= 0) {
+                return;  // rate-per-key <= 0 → 속도 제한 없음
+            }
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    long now = clock.getAsLong();
+                    tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                    refilledAt = now;
+                    if (tokens >= 1) {
+                        tokens -= 1;
+                        return;
+                    }
+                    waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                }
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <pre>
+ * Aladin ISBN 조회 결과 캐시 (Redis, aladin:lookup:{isbn13})
+ * - 조회 결과 JSON을 gzip + Base64로 저장, TTL 후 만료
+ * - 알라딘에 없는 ISBN(item 목록이 빈 정상 응답)도 짧은 TTL(negative-ttl)로 저장 → 재시도/재보강 때 쿼터를 쓰지 않음
+ * - 에러 응답은 loader가 예외(AladinApiException 등)로 던짐 → 저장하지 않음 (일시 오류가 24시간 "없음"으로 남지 않도록)
+ * - 같은 ISBN 동시 조회는 한 번만 호출하고 나머지는 그 결과를 기다림
+ * - Redis 장애 시 캐시 없이 호출 (Job은 계속)
+ *
+ * 사용: cache.lookup(isbn13, () -> 키 확보 + aladinApiClient.lookupByIsbn(...))
+ *      → 캐시에 있으면 loader(쿼터 차감 포함)를 실행하지 않음
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AladinLookupCache {
+
+    private static final String KEY_PREFIX = "aladin:lookup:";
+    private static final String NOT_FOUND = "-";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    private final Map<String, CompletableFuture<Optional<AladinItemDto>>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AladinLookupCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${aladin.lookup-cache.enabled:true}") boolean enabled,
+            @Value("${aladin.lookup-cache.ttl-days:30}") long ttlDays,
+            @Value("${aladin.lookup-cache.negative-ttl-hours:24}") long negativeTtlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
+    }
+
+    /**
+     * 호출 함수 (키 확보 + API 호출)
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Optional<AladinItemDto> load() throws Exception;
+    }
+
+    /**
+     * 캐시 → 진행 중인 같은 ISBN 조회 → loader 순으로 조회
+     * - loader 결과는 캐시에 저장, 예외는 저장하지 않고 기다리던 호출에도 그대로 전달
+     *
+     * @param isbn13 조회할 ISBN13
+     * @param loader 캐시에 없을 때 실행할 호출
+     * @return 조회된 도서 정보 (알라딘에 없으면 빈 Optional)
+     */
+    public Optional<AladinItemDto> lookup(String isbn13, Loader loader) throws Exception {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        Optional<Optional<AladinItemDto>> cached = get(isbn13);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<Optional<AladinItemDto>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<AladinItemDto>> running = inFlight.putIfAbsent(isbn13, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            Optional<AladinItemDto> result = loader.load();
+            put(isbn13, result);
+            mine.complete(result);
+            return result;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(isbn13, mine);
+        }
+    }
+
+    // 바깥 Optional = 캐시 적중 여부, 안쪽 Optional = 알라딘 조회 결과
+    Optional<Optional<AladinItemDto>> get(String isbn13) {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + isbn13);
+        } catch (DataAccessException e) {
+            log.warn("[AladinLookupCache] 캐시 조회 실패, 직접 호출 - {}", e.getMessage());
+            return Optional.empty();
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (NOT_FOUND.equals(value)) {
+            return Optional.of(Optional.empty());
+        }
+
+        try {
+            return Optional.of(Optional.of(OBJECT_MAPPER.readValue(decompress(value), AladinItemDto.class)));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("[AladinLookupCache] 캐시 값 해석 실패, 직접 호출 - ISBN: {}, {}", isbn13, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void put(String isbn13, Optional<AladinItemDto> result) {
+        try {
+            if (result.isPresent()) {
+                String value = compress(OBJECT_MAPPER.writeValueAsBytes(result.get()));
+                redisTemplate.opsForValue().set(KEY_PREFIX + isbn13, value, ttl);
+            } else {
+                redisTemplate.opsForValue().set(KEY_PREFIX + isbn13, NOT_FOUND, negativeTtl);
+            }
+        } catch (DataAccessException | IOException e) {
+            log.warn("[AladinLookupCache] 캐시 저장 실패 - ISBN: {}, {}", isbn13, e.getMessage());
+        }
+    }
+
+    private static Optional<AladinItemDto> await(CompletableFuture<Optional<AladinItemDto>> running) throws Exception {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String compress(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private static byte[] decompress(String value) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
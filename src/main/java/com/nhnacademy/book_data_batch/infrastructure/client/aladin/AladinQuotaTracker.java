@@ -1,31 +1,96 @@
 package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
 
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean; // Import AtomicBoolean
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * API 쿼터 추적기
+ * <pre>
+ * API 쿼터 추적기 (Redis 공유)
+ * - 키별 일일 사용량을 Redis 버킷(aladin:quota:{날짜}:{키 해시})에 기록 → 여러 실행/인스턴스가 같은 쿼터를 나눠 씀
+ * - 버킷은 알라딘 쿼터 초기화 시각(reset-zone 자정)에 만료
+ * - 노드는 lease-size만큼 블록으로 미리 받아 로컬에서 차감 (호출마다 Redis 왕복 없음)
+ * - 쓰지 않은 블록은 Job 종료/애플리케이션 종료 시 반납
+ * - Redis 장애 시 노드 로컬 카운트로 대체 (이 경우 노드별로 키당 쿼터까지 사용 가능)
+ * </pre>
  */
 @Slf4j
 @Component
 public class AladinQuotaTracker {
 
-    private final Map<String, AtomicInteger> usageMap = new ConcurrentHashMap<>();
+    private static final String KEY_PREFIX = "aladin:quota:";
+    private static final DateTimeFormatter BUCKET_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // KEYS[1]=버킷, ARGV[1]=키당 쿼터, ARGV[2]=요청 블록, ARGV[3]=만료 시각(epoch sec) → 받은 개수
+    static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local grant = math.min(tonumber(ARGV[2]), tonumber(ARGV[1]) - used)
+            if grant <= 0 then
+                return 0
+            end
+            redis.call('INCRBY', KEYS[1], grant)
+            redis.call('EXPIREAT', KEYS[1], ARGV[3])
+            return grant
+            """, Long.class);
+
+    // KEYS[1]=버킷, ARGV[1]=반납 개수 → 실제 반납 개수 (버킷이 이미 만료됐으면 0)
+    static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local back = math.min(tonumber(ARGV[1]), used)
+            if back > 0 then
+                redis.call('DECRBY', KEYS[1], back)
+            end
+            return back
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int leaseSize;
+    private final ZoneId resetZone;
+    private final Clock clock;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     private final AtomicBoolean quotaExhausted = new AtomicBoolean(false); // Global flag
 
     @Getter
     private final int quotaPerKey;
 
-    public AladinQuotaTracker(@Value("${aladin.api.quota-per-key}") int quotaPerKey) {
+    @Autowired
+    public AladinQuotaTracker(
+            StringRedisTemplate redisTemplate,
+            @Value("${aladin.api.quota-per-key}") int quotaPerKey,
+            @Value("${aladin.api.quota-lease-size:5}") int leaseSize,
+            @Value("${aladin.api.quota-reset-zone:Asia/Seoul}") String resetZone
+    ) {
+        this(redisTemplate, quotaPerKey, leaseSize, ZoneId.of(resetZone), Clock.systemUTC());
+    }
+
+    AladinQuotaTracker(StringRedisTemplate redisTemplate, int quotaPerKey, int leaseSize, ZoneId resetZone, Clock clock) {
+        this.redisTemplate = redisTemplate;
         this.quotaPerKey = quotaPerKey;
-        log.info("[AladinQuotaTracker] 초기화 - 키당 쿼터: {}", quotaPerKey);
+        this.leaseSize = Math.max(1, Math.min(leaseSize, quotaPerKey));
+        this.resetZone = resetZone;
+        this.clock = clock;
+        log.info("[AladinQuotaTracker] 초기화 - 키당 쿼터: {}, 블록: {}, 초기화 기준: {}", quotaPerKey, this.leaseSize, resetZone);
     }
 
     /**
@@ -46,22 +111,116 @@ public class AladinQuotaTracker {
 
     /**
      * API 키 사용 시도
-     * - 사용 성공 시 사용량 1 증가
+     * - 로컬 블록에 남은 게 있으면 차감, 없으면 Redis에서 새 블록을 받음
+     * - 날짜가 바뀌면 이전 블록은 버리고 새 버킷에서 받음
      *
      * @param apiKey API 키
      * @return 사용 성공하면 true
      */
     public boolean tryAcquire(String apiKey) {
-        return usageMap.computeIfAbsent(apiKey, k -> new AtomicInteger(0))
-                .getAndUpdate(current -> current < quotaPerKey ? current + 1 : current) < quotaPerKey;
+        Lease lease = leases.computeIfAbsent(apiKey, key -> new Lease(hash(key)));
+        String bucket = bucketKey(lease.keyHash);
+
+        synchronized (lease) {
+            if (!bucket.equals(lease.bucket)) {
+                lease.bucket = bucket;
+                lease.remaining = 0;
+                lease.localUsed = 0;
+            }
+            if (lease.remaining > 0) {
+                lease.remaining--;
+                return true;
+            }
+
+            int granted = leaseBlock(lease);
+            if (granted <= 0) {
+                return false;
+            }
+            lease.remaining = granted - 1;
+            return true;
+        }
     }
 
     /**
-     * 쿼터 초기화 (Job 시작 시 호출)
+     * Job 시작 시 호출 - 소진 플래그만 초기화 (사용량은 Redis 버킷이 날짜 단위로 관리)
      */
     public void reset() {
-        usageMap.clear();
         quotaExhausted.set(false); // Reset global flag
-        log.info("[AladinQuotaTracker] 쿼터 초기화 완료");
+        log.info("[AladinQuotaTracker] 소진 플래그 초기화");
+    }
+
+    /**
+     * 쓰지 않은 블록을 Redis에 반납 (Job 종료 시, 애플리케이션 종료 시)
+     */
+    @PreDestroy
+    public void releaseLeases() {
+        int released = 0;
+        for (Lease lease : leases.values()) {
+            synchronized (lease) {
+                if (lease.remaining <= 0 || lease.bucket == null || lease.local) {
+                    continue;
+                }
+                try {
+                    Long back = redisTemplate.execute(RELEASE_SCRIPT, List.of(lease.bucket),
+                            String.valueOf(lease.remaining));
+                    released += back != null ? back.intValue() : 0;
+                } catch (DataAccessException e) {
+                    log.warn("[AladinQuotaTracker] 블록 반납 실패 - {}", e.getMessage());
+                }
+                lease.remaining = 0;
+            }
+        }
+        if (released > 0) {
+            log.info("[AladinQuotaTracker] 미사용 쿼터 {}건 반납", released);
+        }
+    }
+
+    private int leaseBlock(Lease lease) {
+        try {
+            Long granted = redisTemplate.execute(LEASE_SCRIPT, List.of(lease.bucket),
+                    String.valueOf(quotaPerKey), String.valueOf(leaseSize), String.valueOf(nextResetEpochSecond()));
+            lease.local = false;
+            return granted != null ? granted.intValue() : 0;
+        } catch (DataAccessException e) {
+            // Redis 장애: 노드 로컬 카운트로 대체 (공유는 안 되지만 Job은 계속)
+            log.warn("[AladinQuotaTracker] Redis 쿼터 조회 실패, 로컬 카운트 사용 - {}", e.getMessage());
+            lease.local = true;
+            int granted = Math.min(leaseSize, quotaPerKey - lease.localUsed);
+            if (granted <= 0) {
+                return 0;
+            }
+            lease.localUsed += granted;
+            return granted;
+        }
+    }
+
+    private String bucketKey(String keyHash) {
+        return KEY_PREFIX + LocalDate.now(clock.withZone(resetZone)).format(BUCKET_DATE) + ":" + keyHash;
+    }
+
+    private long nextResetEpochSecond() {
+        return LocalDate.now(clock.withZone(resetZone)).plusDays(1).atStartOfDay(resetZone).toEpochSecond();
+    }
+
+    // Redis 키에 API 키 원문을 남기지 않음
+    private static String hash(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Lease {
+        private final String keyHash;
+        private String bucket;
+        private int remaining;
+        private int localUsed;
+        private boolean local;
+
+        private Lease(String keyHash) {
+            this.keyHash = keyHash;
+        }
     }
 }
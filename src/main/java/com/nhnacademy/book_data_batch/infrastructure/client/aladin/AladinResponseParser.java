@@ -0,0 +1,219 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinBookInfoDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinBookInfoDto.AladinBookAuthorDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Aladin 응답 스트리밍 디코더 (Jackson JsonParser)
+ * - 응답 본문을 트리/바인딩 없이 토큰 단위로 읽고, 매퍼/Processor가 쓰는 필드만 추출
+ * - 나머지 필드(subInfo, 저자 소개 등)는 skipChildren()으로 문자열을 만들지 않고 건너뜀
+ * - 긴 텍스트는 파서 버퍼에서 바로 잘라서 생성 (원문 전체 String을 만들지 않음)
+ *   · 제목/부제 500자 (컬럼 길이), 설명/목차 20,000자 (TEXT 65,535 bytes / UTF-8 3 bytes)
+ * </pre>
+ */
+@Component
+public class AladinResponseParser {
+
+    static final int MAX_TITLE_LENGTH = 500;
+    static final int MAX_TEXT_LENGTH = 20_000;
+    static final int MAX_FIELD_LENGTH = 1_000;
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    /**
+     * 응답 본문 → AladinResponseDto (스트림은 호출 측에서 닫음)
+     *
+     * @param body 응답 본문
+     * @return 디코딩된 응답, 본문이 비어 있으면 null
+     */
+    public AladinResponseDto parse(InputStream body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            return readResponse(parser);
+        }
+    }
+
+    private AladinResponseDto readResponse(JsonParser parser) throws IOException {
+        Integer totalResults = null;
+        Integer startIndex = null;
+        Integer itemsPerPage = null;
+        List<AladinItemDto> items = null;
+        Integer errorCode = null;
+        String errorMessage = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "totalResults" -> totalResults = readInt(parser);
+                case "startIndex" -> startIndex = readInt(parser);
+                case "itemsPerPage" -> itemsPerPage = readInt(parser);
+                case "item" -> items = readItems(parser);
+                case "errorCode" -> errorCode = readInt(parser);
+                case "errorMessage" -> errorMessage = readText(parser, MAX_FIELD_LENGTH);
+                default -> parser.skipChildren();
+            }
+        }
+        return new AladinResponseDto(totalResults, startIndex, itemsPerPage, items, errorCode, errorMessage);
+    }
+
+    private List<AladinItemDto> readItems(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<AladinItemDto> items = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                items.add(readItem(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    private AladinItemDto readItem(JsonParser parser) throws IOException {
+        String title = null;
+        String author = null;
+        String pubDate = null;
+        String description = null;
+        String isbn = null;
+        String isbn13 = null;
+        Integer priceStandard = null;
+        String cover = null;
+        String categoryName = null;
+        String publisher = null;
+        AladinBookInfoDto bookinfo = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title" -> title = readText(parser, MAX_TITLE_LENGTH);
+                case "author" -> author = readText(parser, MAX_FIELD_LENGTH);
+                case "pubDate" -> pubDate = readText(parser, MAX_FIELD_LENGTH);
+                case "description" -> description = readText(parser, MAX_TEXT_LENGTH);
+                case "isbn" -> isbn = readText(parser, MAX_FIELD_LENGTH);
+                case "isbn13" -> isbn13 = readText(parser, MAX_FIELD_LENGTH);
+                case "priceStandard" -> priceStandard = readInt(parser);
+                case "cover" -> cover = readText(parser, MAX_FIELD_LENGTH);
+                case "categoryName" -> categoryName = readText(parser, MAX_FIELD_LENGTH);
+                case "publisher" -> publisher = readText(parser, MAX_FIELD_LENGTH);
+                case "bookinfo" -> bookinfo = readBookInfo(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new AladinItemDto(title, author, pubDate, description, isbn, isbn13,
+                priceStandard, cover, categoryName, publisher, bookinfo);
+    }
+
+    private AladinBookInfoDto readBookInfo(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String subTitle = null;
+        Integer itemPage = null;
+        String toc = null;
+        List<AladinBookAuthorDto> authors = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "subTitle" -> subTitle = readText(parser, MAX_TITLE_LENGTH);
+                case "itemPage" -> itemPage = readInt(parser);
+                case "toc" -> toc = readText(parser, MAX_TEXT_LENGTH);
+                case "authors" -> authors = readAuthors(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new AladinBookInfoDto(subTitle, itemPage, toc, authors);
+    }
+
+    private List<AladinBookAuthorDto> readAuthors(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<AladinBookAuthorDto> authors = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String name = null;
+            String desc = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> name = readText(parser, MAX_FIELD_LENGTH);
+                    case "desc" -> desc = readText(parser, MAX_FIELD_LENGTH);
+                    default -> parser.skipChildren();  // authorInfo(저자 소개) 등
+                }
+            }
+            authors.add(new AladinBookAuthorDto(name, desc));
+        }
+        return authors;
+    }
+
+    // 숫자/숫자 문자열 → Integer, 그 외는 null
+    private static Integer readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.valueOf(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    // 파서 버퍼에서 앞뒤 공백을 뺀 최대 maxLength자만 String으로 생성
+    private static String readText(JsonParser parser, int maxLength) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+
+        char[] chars = parser.getTextCharacters();
+        int start = parser.getTextOffset();
+        int end = start + parser.getTextLength();
+        while (start < end && Character.isWhitespace(chars[start])) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(chars[end - 1])) {
+            end--;
+        }
+        int length = Math.min(end - start, maxLength);
+        if (length < end - start && Character.isHighSurrogate(chars[start + length - 1])) {
+            length--;  // 서로게이트 쌍 중간에서 자르지 않음
+        }
+        return new String(chars, start, length);
+    }
+}
@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.infrastructure.client.ollama;
 
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -24,7 +25,7 @@ public class OllamaClient {
     private final String model;
 
     public OllamaClient(
-            RestClient restClient,
+            @Qualifier("ollamaRestClient") RestClient restClient,
             @Value("${ollama.api.url}") String ollamaUrl,
             @Value("${ollama.model:bge-m3}") String model
     ) {
@@ -0,0 +1,319 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.temporal.Temporal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * AdaptiveBatchSizer
+ * - JdbcExecutor 기본 배치 사이즈(1000) 대신 SQL별로 서브 배치 크기를 조정
+ * - 행 크기 상한: 앞쪽 몇 행의 바인딩 값을 직렬화 크기로 추정 → packet-budget-bytes / 행 크기
+ *   (rewriteBatchedStatements=true면 배치 전체가 한 패킷 → max_allowed_packet 초과 방지)
+ * - 처리량 조정: 직전 배치보다 rows/sec가 떨어지면 방향을 바꾸는 언덕 오르기 (min ~ max 범위)
+ * - 선택된 크기는 jdbc.batch.size{statement=테이블} 게이지로 노출
+ * - 기본 비활성 (batch.jdbc.adaptive.enabled=true일 때만), 꺼져 있거나 빈이 없으면 JdbcExecutor는 고정 크기 사용
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AdaptiveBatchSizer {
+
+    private static final int SAMPLE_ROWS = 32;
+    private static final int RESAMPLE_INTERVAL = 16;       // 배치 16번마다 행 크기 다시 추정
+    private static final double STEP_FACTOR = 1.25;
+    private static final double TOLERANCE = 0.05;          // 5% 이내 변동은 개선으로 간주
+    private static final double BYTES_SMOOTHING = 0.3;
+    private static final int PARAMETER_OVERHEAD_BYTES = 4; // 따옴표, 쉼표, 이스케이프 여유
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<String, SqlState> states = new ConcurrentHashMap<>();
+
+    @Value("${batch.jdbc.adaptive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batch.jdbc.adaptive.initial-batch-size:1000}")
+    private int initialBatchSize = 1000;
+
+    @Value("${batch.jdbc.adaptive.min-batch-size:100}")
+    private int minBatchSize = 100;
+
+    @Value("${batch.jdbc.adaptive.max-batch-size:20000}")
+    private int maxBatchSize = 20_000;
+
+    // 한 배치(재작성된 multi-row INSERT)가 넘지 않을 바이트 수 (max_allowed_packet보다 작게)
+    @Value("${batch.jdbc.adaptive.packet-budget-bytes:4194304}")
+    private long packetBudgetBytes = 4L * 1024 * 1024;
+
+    public AdaptiveBatchSizer(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * items[from..]부터 실행할 서브 배치 크기
+     */
+    public <T> int nextBatchSize(
+            String sql,
+            List<T> items,
+            int from,
+            JdbcExecutor.PreparedStatementSetter<T> setter
+    ) {
+        SqlState state = states.computeIfAbsent(sql, this::newState);
+        synchronized (state) {
+            if (state.rowBytes <= 0 || state.batches % RESAMPLE_INTERVAL == 0) {
+                long sampled = estimateRowBytes(items, from, setter);
+                if (sampled > 0) {
+                    state.rowBytes = state.rowBytes <= 0
+                            ? sampled
+                            : (long) (state.rowBytes * (1 - BYTES_SMOOTHING) + sampled * BYTES_SMOOTHING);
+                }
+            }
+            state.batches++;
+            return clamp(state.size, state.rowBytes);
+        }
+    }
+
+    /**
+     * 실행 결과 기록 → 다음 배치 크기 조정
+     *
+     * @param rows 실행한 행 수
+     * @param elapsedNanos 실행 시간
+     */
+    public void record(String sql, int rows, long elapsedNanos) {
+        SqlState state = states.get(sql);
+        if (state == null || rows <= 0 || elapsedNanos <= 0) {
+            return;
+        }
+        synchronized (state) {
+            // 마지막 자투리 배치는 처리량 비교에서 제외
+            if (rows < clamp(state.size, state.rowBytes)) {
+                return;
+            }
+            double throughput = rows * 1_000_000_000.0 / elapsedNanos;
+            if (state.lastThroughput > 0 && throughput < state.lastThroughput * (1 - TOLERANCE)) {
+                state.direction = -state.direction;
+            }
+            state.lastThroughput = throughput;
+
+            int next = state.direction > 0
+                    ? (int) Math.ceil(state.size * STEP_FACTOR)
+                    : (int) (state.size / STEP_FACTOR);
+            state.size = clamp(next, state.rowBytes);
+            if (state.size == rows && next != rows) {
+                // 경계에 닿으면 반대 방향 탐색
+                state.direction = -state.direction;
+            }
+        }
+    }
+
+    /**
+     * 한 번 정한 크기로 끝까지 실행하는 경로(병렬, 불량 행 격리, 생성 키 수집)용 배치 크기
+     * - 현재 크기에 이번 항목의 행 크기 기준 패킷 상한만 적용
+     * - 실행 시간을 기록하지 않는 경로이므로 SQL 상태(배치 카운터, 게이지)는 만들거나 바꾸지 않음
+     */
+    public <T> int fixedBatchSize(String sql, List<T> items, JdbcExecutor.PreparedStatementSetter<T> setter) {
+        SqlState state = states.get(sql);
+        int size = state != null ? state.size : Math.max(minBatchSize, Math.min(initialBatchSize, maxBatchSize));
+        long rowBytes = estimateRowBytes(items, 0, setter);
+        if (rowBytes <= 0 && state != null) {
+            rowBytes = state.rowBytes;
+        }
+        return clamp(size, rowBytes);
+    }
+
+    /**
+     * SQL의 현재 배치 크기 (아직 실행 전이면 초기값)
+     */
+    public int currentBatchSize(String sql) {
+        SqlState state = states.get(sql);
+        if (state == null) {
+            return initialBatchSize;
+        }
+        synchronized (state) {
+            return clamp(state.size, state.rowBytes);
+        }
+    }
+
+    /**
+     * SQL의 추정 행 크기 (bytes, 추정 전이면 0)
+     */
+    public long estimatedRowBytes(String sql) {
+        SqlState state = states.get(sql);
+        return state != null ? state.rowBytes : 0;
+    }
+
+    private int clamp(int size, long rowBytes) {
+        int upper = maxBatchSize;
+        if (rowBytes > 0) {
+            upper = (int) Math.min(upper, Math.max(1, packetBudgetBytes / rowBytes));
+        }
+        int lower = Math.min(minBatchSize, upper);
+        return Math.max(lower, Math.min(size, upper));
+    }
+
+    private SqlState newState(String sql) {
+        SqlState state = new SqlState(Math.max(minBatchSize, Math.min(initialBatchSize, maxBatchSize)));
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            String statement = statementLabel(sql);
+            Gauge.builder("jdbc.batch.size", state, s -> s.size)
+                    .tag("statement", statement)
+                    .description("SQL별 적응형 서브 배치 크기")
+                    .register(registry);
+            Gauge.builder("jdbc.batch.row.bytes", state, s -> s.rowBytes)
+                    .tag("statement", statement)
+                    .description("SQL별 추정 행 크기")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+        log.debug("[JDBC] 적응형 배치 시작 - {}: {}건", statementLabel(sql), state.size);
+        return state;
+    }
+
+    /**
+     * 기록용 PreparedStatement에 앞쪽 행을 바인딩해 행당 직렬화 크기 추정
+     *
+     * @return 평균 행 크기 (추정 불가면 0)
+     */
+    static <T> long estimateRowBytes(List<T> items, int from, JdbcExecutor.PreparedStatementSetter<T> setter) {
+        int to = Math.min(items.size(), from + SAMPLE_ROWS);
+        if (from >= to) {
+            return 0;
+        }
+        long[] bytes = {0};
+        PreparedStatement recorder = (PreparedStatement) Proxy.newProxyInstance(
+                AdaptiveBatchSizer.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && args != null && args.length >= 2) {
+                        bytes[0] += valueBytes(args[1]) + PARAMETER_OVERHEAD_BYTES;
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+        try {
+            for (int i = from; i < to; i++) {
+                setter.setValues(recorder, items.get(i));
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("[JDBC] 행 크기 추정 실패: {}", e.getMessage());
+            return 0;
+        }
+        return Math.max(1, bytes[0] / (to - from));
+    }
+
+    static long valueBytes(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence text) {
+            return utf8Length(text);
+        }
+        if (value instanceof byte[] raw) {
+            return raw.length * 2L;
+        }
+        if (value instanceof Temporal || value instanceof java.util.Date) {
+            return 26;
+        }
+        return value.toString().length();
+    }
+
+    private static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return 0;
+    }
+
+    /**
+     * 메트릭 태그용 대상 테이블 (INSERT ... INTO t / UPDATE t / DELETE FROM t)
+     */
+    static String statementLabel(String sql) {
+        String upper = sql.toUpperCase(Locale.ROOT);
+        String[] markers = {" INTO ", "UPDATE ", " FROM "};
+        for (String marker : markers) {
+            int index = upper.indexOf(marker);
+            if (index < 0) {
+                continue;
+            }
+            int start = index + marker.length();
+            while (start < sql.length() && sql.charAt(start) == ' ') {
+                start++;
+            }
+            int end = start;
+            while (end < sql.length() && !Character.isWhitespace(sql.charAt(end)) && sql.charAt(end) != '(') {
+                end++;
+            }
+            if (end > start) {
+                return sql.substring(start, end).replace("`", "").toLowerCase(Locale.ROOT);
+            }
+        }
+        return "other";
+    }
+
+    private static final class SqlState {
+        private volatile int size;
+        private volatile long rowBytes;
+        private int direction = 1;
+        private double lastThroughput;
+        private long batches;
+
+        private SqlState(int size) {
+            this.size = size;
+        }
+    }
+}
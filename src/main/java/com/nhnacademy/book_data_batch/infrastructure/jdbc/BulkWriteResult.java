@@ -0,0 +1,72 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * JdbcExecutor.executeIsolating 결과
+ * - 데이터 오류로 거부된 행만 rejects에 담김 (나머지 행은 반영됨)
+ * - sqlState/errorCode는 드라이버가 준 원인 SQLException 기준 (없으면 null/0)
+ * </pre>
+ */
+public record BulkWriteResult<T>(
+        long writtenRows,
+        List<RejectedRow<T>> rejects
+) {
+
+    public record RejectedRow<T>(
+            T item,
+            String sqlState,
+            int errorCode,
+            String message
+    ) {
+
+        static <T> RejectedRow<T> of(T item, RuntimeException cause) {
+            SQLException sqlException = findSqlException(cause);
+            if (sqlException == null) {
+                return new RejectedRow<>(item, null, 0, cause.getMessage());
+            }
+            return new RejectedRow<>(item, sqlException.getSQLState(), sqlException.getErrorCode(),
+                    sqlException.getMessage());
+        }
+    }
+
+    public static <T> BulkWriteResult<T> empty() {
+        return new BulkWriteResult<>(0, List.of());
+    }
+
+    public boolean hasRejects() {
+        return !rejects.isEmpty();
+    }
+
+    public List<T> rejectedItems() {
+        List<T> items = new ArrayList<>(rejects.size());
+        for (RejectedRow<T> reject : rejects) {
+            items.add(reject.item());
+        }
+        return items;
+    }
+
+    /**
+     * 예외 체인에서 SQLState가 있는 SQLException 탐색 (BatchUpdateException은 next exception 우선)
+     */
+    static SQLException findSqlException(Throwable throwable) {
+        SQLException found = null;
+        for (Throwable current = throwable; current != null && current != current.getCause(); current = current.getCause()) {
+            if (current instanceof BatchUpdateException batch && batch.getNextException() != null
+                    && batch.getNextException().getSQLState() != null) {
+                return batch.getNextException();
+            }
+            if (current instanceof SQLException sqlException) {
+                if (sqlException.getSQLState() != null) {
+                    return sqlException;
+                }
+                found = sqlException;
+            }
+        }
+        return found;
+    }
+}
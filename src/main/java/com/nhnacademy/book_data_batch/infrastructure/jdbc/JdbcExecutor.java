@@ -1,47 +1,200 @@
 package com.nhnacademy.book_data_batch.infrastructure.jdbc;
 
-import lombok.RequiredArgsConstructor;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.commons.dbcp2.BasicDataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Clob;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * JDBC 작업 유틸리티
- * - execute: Bulk INSERT/UPDATE (배치 분할, 재시도 로직 포함)
+ * - execute: Bulk INSERT/UPDATE (배치 분할, 락 대기/데드락 재시도 포함)
+ *   (배치 사이즈 미지정 시 batch.jdbc.adaptive.enabled이면 AdaptiveBatchSizer가 SQL별로 크기 조정, 아니면 1000)
+ * - executeIsolating: 데이터 오류 시 서브 배치를 이분해 불량 행만 거부하고 나머지는 반영
+ * - executeParallel: 트랜잭션 밖 대량 적재를 여러 커넥션에 나눠 동시 실행
+ * - executeReturningKeys: Bulk INSERT + 생성 키(AUTO_INCREMENT) 수집
+ * - insertIgnore: 트랜잭션 밖 대량이면 LOAD DATA LOCAL INFILE (MySQL, 전용 커넥션), 아니면 배치 INSERT IGNORE
  * - executeUpdate: 단일 UPDATE/DELETE
  * - queryInBatches: 대량 조회 (IN 절 분할)
+ * - lookupLongs: 키 → BIGINT 컬럼 값 조회 (대량이면 임시 테이블 JOIN 한 번, 아니면 고정 크기 IN 절)
+ *   (lookupIds: 같은 경로로 키 → ID 조회)
+ * - upsert / updateChanged: 현재 값과 비교해 바뀐 행만 쓰고 행별 결과(INSERTED/UPDATED/UNCHANGED) 반환
+ *   (UpsertSpec.hashing으로 지정한 TEXT 컬럼은 MD5만 읽어 비교)
+ * - forEachRow / stream: 대량 조회를 스트리밍 결과셋으로 한 행씩 처리 (결과 List 없음)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JdbcExecutor {
 
     private final JdbcTemplate jdbcTemplate;
 
+    // executeParallel 공용 스레드 풀 (JdbcConfig.jdbcParallelExecutor)
+    private final ExecutorService parallelExecutor;
+
     private static final int DEFAULT_BATCH_SIZE = 1000;  // 백엔드 경합 감소 (10,000 → 1,000)
+    private static final int LOAD_DATA_ROWS_PER_STATEMENT = 100_000;
+
+    // LOAD DATA LOCAL INFILE 사용 여부 (서버 local_infile=ON 필요)
+    // allowLoadLocalInfile은 기본 풀 URL이 아니라 켜졌을 때 만드는 LOAD DATA 전용 커넥션에만 설정
+    @Value("${batch.jdbc.load-data.enabled:false}")
+    private boolean loadDataEnabled;
+
+    // 이 건수 이상일 때만 LOAD DATA 사용
+    @Value("${batch.jdbc.load-data.threshold:5000}")
+    private int loadDataThreshold = 5000;
+
+    // 드라이버 미지원이거나 서버가 LOCAL INFILE을 거부하면 false (그 외 오류는 호출 측으로 전달)
+    private volatile boolean loadDataAvailable = true;
+
+    // LOCAL INFILE 거부 오류 코드 (1148: 허용되지 않은 명령, 3948/3950: 클라이언트/서버 local_infile 비활성)
+    private static final Set<Integer> LOAD_DATA_NOT_ALLOWED_ERRORS = Set.of(1148, 3948, 3950);
+
+    // LOAD DATA 전용 DataSource (기본 풀과 같은 접속 정보 + allowLoadLocalInfile=true, 처음 사용할 때 생성)
+    private volatile DataSource loadDataSource;
+
+    // 트랜잭션 밖 INSERT IGNORE를 executeParallel로 실행할지 여부
+    @Value("${batch.jdbc.parallel.enabled:false}")
+    private boolean parallelEnabled;
+
+    // 동시 커넥션 수 상한 (0이면 풀 크기 기준)
+    @Value("${batch.jdbc.parallel.max-concurrency:0}")
+    private int parallelMaxConcurrency;
+
+    // 풀 크기 기준일 때 다른 작업(Step 트랜잭션, 메타데이터)용으로 남겨둘 커넥션 수
+    @Value("${batch.jdbc.parallel.reserved-connections:2}")
+    private int reservedConnections = 2;
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    // insertIgnore 병렬 경로: 첫 컬럼(선두 키 컬럼) 순 정렬, null은 앞으로
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object[]> LEADING_KEY_ORDER = Comparator.comparing(
+            row -> (Comparable) row[0], Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    // 스트리밍 조회 fetch size (MySQL 외 드라이버용, MySQL은 Integer.MIN_VALUE로 행 단위 스트리밍)
+    @Value("${batch.jdbc.stream.fetch-size:1000}")
+    private int streamFetchSize = 1000;
+
+    // lookupLongs: 이 개수 이상이면 임시 테이블 JOIN (MySQL)
+    @Value("${batch.jdbc.lookup.temp-table-threshold:5000}")
+    private int lookupTempTableThreshold = 5000;
+
+    // lookupLongs: IN 절 한 번에 넣을 키 수
+    @Value("${batch.jdbc.lookup.batch-size:1000}")
+    private int lookupBatchSize = 1000;
+
+    // 임시 테이블 생성이 거부되면(권한, GTID 제약 등) false → 이후 IN 절만 사용 (그 외 오류는 이번 호출만 IN 절)
+    private volatile boolean lookupTempTableAvailable = true;
+
+    // 연결 대상이 MySQL인지 (처음 필요할 때 한 번 확인)
+    private volatile Boolean mySql;
+
+    // 임시 테이블 거부 오류 코드 (1044/1142/1227: 권한 없음, 1290: read-only, 1786: GTID 제약, 1235: 미지원)
+    private static final Set<Integer> TEMP_TABLE_NOT_ALLOWED_ERRORS = Set.of(1044, 1142, 1227, 1290, 1786, 1235);
+
+    // 락 대기 초과/데드락 시 서브 배치 실행 최대 시도 횟수
+    @Value("${batch.jdbc.retry.max-attempts:3}")
+    private int retryMaxAttempts = 3;
+
+    // 재시도 대기 기준 (시도마다 2배, 절반 + 무작위 지터)
+    @Value("${batch.jdbc.retry.backoff-ms:100}")
+    private long retryBackoffMs = 100;
+
+    @Value("${batch.jdbc.retry.max-backoff-ms:2000}")
+    private long retryMaxBackoffMs = 2000;
+
+    // SQL별 적응형 배치 크기 (없거나 비활성이면 DEFAULT_BATCH_SIZE 고정)
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
+
+    @Autowired
+    public JdbcExecutor(
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("jdbcParallelExecutor") ExecutorService parallelExecutor,
+            ObjectProvider<AdaptiveBatchSizer> adaptiveBatchSizerProvider
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.parallelExecutor = parallelExecutor;
+        this.adaptiveBatchSizer = adaptiveBatchSizerProvider.getIfAvailable();
+    }
 
     /**
-     * Bulk INSERT/UPDATE (기본 배치 사이즈 1000)
+     * Bulk INSERT/UPDATE (적응형 배치 사이즈, 비활성이면 1000)
+     * - 서브 배치마다 크기를 다시 정하고 실행 시간을 기록
      */
     public <T> void execute(
             String sql,
             Collection<T> items,
             PreparedStatementSetter<T> setter
     ) {
-        execute(sql, items, setter, DEFAULT_BATCH_SIZE);
+        if (!isAdaptive()) {
+            execute(sql, items, setter, DEFAULT_BATCH_SIZE);
+            return;
+        }
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        List<T> itemList = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+
+        int i = 0;
+        while (i < itemList.size()) {
+            int batchSize = adaptiveBatchSizer.nextBatchSize(sql, itemList, i, setter);
+            int end = Math.min(i + batchSize, itemList.size());
+            long start = System.nanoTime();
+            executeBatch(sql, itemList.subList(i, end), setter);
+            adaptiveBatchSizer.record(sql, end - i, System.nanoTime() - start);
+            i = end;
+        }
     }
 
     /**
@@ -68,33 +221,607 @@ public class JdbcExecutor {
         }
     }
 
-    @Retryable(
-            retryFor = CannotAcquireLockException.class, // DB 락 획득 실패 시 재시도
-            maxAttempts = 2,
-            backoff = @Backoff(delay = 100)
-    )
+    /**
+     * 병렬 Bulk INSERT/UPDATE (적응형 배치 사이즈, 비활성이면 1000)
+     * - 파티션 크기는 호출 시점에 한 번 정함 (행 크기 기준 패킷 상한 적용)
+     */
+    public <T> ParallelWriteResult executeParallel(
+            String sql,
+            Collection<T> items,
+            PreparedStatementSetter<T> setter,
+            Comparator<? super T> order
+    ) {
+        if (!isAdaptive() || items == null || items.isEmpty()) {
+            return executeParallel(sql, items, setter, order, DEFAULT_BATCH_SIZE);
+        }
+        List<T> sample = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+        return executeParallel(sql, sample, setter, order, adaptiveBatchSizer.fixedBatchSize(sql, sample, setter));
+    }
+
+    private boolean isAdaptive() {
+        return adaptiveBatchSizer != null && adaptiveBatchSizer.isEnabled();
+    }
+
+    /**
+     * 병렬 Bulk INSERT/UPDATE
+     * - 공용 풀(jdbcParallelExecutor)에 작업자 parallelism()개를 올리고, 작업자가 서브 배치를 하나씩 가져가
+     *   각자 풀 커넥션으로 실행 (서브 배치마다 개별 커밋, 호출마다 스레드 풀을 만들지 않음)
+     * - order가 있으면 정렬 후 연속 구간으로 나눔 → 동시 실행 중인 배치가 서로 다른 인덱스 범위를 건드림
+     * - 실패한 서브 배치는 예외를 던지지 않고 결과에 담아 반환 (나머지는 계속 실행)
+     * - 현재 스레드에 트랜잭션 커넥션이 묶여 있으면 같은 트랜잭션을 유지하도록 순차 실행
+     *   (다른 커넥션은 커밋 전 데이터를 볼 수 없음)
+     * - 중복 실행해도 안전한 SQL(INSERT IGNORE, UPSERT)에만 사용
+     */
+    public <T> ParallelWriteResult executeParallel(
+            String sql,
+            Collection<T> items,
+            PreparedStatementSetter<T> setter,
+            Comparator<? super T> order,
+            int batchSize
+    ) {
+        if (items == null || items.isEmpty()) {
+            return new ParallelWriteResult(0, 0, List.of());
+        }
+
+        List<T> itemList = new ArrayList<>(items);
+        if (order != null) {
+            itemList.sort(order);
+        }
+        int partitions = (itemList.size() + batchSize - 1) / batchSize;
+        int threads = Math.min(parallelism(), partitions);
+
+        if (threads <= 1 || isTransactionBound()) {
+            return executePartitions(sql, itemList, setter, batchSize, partitions);
+        }
+
+        AtomicInteger nextPartition = new AtomicInteger();
+        List<Future<List<ParallelWriteResult.PartitionFailure>>> workers = new ArrayList<>(threads);
+        try {
+            for (int worker = 0; worker < threads; worker++) {
+                workers.add(parallelExecutor.submit(() -> {
+                    List<ParallelWriteResult.PartitionFailure> failed = new ArrayList<>();
+                    int partition;
+                    while ((partition = nextPartition.getAndIncrement()) < partitions) {
+                        ParallelWriteResult.PartitionFailure failure =
+                                executePartition(sql, itemList, setter, batchSize, partition);
+                        if (failure != null) {
+                            failed.add(failure);
+                        }
+                    }
+                    return failed;
+                }));
+            }
+
+            List<ParallelWriteResult.PartitionFailure> failures = new ArrayList<>();
+            for (Future<List<ParallelWriteResult.PartitionFailure>> worker : workers) {
+                failures.addAll(worker.get());
+            }
+            failures.sort(Comparator.comparingInt(ParallelWriteResult.PartitionFailure::partition));
+            return toResult(itemList.size(), partitions, failures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            nextPartition.set(partitions);  // 아직 시작하지 않은 서브 배치는 실행하지 않음
+            throw new IllegalStateException("병렬 Bulk 실행 중단", e);
+        } catch (ExecutionException e) {
+            nextPartition.set(partitions);
+            throw new IllegalStateException("병렬 Bulk 실행 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 병렬 실행 동시 커넥션 수
+     * - DBCP2 풀이면 maxTotal - reserved-connections, max-concurrency가 있으면 그 값으로 제한
+     */
+    public int parallelism() {
+        int poolLimit = poolLimit();
+        if (poolLimit <= 0) {
+            return parallelMaxConcurrency > 0 ? parallelMaxConcurrency : DEFAULT_PARALLELISM;
+        }
+        int limit = parallelMaxConcurrency > 0 ? Math.min(parallelMaxConcurrency, poolLimit) : poolLimit;
+        return Math.max(1, limit);
+    }
+
+    private int poolLimit() {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        if (dataSource == null) {
+            return 0;
+        }
+        try {
+            if (dataSource.isWrapperFor(BasicDataSource.class)) {
+                int maxTotal = dataSource.unwrap(BasicDataSource.class).getMaxTotal();
+                return maxTotal > 0 ? Math.max(1, maxTotal - reservedConnections) : 0;
+            }
+        } catch (SQLException e) {
+            log.debug("[JDBC] 커넥션 풀 크기 확인 실패: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    private boolean isTransactionBound() {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        return dataSource != null && TransactionSynchronizationManager.hasResource(dataSource);
+    }
+
+    private <T> ParallelWriteResult executePartitions(
+            String sql,
+            List<T> itemList,
+            PreparedStatementSetter<T> setter,
+            int batchSize,
+            int partitions
+    ) {
+        List<ParallelWriteResult.PartitionFailure> failures = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            ParallelWriteResult.PartitionFailure failure = executePartition(sql, itemList, setter, batchSize, partition);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        return toResult(itemList.size(), partitions, failures);
+    }
+
+    private <T> ParallelWriteResult.PartitionFailure executePartition(
+            String sql,
+            List<T> itemList,
+            PreparedStatementSetter<T> setter,
+            int batchSize,
+            int partition
+    ) {
+        int from = partition * batchSize;
+        int to = Math.min(from + batchSize, itemList.size());
+        try {
+            executeBatch(sql, itemList.subList(from, to), setter);
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("[JDBC] 병렬 Bulk 파티션 실패 - #{} [{}, {}): {}", partition, from, to, e.getMessage());
+            return new ParallelWriteResult.PartitionFailure(partition, from, to, e);
+        }
+    }
+
+    private ParallelWriteResult toResult(
+            int totalRows,
+            int partitions,
+            List<ParallelWriteResult.PartitionFailure> failures
+    ) {
+        long failedRows = 0;
+        for (ParallelWriteResult.PartitionFailure failure : failures) {
+            failedRows += failure.toIndex() - failure.fromIndex();
+        }
+        return new ParallelWriteResult(partitions, totalRows - failedRows, List.copyOf(failures));
+    }
+
+    /**
+     * 서브 배치 실행 (락 오류 재시도)
+     * - 락 대기 초과(CannotAcquireLockException): MySQL은 해당 문장만 롤백 → 트랜잭션 안에서도 재실행
+     * - 데드락 등 그 외 락 오류: 트랜잭션 전체가 롤백되므로 트랜잭션 밖에서만 재실행 (안에서는 Step 재시도에 맡김)
+     * - 재시도 간격: backoff-ms * 2^(시도-1) (max-backoff-ms 상한)의 절반 + 무작위 지터
+     */
     private <T> void executeBatch(
             String sql,
             List<T> batch,
             PreparedStatementSetter<T> setter
     ) {
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                setter.setValues(ps, batch.get(i));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.setValues(ps, batch.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                });
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= retryMaxAttempts || !isRetryable(e)) {
+                    log.error("Bulk 실행 최종 실패 ({}회 시도) - {}", attempt, e.getMessage());
+                    throw e;
+                }
+                log.warn("[JDBC] 락 오류 재시도 {}/{} - {}건: {}", attempt, retryMaxAttempts - 1, batch.size(),
+                        e.getMostSpecificCause().getMessage());
+                sleepBeforeRetry(attempt);
             }
+        }
+    }
+
+    private boolean isRetryable(PessimisticLockingFailureException e) {
+        return e instanceof CannotAcquireLockException || !isTransactionBound();
+    }
 
-            @Override
-            public int getBatchSize() {
-                return batch.size();
+    private void sleepBeforeRetry(int attempt) {
+        long ceiling = Math.min(retryMaxBackoffMs, retryBackoffMs << Math.min(attempt - 1, 20));
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk 재시도 대기 중단", e);
+        }
+    }
+
+    /**
+     * Bulk INSERT/UPDATE + 불량 행 격리 (적응형 배치 사이즈, 비활성이면 1000)
+     */
+    public <T> BulkWriteResult<T> executeIsolating(
+            String sql,
+            Collection<T> items,
+            PreparedStatementSetter<T> setter
+    ) {
+        int batchSize = DEFAULT_BATCH_SIZE;
+        if (isAdaptive() && items != null && !items.isEmpty()) {
+            List<T> sample = items instanceof List
+                    ? (List<T>) items
+                    : new ArrayList<>(items);
+            batchSize = adaptiveBatchSizer.fixedBatchSize(sql, sample, setter);
+        }
+        return executeIsolating(sql, items, setter, batchSize);
+    }
+
+    /**
+     * Bulk INSERT/UPDATE + 불량 행 격리
+     * - 서브 배치가 데이터 오류(무결성 위반, SQLState 22xxx/23xxx)로 실패하면 반으로 나눠 다시 실행
+     *   → 1건까지 좁혀진 행만 거부, 나머지 행은 반영 (1000건 중 1건 불량이면 약 20번 실행)
+     * - 락/연결 오류 등 데이터 오류가 아닌 예외는 그대로 던짐
+     * - 실패한 서브 배치 일부가 이미 반영됐을 수 있으므로 재실행해도 안전한 SQL(UPSERT, UPDATE, INSERT IGNORE)에 사용
+     *
+     * @return 반영 건수 + 거부된 행 (SQLState, 오류 코드 포함)
+     */
+    public <T> BulkWriteResult<T> executeIsolating(
+            String sql,
+            Collection<T> items,
+            PreparedStatementSetter<T> setter,
+            int batchSize
+    ) {
+        if (items == null || items.isEmpty()) {
+            return BulkWriteResult.empty();
+        }
+
+        List<T> itemList = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+
+        List<BulkWriteResult.RejectedRow<T>> rejects = new ArrayList<>();
+        long written = 0;
+        for (int i = 0; i < itemList.size(); i += batchSize) {
+            int end = Math.min(i + batchSize, itemList.size());
+            written += executeBisecting(sql, itemList.subList(i, end), setter, rejects);
+        }
+
+        if (!rejects.isEmpty()) {
+            BulkWriteResult.RejectedRow<T> first = rejects.get(0);
+            log.warn("[JDBC] Bulk 실행 중 {}건 거부 (반영 {}건) - 첫 오류 SQLState {}: {}",
+                    rejects.size(), written, first.sqlState(), first.message());
+        }
+        return new BulkWriteResult<>(written, List.copyOf(rejects));
+    }
+
+    private <T> long executeBisecting(
+            String sql,
+            List<T> batch,
+            PreparedStatementSetter<T> setter,
+            List<BulkWriteResult.RejectedRow<T>> rejects
+    ) {
+        try {
+            executeBatch(sql, batch, setter);
+            return batch.size();
+        } catch (DataAccessException e) {
+            if (!isDataError(e)) {
+                throw e;
             }
-        });
+            if (batch.size() == 1) {
+                rejects.add(BulkWriteResult.RejectedRow.of(batch.get(0), e));
+                return 0;
+            }
+            int middle = batch.size() / 2;
+            return executeBisecting(sql, batch.subList(0, middle), setter, rejects)
+                    + executeBisecting(sql, batch.subList(middle, batch.size()), setter, rejects);
+        }
+    }
+
+    /**
+     * 특정 행 값 때문에 실패한 오류인지 (무결성 위반, 데이터 예외 SQLState 22xxx/23xxx)
+     */
+    static boolean isDataError(DataAccessException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return true;
+        }
+        SQLException sqlException = BulkWriteResult.findSqlException(e);
+        String sqlState = sqlException != null ? sqlException.getSQLState() : null;
+        return sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"));
     }
 
-    @Recover
-    private <T> void recoverFromBatchFailure(CannotAcquireLockException e, String sql, List<T> batch, PreparedStatementSetter<T> setter) {
-        log.error("Bulk 실행 최종 실패 - {}", e.getMessage());
-        throw e;
+    /**
+     * Bulk INSERT + 생성 키 수집 (적응형 배치 사이즈, 비활성이면 1000)
+     */
+    public <T, K> Map<K, Long> executeReturningKeys(
+            String sql,
+            Collection<T> items,
+            PreparedStatementSetter<T> setter,
+            Function<T, K> keyExtractor
+    ) {
+        if (!isAdaptive() || items == null || items.isEmpty()) {
+            return executeReturningKeys(sql, items, setter, keyExtractor, DEFAULT_BATCH_SIZE);
+        }
+        List<T> sample = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+        return executeReturningKeys(sql, sample, setter, keyExtractor,
+                adaptiveBatchSizer.fixedBatchSize(sql, sample, setter));
+    }
+
+    /**
+     * Bulk INSERT + 생성 키 수집
+     * - 생성 키와 행의 대응이 확실한 경우만 매핑해서 반환
+     *   1) 생성 키 수 == 배치 크기: 순서대로 매핑
+     *   2) 행별 update count 제공: count > 0인 행에 순서대로 매핑
+     * - INSERT IGNORE로 건너뛴 행 등 매핑되지 않은 항목은 결과에 없음 → 호출 측에서 별도 조회
+     *
+     * @return keyExtractor 결과 → 생성 키
+     */
+    public <T, K> Map<K, Long> executeReturningKeys(
+            String sql,
+            Collection<T> items,
+            PreparedStatementSetter<T> setter,
+            Function<T, K> keyExtractor,
+            int batchSize
+    ) {
+        if (items == null || items.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<T> itemList = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+
+        Map<K, Long> result = new HashMap<>(itemList.size() * 2);
+        for (int i = 0; i < itemList.size(); i += batchSize) {
+            int end = Math.min(i + batchSize, itemList.size());
+            List<T> batch = itemList.subList(i, end);
+            jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                try (PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    for (T item : batch) {
+                        setter.setValues(ps, item);
+                        ps.addBatch();
+                    }
+                    int[] updateCounts = ps.executeBatch();
+                    mapGeneratedKeys(batch, updateCounts, readGeneratedKeys(ps), keyExtractor, result);
+                }
+                return null;
+            });
+        }
+        return result;
+    }
+
+    private List<Long> readGeneratedKeys(PreparedStatement ps) throws SQLException {
+        List<Long> keys = new ArrayList<>();
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getLong(1));
+            }
+        }
+        return keys;
+    }
+
+    private <T, K> void mapGeneratedKeys(
+            List<T> batch,
+            int[] updateCounts,
+            List<Long> keys,
+            Function<T, K> keyExtractor,
+            Map<K, Long> result
+    ) {
+        // 모든 행이 INSERT 됨 → 순서대로 대응
+        if (keys.size() == batch.size()) {
+            for (int i = 0; i < batch.size(); i++) {
+                result.put(keyExtractor.apply(batch.get(i)), keys.get(i));
+            }
+            return;
+        }
+
+        // 행별 결과가 있으면 실제 INSERT 된 행에만 대응
+        // (rewriteBatchedStatements 등으로 SUCCESS_NO_INFO면 대응 불가 → 호출 측 조회로 대체)
+        if (updateCounts.length != batch.size()) {
+            return;
+        }
+        int inserted = 0;
+        for (int count : updateCounts) {
+            if (count < 0) {
+                return;
+            }
+            if (count > 0) {
+                inserted++;
+            }
+        }
+        if (inserted != keys.size()) {
+            return;
+        }
+
+        int keyIndex = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (updateCounts[i] > 0) {
+                result.put(keyExtractor.apply(batch.get(i)), keys.get(keyIndex++));
+            }
+        }
+    }
+
+    /**
+     * 대량 INSERT IGNORE
+     * - shouldLoadData 조건 충족 시 LOAD DATA LOCAL INFILE ... IGNORE 로 TSV 스트림 적재
+     * - 그 외(H2, 소량, 미지원 서버) → 같은 컬럼으로 배치 INSERT IGNORE
+     *   (batch.jdbc.parallel.enabled이고 트랜잭션 밖이면 첫 컬럼(선두 키 컬럼) 순으로 정렬해 executeParallel
+     *    → 동시에 실행 중인 서브 배치가 서로 다른 인덱스 범위에 씀,
+     *    서브 배치마다 따로 커밋되므로 중복을 걸러낼 unique 키가 있는 테이블에만 트랜잭션 밖에서 호출)
+     * - 어느 경로든 중복 키는 무시되므로 LOAD DATA 실패 후 INSERT 재실행도 안전
+     *
+     * @param rowValues 항목 → columns 순서의 값 배열
+     */
+    public <T> void insertIgnore(
+            String table,
+            List<String> columns,
+            Collection<T> items,
+            Function<T, Object[]> rowValues
+    ) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        if (shouldLoadData(items.size()) && loadData(table, columns, items, rowValues)) {
+            return;
+        }
+
+        if (parallelEnabled && !isTransactionBound()) {
+            List<Object[]> rows = new ArrayList<>(items.size());
+            for (T item : items) {
+                rows.add(rowValues.apply(item));
+            }
+            executeParallel(insertIgnoreSql(table, columns), rows, JdbcExecutor::bind, LEADING_KEY_ORDER)
+                    .throwIfFailed();
+            return;
+        }
+
+        execute(insertIgnoreSql(table, columns), items, (ps, item) -> bind(ps, rowValues.apply(item)));
+    }
+
+    /**
+     * LOAD DATA 경로를 사용할지
+     * - 전용 커넥션은 따로 커밋되므로 현재 스레드에 트랜잭션이 없을 때만 사용
+     *   (Step 트랜잭션 안에서는 롤백/조회 일관성을 위해 같은 커넥션의 배치 INSERT 사용)
+     */
+    public boolean shouldLoadData(int rowCount) {
+        return loadDataEnabled && loadDataAvailable && rowCount >= loadDataThreshold && !isTransactionBound();
+    }
+
+    /**
+     * INSERT IGNORE INTO table (columns) VALUES (?, ...)
+     */
+    public static String insertIgnoreSql(String table, List<String> columns) {
+        return "INSERT IGNORE INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
+    /**
+     * 값 배열을 순서대로 바인딩
+     */
+    public static void bind(PreparedStatement ps, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            ps.setObject(i + 1, values[i]);
+        }
+    }
+
+    /**
+     * Connector/J 로컬 인파일 스트림으로 적재 (임시 파일 없음, LOAD DATA 전용 커넥션)
+     * - 드라이버 미지원/서버 거부(LOAD_DATA_NOT_ALLOWED_ERRORS)면 이후 호출도 배치 INSERT 사용
+     * - 그 외 오류(연결 끊김, 락 등)는 그대로 던짐 → 일시 오류로 LOAD DATA를 끄지 않음
+     *
+     * @return 적재 성공 여부 (미지원이면 false → 호출 측 폴백)
+     */
+    private <T> boolean loadData(
+            String table,
+            List<String> columns,
+            Collection<T> items,
+            Function<T, Object[]> rowValues
+    ) {
+        String sql = "LOAD DATA LOCAL INFILE 'stream' IGNORE INTO TABLE " + table
+                + " CHARACTER SET utf8mb4"
+                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                + " LINES TERMINATED BY '\\n'"
+                + " (" + String.join(", ", columns) + ")";
+
+        DataSource dataSource = loadDataSource();
+        if (dataSource == null) {
+            log.info("[JDBC] LOAD DATA 전용 커넥션 구성 불가 (DBCP2 풀 아님) - 배치 INSERT로 전환");
+            loadDataAvailable = false;
+            return false;
+        }
+        JdbcTemplate loadTemplate = new JdbcTemplate(dataSource);
+
+        List<T> itemList = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+
+        try {
+            long loaded = 0;
+            for (int i = 0; i < itemList.size(); i += LOAD_DATA_ROWS_PER_STATEMENT) {
+                List<T> part = itemList.subList(i, Math.min(i + LOAD_DATA_ROWS_PER_STATEMENT, itemList.size()));
+                Long affected = loadTemplate.execute((ConnectionCallback<Long>) con -> {
+                    try (Statement statement = con.createStatement()) {
+                        if (!statement.isWrapperFor(JdbcStatement.class)) {
+                            return null;
+                        }
+                        statement.unwrap(JdbcStatement.class)
+                                .setLocalInfileInputStream(new TsvRowInputStream(part.iterator(), rowValues));
+                        return (long) statement.executeUpdate(sql);
+                    }
+                });
+                if (affected == null) {
+                    log.info("[JDBC] LOAD DATA 미지원 드라이버 - 배치 INSERT로 전환");
+                    loadDataAvailable = false;
+                    return false;
+                }
+                loaded += affected;
+            }
+            log.debug("[JDBC] LOAD DATA 완료 - {}: {}건 중 {}건 적재", table, itemList.size(), loaded);
+            return true;
+        } catch (DataAccessException e) {
+            if (!isLoadDataNotAllowed(e)) {
+                throw e;
+            }
+            log.warn("[JDBC] LOAD DATA 거부 - 배치 INSERT로 전환: {}", e.getMostSpecificCause().getMessage());
+            loadDataAvailable = false;
+            return false;
+        }
+    }
+
+    /**
+     * 서버/클라이언트 설정으로 LOCAL INFILE이 거부된 오류인지
+     */
+    static boolean isLoadDataNotAllowed(DataAccessException e) {
+        SQLException sqlException = BulkWriteResult.findSqlException(e);
+        return sqlException != null && LOAD_DATA_NOT_ALLOWED_ERRORS.contains(sqlException.getErrorCode());
+    }
+
+    private DataSource loadDataSource() {
+        DataSource dataSource = loadDataSource;
+        if (dataSource == null) {
+            synchronized (this) {
+                if (loadDataSource == null) {
+                    loadDataSource = createLoadDataSource();
+                }
+                dataSource = loadDataSource;
+            }
+        }
+        return dataSource;
+    }
+
+    /**
+     * 기본 풀(DBCP2)의 접속 정보로 allowLoadLocalInfile=true 커넥션을 만드는 DataSource
+     * - LOAD DATA 호출마다 커넥션 하나만 쓰므로 풀 없이 DriverManager로 연결
+     *
+     * @return 기본 DataSource가 DBCP2 풀이 아니면 null
+     */
+    private DataSource createLoadDataSource() {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        try {
+            if (dataSource == null || !dataSource.isWrapperFor(BasicDataSource.class)) {
+                return null;
+            }
+            BasicDataSource pool = dataSource.unwrap(BasicDataSource.class);
+            DriverManagerDataSource loadSource =
+                    new DriverManagerDataSource(pool.getUrl(), pool.getUsername(), pool.getPassword());
+            if (pool.getDriverClassName() != null) {
+                loadSource.setDriverClassName(pool.getDriverClassName());
+            }
+            Properties properties = new Properties();
+            properties.setProperty("allowLoadLocalInfile", "true");
+            loadSource.setConnectionProperties(properties);
+            return loadSource;
+        } catch (SQLException e) {
+            log.debug("[JDBC] LOAD DATA 전용 커넥션 구성 실패: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -111,6 +838,33 @@ public class JdbcExecutor {
         return jdbcTemplate.query(sql, rowMapper, args);
     }
 
+    /**
+     * SELECT (스트리밍 결과셋, 행 단위 콜백)
+     * - MySQL: fetchSize = Integer.MIN_VALUE → 서버가 한 행씩 전송 (드라이버가 결과를 메모리에 모으지 않음)
+     * - 그 외: batch.jdbc.stream.fetch-size 단위로 가져옴
+     * - 콜백 안에서 같은 커넥션으로 다른 쿼리 실행 금지 (MySQL 스트리밍 중에는 커넥션 점유)
+     */
+    public void forEachRow(String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(streamingStatement(sql, args), handler);
+    }
+
+    /**
+     * SELECT (스트리밍 결과셋, Stream)
+     * - 결과셋/커넥션은 Stream close 시 반환 → 반드시 try-with-resources로 사용
+     */
+    public <T> Stream<T> stream(String sql, RowMapper<T> rowMapper, Object... args) {
+        return jdbcTemplate.queryForStream(streamingStatement(sql, args), rowMapper);
+    }
+
+    private PreparedStatementCreator streamingStatement(String sql, Object[] args) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(con.isWrapperFor(JdbcConnection.class) ? Integer.MIN_VALUE : streamFetchSize);
+            bind(ps, args);
+            return ps;
+        };
+    }
+
     /**
      * SELECT (IN 절 배치 분할 조회)
      * SQL 템플릿에 '%s' 플레이스홀더 필요: "SELECT * FROM table WHERE id IN (%s)"
@@ -141,6 +895,387 @@ public class JdbcExecutor {
         return result;
     }
 
+    /**
+     * 키 → ID 조회 (기본 IN 절 크기)
+     */
+    public Map<String, Long> lookupIds(
+            String table,
+            String keyColumn,
+            String idColumn,
+            Collection<String> keys
+    ) {
+        return lookupLongs(table, keyColumn, idColumn, keys, lookupBatchSize);
+    }
+
+    /**
+     * 키 → ID 조회 (lookupLongs와 같은 경로, idColumn은 PK/ID 컬럼)
+     *
+     * @param batchSize IN 절 / 임시 테이블 적재 배치 크기
+     */
+    public Map<String, Long> lookupIds(
+            String table,
+            String keyColumn,
+            String idColumn,
+            Collection<String> keys,
+            int batchSize
+    ) {
+        return lookupLongs(table, keyColumn, idColumn, keys, batchSize);
+    }
+
+    /**
+     * 키 → BIGINT 컬럼 값 조회 (기본 IN 절 크기)
+     */
+    public Map<String, Long> lookupLongs(
+            String table,
+            String keyColumn,
+            String valueColumn,
+            Collection<String> keys
+    ) {
+        return lookupLongs(table, keyColumn, valueColumn, keys, lookupBatchSize);
+    }
+
+    /**
+     * 키 → BIGINT 컬럼 값 조회 (SELECT keyColumn, valueColumn FROM table WHERE keyColumn IN keys)
+     * - 키가 temp-table-threshold 이상이고 MySQL이면 세션 임시 테이블에 키를 적재 후 JOIN 한 번
+     * - 그 외: batchSize 단위 IN 절, 자투리 청크는 2의 거듭제곱 크기로 채워(마지막 키 반복)
+     *   SQL 문자열 종류를 log2(batchSize)개 수준으로 유지
+     *   (현재 URL은 클라이언트 측 prepared statement라 서버 재사용은 없음 → 문장 캐시/쿼리 다이제스트가 늘지 않는 정도)
+     * - 없는 키는 결과에 없음
+     *
+     * @param batchSize IN 절 / 임시 테이블 적재 배치 크기
+     */
+    public Map<String, Long> lookupLongs(
+            String table,
+            String keyColumn,
+            String valueColumn,
+            Collection<String> keys,
+            int batchSize
+    ) {
+        if (keys == null || keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<String> distinctKeys = keys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (distinctKeys.size() >= lookupTempTableThreshold && lookupTempTableAvailable) {
+            Map<String, Long> joined = lookupLongsByTempTable(table, keyColumn, valueColumn, distinctKeys, batchSize);
+            if (joined != null) {
+                return joined;
+            }
+        }
+        return lookupLongsByInList(table, keyColumn, valueColumn, distinctKeys, batchSize);
+    }
+
+    private Map<String, Long> lookupLongsByInList(
+            String table,
+            String keyColumn,
+            String valueColumn,
+            List<String> keys,
+            int batchSize
+    ) {
+        Map<String, Long> result = new HashMap<>(keys.size() * 2);
+        queryByKeys(
+                "SELECT " + keyColumn + ", " + valueColumn + " FROM " + table + " WHERE " + keyColumn + " IN (",
+                keys,
+                batchSize,
+                rs -> result.put(rs.getString(1), rs.getLong(2))
+        );
+        return result;
+    }
+
+    /**
+     * selectPrefix + "?,?,...)" 형태로 batchSize 단위 조회 (자투리 청크는 paddedSize로 채움)
+     */
+    private void queryByKeys(String selectPrefix, List<?> keys, int batchSize, RowCallbackHandler handler) {
+        for (int i = 0; i < keys.size(); i += batchSize) {
+            List<?> chunk = keys.subList(i, Math.min(i + batchSize, keys.size()));
+            int placeholders = paddedSize(chunk.size(), batchSize);
+            Object[] args = new Object[placeholders];
+            for (int j = 0; j < placeholders; j++) {
+                args[j] = chunk.get(Math.min(j, chunk.size() - 1));
+            }
+            String sql = selectPrefix + String.join(",", Collections.nCopies(placeholders, "?")) + ")";
+            jdbcTemplate.query(sql, handler, args);
+        }
+    }
+
+    static int paddedSize(int size, int batchSize) {
+        if (size >= batchSize) {
+            return batchSize;
+        }
+        int padded = Integer.highestOneBit(Math.max(1, size));
+        if (padded < size) {
+            padded <<= 1;
+        }
+        return Math.min(padded, batchSize);
+    }
+
+    /**
+     * 세션 임시 테이블 JOIN 조회
+     * - 키 컬럼 정의(타입, collation)를 원본 테이블에서 복사 → JOIN 시 인덱스 사용
+     * - 같은 커넥션에서 생성/적재/조회/삭제 (ConnectionCallback)
+     *
+     * @return 조회 결과 (MySQL이 아니거나 실패 시 null → 호출 측 IN 절 폴백)
+     */
+    private Map<String, Long> lookupLongsByTempTable(
+            String table,
+            String keyColumn,
+            String valueColumn,
+            List<String> keys,
+            int batchSize
+    ) {
+        String tempTable = "tmp_lookup_" + table;
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) con -> {
+                if (!con.isWrapperFor(JdbcConnection.class)) {
+                    return null;
+                }
+                try (Statement statement = con.createStatement()) {
+                    statement.execute("DROP TEMPORARY TABLE IF EXISTS " + tempTable);
+                    statement.execute("CREATE TEMPORARY TABLE " + tempTable + " (PRIMARY KEY (lookup_key))"
+                            + " SELECT " + keyColumn + " AS lookup_key FROM " + table + " LIMIT 0");
+                }
+                try {
+                    try (PreparedStatement ps = con.prepareStatement(
+                            "INSERT IGNORE INTO " + tempTable + " (lookup_key) VALUES (?)")) {
+                        int pending = 0;
+                        for (String key : keys) {
+                            ps.setString(1, key);
+                            ps.addBatch();
+                            if (++pending == batchSize) {
+                                ps.executeBatch();
+                                pending = 0;
+                            }
+                        }
+                        if (pending > 0) {
+                            ps.executeBatch();
+                        }
+                    }
+
+                    Map<String, Long> result = new HashMap<>(keys.size() * 2);
+                    try (PreparedStatement ps = con.prepareStatement(
+                            "SELECT t." + keyColumn + ", t." + valueColumn + " FROM " + table + " t"
+                                    + " JOIN " + tempTable + " k ON t." + keyColumn + " = k.lookup_key");
+                         ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            result.put(rs.getString(1), rs.getLong(2));
+                        }
+                    }
+                    return result;
+                } finally {
+                    try (Statement statement = con.createStatement()) {
+                        statement.execute("DROP TEMPORARY TABLE IF EXISTS " + tempTable);
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            if (isTempTableNotAllowed(e)) {
+                log.warn("[JDBC] 임시 테이블 사용 불가 - 이후 IN 절 조회: {}", e.getMostSpecificCause().getMessage());
+                lookupTempTableAvailable = false;
+            } else {
+                log.warn("[JDBC] 임시 테이블 조회 실패 - 이번 조회만 IN 절로 전환: {}", e.getMostSpecificCause().getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 권한/서버 설정으로 임시 테이블 생성이 거부된 오류인지
+     */
+    static boolean isTempTableNotAllowed(DataAccessException e) {
+        SQLException sqlException = BulkWriteResult.findSqlException(e);
+        return sqlException != null && TEMP_TABLE_NOT_ALLOWED_ERRORS.contains(sqlException.getErrorCode());
+    }
+
+    /**
+     * Bulk UPSERT + 변경 감지
+     * - 키로 현재 값을 먼저 조회 → 없는 행 INSERTED, 가드 컬럼이 다른 행 UPDATED, 같으면 UNCHANGED (쓰기 생략)
+     * - 바뀐 행만 INSERT ... ON DUPLICATE KEY UPDATE 실행 (touchColumn도 이 행들만 갱신)
+     * - 쓰기는 executeIsolating → 값 오류 행은 REJECTED
+     * - 조회와 쓰기 사이 다른 작업이 같은 행을 바꾸면 결과가 어긋날 수 있음 (배치 단독 쓰기 전제)
+     * - 같은 키가 여러 번 들어오면 호출 측에서 먼저 제거
+     *
+     * @param rowValues 항목 → spec.columns 순서의 값 배열
+     */
+    public <T> UpsertResult<T> upsert(UpsertSpec spec, Collection<T> items, Function<T, Object[]> rowValues) {
+        return writeChanged(spec, items, rowValues, true);
+    }
+
+    /**
+     * Bulk UPDATE + 변경 감지 (없는 행은 MISSING, INSERT 하지 않음)
+     * - UPDATE table SET updateColumns... WHERE key = ? 를 바뀐 행에만 실행
+     */
+    public <T> UpsertResult<T> updateChanged(UpsertSpec spec, Collection<T> items, Function<T, Object[]> rowValues) {
+        return writeChanged(spec, items, rowValues, false);
+    }
+
+    private <T> UpsertResult<T> writeChanged(
+            UpsertSpec spec,
+            Collection<T> items,
+            Function<T, Object[]> rowValues,
+            boolean insertMissing
+    ) {
+        if (items == null || items.isEmpty()) {
+            return UpsertResult.empty();
+        }
+
+        List<T> itemList = items instanceof List
+                ? (List<T>) items
+                : new ArrayList<>(items);
+        int keyIndex = spec.keyIndex();
+        int[] updateIndexes = spec.updateIndexes();
+        // 긴 TEXT 가드 컬럼은 값 대신 MD5만 읽어 비교 (MySQL, 아니면 값 그대로)
+        boolean hashed = !spec.hashedColumns().isEmpty() && isMySql();
+        boolean[] hashedFlags = hashed ? spec.hashedFlags() : new boolean[updateIndexes.length];
+
+        // 1. 행 값 계산 + 현재 값 조회
+        List<Object[]> rows = new ArrayList<>(itemList.size());
+        Map<String, Object> distinctKeys = new LinkedHashMap<>();
+        for (T item : itemList) {
+            Object[] row = rowValues.apply(item);
+            rows.add(row);
+            distinctKeys.putIfAbsent(String.valueOf(row[keyIndex]), row[keyIndex]);
+        }
+
+        Map<String, Object[]> current = new HashMap<>(distinctKeys.size() * 2);
+        queryByKeys(spec.selectCurrentPrefix(hashed), new ArrayList<>(distinctKeys.values()), lookupBatchSize, rs -> {
+            Object[] values = new Object[updateIndexes.length];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = readValue(rs.getObject(j + 2));
+            }
+            current.put(String.valueOf(rs.getObject(1)), values);
+        });
+
+        // 2. 행별 분류
+        UpsertResult.Outcome[] outcomes = new UpsertResult.Outcome[itemList.size()];
+        List<Integer> toWrite = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            Object[] stored = current.get(String.valueOf(row[keyIndex]));
+            if (stored == null) {
+                outcomes[i] = insertMissing ? UpsertResult.Outcome.INSERTED : UpsertResult.Outcome.MISSING;
+            } else if (sameValues(stored, row, updateIndexes, hashedFlags)) {
+                outcomes[i] = UpsertResult.Outcome.UNCHANGED;
+            } else {
+                outcomes[i] = UpsertResult.Outcome.UPDATED;
+            }
+            if (outcomes[i] == UpsertResult.Outcome.INSERTED || outcomes[i] == UpsertResult.Outcome.UPDATED) {
+                toWrite.add(i);
+            }
+        }
+
+        // 3. 바뀐 행만 쓰기
+        List<BulkWriteResult.RejectedRow<T>> rejects = new ArrayList<>();
+        if (!toWrite.isEmpty()) {
+            PreparedStatementSetter<Integer> setter = insertMissing
+                    ? (ps, index) -> bind(ps, rows.get(index))
+                    : (ps, index) -> {
+                        Object[] row = rows.get(index);
+                        for (int j = 0; j < updateIndexes.length; j++) {
+                            ps.setObject(j + 1, row[updateIndexes[j]]);
+                        }
+                        ps.setObject(updateIndexes.length + 1, row[keyIndex]);
+                    };
+            BulkWriteResult<Integer> written = executeIsolating(
+                    insertMissing ? spec.upsertSql() : spec.updateSql(), toWrite, setter);
+            for (BulkWriteResult.RejectedRow<Integer> reject : written.rejects()) {
+                int index = reject.item();
+                outcomes[index] = UpsertResult.Outcome.REJECTED;
+                rejects.add(new BulkWriteResult.RejectedRow<>(
+                        itemList.get(index), reject.sqlState(), reject.errorCode(), reject.message()));
+            }
+        }
+
+        UpsertResult<T> result = new UpsertResult<>(
+                Collections.unmodifiableList(itemList), Arrays.asList(outcomes), List.copyOf(rejects));
+        log.debug("[JDBC] {} 변경 감지 쓰기 - 추가: {}, 갱신: {}, 동일: {}, 없음: {}, 거부: {}",
+                spec.table(),
+                result.count(UpsertResult.Outcome.INSERTED), result.count(UpsertResult.Outcome.UPDATED),
+                result.count(UpsertResult.Outcome.UNCHANGED), result.count(UpsertResult.Outcome.MISSING),
+                result.count(UpsertResult.Outcome.REJECTED));
+        return result;
+    }
+
+    private static boolean sameValues(Object[] stored, Object[] row, int[] updateIndexes, boolean[] hashedFlags) {
+        for (int j = 0; j < updateIndexes.length; j++) {
+            Object value = row[updateIndexes[j]];
+            if (!sameValue(stored[j], hashedFlags[j] ? md5Hex(value) : value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * MySQL MD5(column)과 같은 형식 (UTF-8 바이트의 소문자 16진수, null은 null)
+     * - 컬럼 문자셋이 utf8mb4가 아니면 항상 다르게 나옴 → 불필요한 UPDATE만 생기고 누락은 없음
+     */
+    static String md5Hex(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5")
+                    .digest(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 미지원 JVM", e);
+        }
+    }
+
+    private boolean isMySql() {
+        Boolean detected = mySql;
+        if (detected == null) {
+            detected = Boolean.TRUE.equals(jdbcTemplate.execute(
+                    (ConnectionCallback<Boolean>) con -> con.isWrapperFor(JdbcConnection.class)));
+            mySql = detected;
+        }
+        return detected;
+    }
+
+    /**
+     * DB 값과 바인딩 값 비교 (숫자는 값 비교, 날짜는 java.time 기준, TINYINT(1)/BOOLEAN 호환)
+     */
+    static boolean sameValue(Object stored, Object value) {
+        if (stored == null || value == null) {
+            return stored == value;
+        }
+        if (stored instanceof Number a && value instanceof Number b) {
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString())) == 0;
+        }
+        if (stored instanceof Boolean || value instanceof Boolean) {
+            return toBoolean(stored) == toBoolean(value);
+        }
+        if (stored instanceof byte[] a && value instanceof byte[] b) {
+            return Arrays.equals(a, b);
+        }
+        return String.valueOf(toComparable(stored)).equals(String.valueOf(toComparable(value)));
+    }
+
+    private static boolean toBoolean(Object value) {
+        return value instanceof Number number ? number.intValue() != 0 : Boolean.parseBoolean(value.toString());
+    }
+
+    private static Object toComparable(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value instanceof Temporal ? value : value.toString();
+    }
+
+    private static Object readValue(Object value) throws SQLException {
+        if (value instanceof Clob clob) {
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return value;
+    }
+
     @FunctionalInterface
     public interface PreparedStatementSetter<T> {
         void setValues(PreparedStatement ps, T item) throws SQLException;
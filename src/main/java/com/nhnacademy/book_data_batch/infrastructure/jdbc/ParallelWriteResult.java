@@ -0,0 +1,43 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * JdbcExecutor.executeParallel 결과
+ * - 파티션(서브 배치)별로 독립 커밋되므로 실패한 파티션만 failures에 담김
+ * - fromIndex/toIndex는 (정렬 후) 입력 목록 기준 [from, to) 구간
+ * </pre>
+ */
+public record ParallelWriteResult(
+        int partitions,
+        long writtenRows,
+        List<PartitionFailure> failures
+) {
+
+    public record PartitionFailure(
+            int partition,
+            int fromIndex,
+            int toIndex,
+            RuntimeException cause
+    ) {
+    }
+
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 실패한 파티션이 있으면 첫 예외를 던짐 (나머지는 suppressed)
+     */
+    public void throwIfFailed() {
+        if (failures.isEmpty()) {
+            return;
+        }
+        RuntimeException first = failures.get(0).cause();
+        for (int i = 1; i < failures.size(); i++) {
+            first.addSuppressed(failures.get(i).cause());
+        }
+        throw first;
+    }
+}
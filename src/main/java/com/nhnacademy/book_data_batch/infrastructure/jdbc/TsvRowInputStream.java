@@ -0,0 +1,123 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * TsvRowInputStream
+ * - 항목을 읽히는 시점에 한 행씩 TSV로 인코딩하는 InputStream (LOAD DATA LOCAL INFILE 입력)
+ * - 전체 TSV를 메모리나 임시 파일에 만들지 않음
+ *
+ * [인코딩 규칙] MySQL LOAD DATA 기본값과 동일
+ * - 필드 구분 \t, 행 구분 \n, NULL → \N
+ * - 역슬래시, 탭, 줄바꿈, CR, NUL 문자는 역슬래시 escape
+ * - Boolean → 1/0, 날짜/숫자 → toString()
+ * </pre>
+ */
+class TsvRowInputStream extends InputStream {
+
+    private final Iterator<?> iterator;
+    private final Function<Object, Object[]> rowValues;
+    private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream(256);
+
+    private byte[] current = new byte[0];
+    private int position;
+
+    @SuppressWarnings("unchecked")
+    <T> TsvRowInputStream(Iterator<T> iterator, Function<T, Object[]> rowValues) {
+        this.iterator = iterator;
+        this.rowValues = (Function<Object, Object[]>) rowValues;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int written = 0;
+        while (written < len && fill()) {
+            int n = Math.min(len - written, current.length - position);
+            System.arraycopy(current, position, bytes, off + written, n);
+            position += n;
+            written += n;
+        }
+        return written == 0 ? -1 : written;
+    }
+
+    private boolean fill() {
+        while (position >= current.length) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = encode(rowValues.apply(iterator.next()));
+            position = 0;
+        }
+        return true;
+    }
+
+    private byte[] encode(Object[] values) {
+        rowBuffer.reset();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                rowBuffer.write('\t');
+            }
+            writeValue(values[i]);
+        }
+        rowBuffer.write('\n');
+        return rowBuffer.toByteArray();
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            rowBuffer.write('\\');
+            rowBuffer.write('N');
+            return;
+        }
+        if (value instanceof Boolean bool) {
+            rowBuffer.write(bool ? '1' : '0');
+            return;
+        }
+        if (value instanceof Number || value instanceof TemporalAccessor || value instanceof java.util.Date) {
+            rowBuffer.writeBytes(value.toString().getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        String text = value.toString();
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\0' -> "\\0";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 8).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        rowBuffer.writeBytes((escaped != null ? escaped.toString() : text).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * JdbcExecutor.upsert / updateChanged 결과 (입력 순서대로 행별 결과)
+ * - INSERTED: 새 행 추가
+ * - UPDATED: 가드 컬럼 중 하나 이상이 달라 갱신
+ * - UNCHANGED: 가드 컬럼이 모두 같아 쓰기 생략
+ * - MISSING: updateChanged에서 키에 해당하는 행이 없음
+ * - REJECTED: 값 오류로 거부 (rejects에 SQLState 포함)
+ * </pre>
+ */
+public record UpsertResult<T>(
+        List<T> items,
+        List<Outcome> outcomes,
+        List<BulkWriteResult.RejectedRow<T>> rejects
+) {
+
+    public enum Outcome { INSERTED, UPDATED, UNCHANGED, MISSING, REJECTED }
+
+    public static <T> UpsertResult<T> empty() {
+        return new UpsertResult<>(List.of(), List.of(), List.of());
+    }
+
+    public int count(Outcome outcome) {
+        int count = 0;
+        for (Outcome each : outcomes) {
+            if (each == outcome) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public List<T> itemsWith(Outcome outcome) {
+        List<T> matched = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (outcomes.get(i) == outcome) {
+                matched.add(items.get(i));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 실제로 쓰인 행 (INSERTED + UPDATED) → 재색인 등 후속 처리 대상
+     */
+    public List<T> changedItems() {
+        List<T> changed = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome == Outcome.INSERTED || outcome == Outcome.UPDATED) {
+                changed.add(items.get(i));
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <pre>
+ * JdbcExecutor.upsert / updateChanged 대상 정의
+ * - keyColumn: 행을 식별하는 유일 키 컬럼 (columns에 포함)
+ * - columns: rowValues 배열 순서의 컬럼 (INSERT 컬럼)
+ * - updateColumns: 기존 행이면 갱신할 컬럼 = 변경 여부를 비교하는 컬럼 (가드)
+ * - touchColumn: 실제로 바뀐 행에만 CURRENT_DATE로 기록할 컬럼 (없으면 null)
+ * - hashedColumns: 현재 값 대신 MD5만 읽어 비교할 가드 컬럼 (TEXT 등 긴 컬럼, MySQL에서만 적용)
+ * </pre>
+ */
+public record UpsertSpec(
+        String table,
+        String keyColumn,
+        List<String> columns,
+        List<String> updateColumns,
+        String touchColumn,
+        List<String> hashedColumns
+) {
+
+    public UpsertSpec {
+        columns = List.copyOf(columns);
+        updateColumns = List.copyOf(updateColumns);
+        hashedColumns = List.copyOf(hashedColumns);
+        if (!columns.contains(keyColumn)) {
+            throw new IllegalArgumentException("columns에 키 컬럼이 없음: " + keyColumn);
+        }
+        if (!columns.containsAll(updateColumns)) {
+            throw new IllegalArgumentException("updateColumns는 columns의 부분집합이어야 함: " + updateColumns);
+        }
+        if (!updateColumns.containsAll(hashedColumns)) {
+            throw new IllegalArgumentException("hashedColumns는 updateColumns의 부분집합이어야 함: " + hashedColumns);
+        }
+    }
+
+    public static UpsertSpec of(String table, String keyColumn, List<String> columns, List<String> updateColumns) {
+        return new UpsertSpec(table, keyColumn, columns, updateColumns, null, List.of());
+    }
+
+    public UpsertSpec touching(String column) {
+        return new UpsertSpec(table, keyColumn, columns, updateColumns, column, hashedColumns);
+    }
+
+    public UpsertSpec hashing(String... columns) {
+        return new UpsertSpec(table, keyColumn, this.columns, updateColumns, touchColumn, List.of(columns));
+    }
+
+    int keyIndex() {
+        return columns.indexOf(keyColumn);
+    }
+
+    int[] updateIndexes() {
+        int[] indexes = new int[updateColumns.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = columns.indexOf(updateColumns.get(i));
+        }
+        return indexes;
+    }
+
+    /**
+     * SELECT key, updateColumns... FROM table WHERE key IN (
+     */
+    String selectCurrentPrefix() {
+        return selectCurrentPrefix(false);
+    }
+
+    /**
+     * @param hashed true면 hashedColumns는 MD5(column)으로 조회 (MySQL)
+     */
+    String selectCurrentPrefix(boolean hashed) {
+        List<String> selected = new ArrayList<>(updateColumns.size());
+        for (String column : updateColumns) {
+            selected.add(hashed && hashedColumns.contains(column) ? "MD5(" + column + ")" : column);
+        }
+        return "SELECT " + keyColumn + ", " + String.join(", ", selected)
+                + " FROM " + table + " WHERE " + keyColumn + " IN (";
+    }
+
+    /**
+     * updateColumns 순서로 hashedColumns 여부
+     */
+    boolean[] hashedFlags() {
+        boolean[] flags = new boolean[updateColumns.size()];
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = hashedColumns.contains(updateColumns.get(i));
+        }
+        return flags;
+    }
+
+    /**
+     * INSERT INTO table (columns) VALUES (?, ...) ON DUPLICATE KEY UPDATE c = VALUES(c), ...
+     */
+    String upsertSql() {
+        List<String> assignments = new ArrayList<>();
+        for (String column : updateColumns) {
+            assignments.add(column + " = VALUES(" + column + ")");
+        }
+        if (touchColumn != null) {
+            assignments.add(touchColumn + " = CURRENT_DATE");
+        }
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")"
+                + " ON DUPLICATE KEY UPDATE " + String.join(", ", assignments);
+    }
+
+    /**
+     * UPDATE table SET c = ?, ... WHERE key = ? (바인딩: updateColumns 순서 + 키)
+     */
+    String updateSql() {
+        List<String> assignments = new ArrayList<>();
+        for (String column : updateColumns) {
+            assignments.add(column + " = ?");
+        }
+        if (touchColumn != null) {
+            assignments.add(touchColumn + " = CURRENT_DATE");
+        }
+        return "UPDATE " + table + " SET " + String.join(", ", assignments) + " WHERE " + keyColumn + " = ?";
+    }
+}
@@ -1,5 +1,8 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.config;
 
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
+import com.nhnacademy.book_data_batch.global.batch.IsbnExistenceIndexListener;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,9 @@ public class AladinNewBookImportJobConfig {
 
     private final JobRepository jobRepository;
     private final AladinQuotaTracker aladinQuotaTracker;
+    private final AladinKeyScheduler aladinKeyScheduler;
+    private final IsbnExistenceIndexListener isbnExistenceIndexListener;
+    private final PublisherDictionary publisherDictionary;
 
     @Bean
     public Job aladinNewBookImportJob(
@@ -37,8 +43,17 @@ public class AladinNewBookImportJobConfig {
                     @Override
                     public void beforeJob(@Nonnull JobExecution jobExecution) {
                         aladinQuotaTracker.reset();
+                        aladinKeyScheduler.reset();
+                        publisherDictionary.clear();        // 이전 실행 이후 바뀐 출판사는 첫 사용 시 DB에서 다시 적재
+                    }
+
+                    @Override
+                    public void afterJob(@Nonnull JobExecution jobExecution) {
+                        aladinQuotaTracker.releaseLeases(); // 남은 블록은 다른 실행/인스턴스가 쓰도록 반납
+                        publisherDictionary.clear();        // 실행 사이에는 사전을 들고 있지 않음
                     }
                 })
+                .listener(isbnExistenceIndexListener)
                 .start(aladinFetchStep)
                 .next(aladinEnrichmentStep)
                 .next(embeddingEnrichmentStep)
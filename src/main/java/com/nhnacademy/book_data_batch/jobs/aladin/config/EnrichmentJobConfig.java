@@ -1,5 +1,6 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.config;
 
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ public class EnrichmentJobConfig {
     private final JobRepository jobRepository;
 
     private final AladinQuotaTracker aladinQuotaTracker;
+    private final AladinKeyScheduler aladinKeyScheduler;
 
     @Bean
     public Job aladinEnrichmentJob(
@@ -34,6 +36,12 @@ public class EnrichmentJobConfig {
                     @Override
                     public void beforeJob(@Nonnull JobExecution jobExecution) {
                         aladinQuotaTracker.reset();
+                        aladinKeyScheduler.reset();
+                    }
+
+                    @Override
+                    public void afterJob(@Nonnull JobExecution jobExecution) {
+                        aladinQuotaTracker.releaseLeases(); // 남은 블록은 다른 실행/인스턴스가 쓰도록 반납
                     }
                 })
                 .start(aladinEnrichmentStep)
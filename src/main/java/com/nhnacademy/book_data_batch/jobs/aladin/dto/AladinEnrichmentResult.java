@@ -7,7 +7,8 @@ import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
  * Processor에서 다음 Step으로 전달되는 데이터
  *
  * @param target 원본 BookBatchTarget DTO
- * @param itemDto 알라딘 API 응답 아이템 (성공적으로 데이터를 찾았을 경우)
+ * @param itemDto 알라딘 API 응답 아이템 (enrichment가 없을 때만, Writer에서 변환)
+ * @param enrichment 응답을 변환한 저장용 DTO (비동기 단계에서 미리 변환 → itemDto는 null로 두어 Chunk 메모리 절약)
  * @param isSuccess 처리 성공 여부 (데이터가 없거나, 상품 없어도 isSuccess는 true)
  * @param errorMessage 오류 메시지 (실패했을 경우)
  * @param isRetryable 실패 시 재시도 가능한 오류인지 여부
@@ -15,7 +16,14 @@ import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
 public record AladinEnrichmentResult(
     BookBatchTarget target, // 변경: Batch 대신 BookBatchTarget
     AladinItemDto itemDto,
+    EnrichmentSuccessDto enrichment,
     boolean isSuccess,
     String errorMessage,
     boolean isRetryable
-) {}
+) {
+
+    public AladinEnrichmentResult(BookBatchTarget target, AladinItemDto itemDto, boolean isSuccess,
+                                  String errorMessage, boolean isRetryable) {
+        this(target, itemDto, null, isSuccess, errorMessage, isRetryable);
+    }
+}
@@ -18,11 +18,14 @@ public record AladinResponseDto(
         Integer errorCode,
         String errorMessage
 ) {
+    /** 일일 쿼터 초과 에러 코드 (당일에는 해당 키로 더 이상 호출 불가) */
+    public static final int QUOTA_EXCEEDED_ERROR_CODE = 10;
+
     public boolean hasError() {
         return errorCode != null;
     }
 
     public boolean isQuotaExceeded() {
-        return errorCode != null && errorCode == 10;
+        return errorCode != null && errorCode == QUOTA_EXCEEDED_ERROR_CODE;
     }
 }
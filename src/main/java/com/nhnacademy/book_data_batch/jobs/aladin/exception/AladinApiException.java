@@ -0,0 +1,19 @@
+package com.nhnacademy.book_data_batch.jobs.aladin.exception;
+
+import lombok.Getter;
+
+/**
+ * 알라딘 API가 에러 응답(HTTP 200 + errorCode) 또는 빈 응답을 돌려줬을 때 발생하는 예외
+ * - 일일 쿼터 초과는 RateLimitExceededException으로 따로 처리
+ * - "결과 없음"과 구분하기 위한 예외 → 조회 캐시에 저장하지 않음, 재시도 가능
+ */
+@Getter
+public class AladinApiException extends RuntimeException {
+
+    private final Integer errorCode;
+
+    public AladinApiException(Integer errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
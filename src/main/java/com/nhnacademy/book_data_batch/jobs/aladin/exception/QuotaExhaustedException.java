@@ -0,0 +1,12 @@
+package com.nhnacademy.book_data_batch.jobs.aladin.exception;
+
+/**
+ * 모든 API 키의 일일 쿼터가 소진되어 호출할 키가 없을 때 발생하는 예외
+ * - 당일에는 재시도해도 실패 → 호출 측에서 전체 소진 처리
+ */
+public class QuotaExhaustedException extends RuntimeException {
+
+    public QuotaExhaustedException(String message) {
+        super(message);
+    }
+}
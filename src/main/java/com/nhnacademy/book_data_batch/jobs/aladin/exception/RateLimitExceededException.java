@@ -1,5 +1,6 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.exception;
 
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
 import lombok.Getter;
 
 /**
@@ -17,4 +18,11 @@ public class RateLimitExceededException extends RuntimeException {
         this.apiKey = apiKey;
         this.httpStatusCode = httpStatusCode;
     }
+
+    /**
+     * 알라딘 일일 쿼터 초과 응답인지 (해당 키는 당일 재시도해도 계속 실패)
+     */
+    public boolean isDailyQuotaExceeded() {
+        return httpStatusCode == AladinResponseDto.QUOTA_EXCEEDED_ERROR_CODE;
+    }
 }
@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.jobs.aladin.processor;
 
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.AladinFetchWrapper;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
 import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.entity.Category;
@@ -21,6 +22,7 @@ public class AladinFetchProcessor implements ItemProcessor<AladinItemDto, Aladin
 
     private final CategoryRepository categoryRepository;
     private final IsbnResolver isbnResolver;
+    private final IsbnExistenceIndex isbnExistenceIndex;
 
     @Override
     public AladinFetchWrapper process(AladinItemDto item) {
@@ -31,6 +33,11 @@ public class AladinFetchProcessor implements ItemProcessor<AladinItemDto, Aladin
             return null; // Skip
         }
 
+        // 이미 등록된 도서는 DB 쓰기 전에 제외
+        if (isbnExistenceIndex.contains(isbn)) {
+            return null;
+        }
+
         // 2. 카테고리 매핑 (KDC Code '005'인 카테고리 조회)
         // TODO: 카테고리 설정 필요 (테스트도 같이 수정해야 함)
         Category category = categoryRepository.findByKdcCode("005")
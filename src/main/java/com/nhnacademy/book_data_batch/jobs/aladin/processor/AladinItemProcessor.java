@@ -2,26 +2,31 @@ package com.nhnacademy.book_data_batch.jobs.aladin.processor;
 
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.BookBatchTarget;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinApiClient;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinLookupCache;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.AladinEnrichmentResult;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.exception.AladinApiException;
+import com.nhnacademy.book_data_batch.jobs.aladin.exception.QuotaExhaustedException;
 import com.nhnacademy.book_data_batch.jobs.aladin.exception.RateLimitExceededException;
+import com.nhnacademy.book_data_batch.jobs.aladin.mapper.AladinDataMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * BookBatchTarget DTO를 입력받아 Aladin API를 호출하고, 그 결과를 AladinEnrichmentResult로 반환하는 ItemProcessor.
  * API 호출 성공/실패 여부, 재시도 가능 여부 등을 AladinEnrichmentResult에 담아 다음 Step으로 전달한다.
- * AsyncItemProcessor가 이 Processor를 감싸서 비동기로 실행한다.
- * 쿼터 소진 시 Global Flag를 설정하고 이후 아이템들을 조용히 스킵한다.
+ * AsyncItemProcessor가 이 Processor를 감싸서 가상 스레드에서 비동기로 실행한다.
+ * - 조회 결과는 AladinLookupCache에 캐시 → 이미 조회한 ISBN은 키/쿼터를 쓰지 않음
+ * - API 키 선택/속도 제한/일일 쿼터 차감은 AladinKeyScheduler가 담당 (키별 토큰 버킷이 호출 속도를 제한)
+ * - 응답 → EnrichmentSuccessDto 변환(저자 파싱 포함)도 여기서 수행 → 단일 Writer 스레드 부담 감소
+ * 일일 쿼터 초과 응답을 받은 키는 당일 제외(그 밖의 속도 제한은 쿨다운)하고, 모든 키의 쿼터가 소진됐을 때만 Global Flag를 설정해 이후 아이템들을 조용히 스킵한다.
  */
 @Slf4j
 @Component
@@ -32,56 +37,63 @@ public class AladinItemProcessor implements ItemProcessor<BookBatchTarget, Aladi
 
     private final AladinApiClient aladinApiClient;
     private final AladinQuotaTracker aladinQuotaTracker;
-
-    @Value("${aladin.api.keys}")
-    private List<String> aladinApiKeys; // JobConfig에서 주입받음
-
-    // 여러 API 키를 순환하며 사용하기 위한 인덱스
-    private final AtomicInteger keyIndex = new AtomicInteger(0);
+    private final AladinKeyScheduler aladinKeyScheduler;
+    private final AladinLookupCache aladinLookupCache;
+    private final AladinDataMapper aladinDataMapper;
 
     @Override
     public AladinEnrichmentResult process(BookBatchTarget target) throws Exception {
-        // 글로벌 쿼터 소진 플래그 확인 -> null(Skip)이 아닌 실패 결과 반환하여 Chunk를 빠르게 채워서 Writer로 보냄
-        if (aladinQuotaTracker.isQuotaExhausted()) {
-            return new AladinEnrichmentResult(target, null, false, QUOTA_EXHAUSTED_FLAG, true);
-        }
-        
         String isbn13 = target.isbn13();
         if (isbn13 == null || isbn13.isBlank()) {
             log.warn("[AladinItemProcessor] ISBN13이 비어 있습니다. Batch ID: {}", target.batchId());
             return new AladinEnrichmentResult(target, null, false, "ISBN13이 비어 있습니다.", false);
         }
 
-        String apiKey = getNextApiKey();
-
         try {
-            // 쿼터 확인 및 사용 시도 (Proactive Check)
-            if (!aladinQuotaTracker.tryAcquire(apiKey)) {
-                 log.warn("[AladinItemProcessor] API 키 {}의 쿼터가 소진되었습니다. Batch ID: {}. 이후 작업은 스킵됩니다.", apiKey, target.batchId());
-                 aladinQuotaTracker.setQuotaExhausted(true); // Global Flag 설정
-                 return new AladinEnrichmentResult(target, null, false, QUOTA_EXHAUSTED_FLAG, true);
-            }
-
-            Optional<AladinItemDto> aladinItemDto = aladinApiClient.lookupByIsbn(isbn13, apiKey);
+            Optional<AladinItemDto> aladinItemDto = aladinLookupCache.lookup(isbn13, () -> lookupWithKey(isbn13));
 
             if (aladinItemDto.isPresent()) {
                 log.debug("[AladinItemProcessor] ISBN {}에 대한 알라딘 데이터 찾음.", isbn13);
-                return new AladinEnrichmentResult(target, aladinItemDto.get(), true, null, false);
+                // 변환 결과만 넘김 (응답 아이템은 Writer까지 들고 가지 않음)
+                return new AladinEnrichmentResult(target, null, aladinDataMapper.map(target, aladinItemDto.get()), true, null, false);
             } else {
                 log.debug("[AladinItemProcessor] ISBN {}에 대한 알라딘 데이터를 찾을 수 없습니다. 성공으로 처리합니다.", isbn13);
                 return new AladinEnrichmentResult(target, null, true, "알라딘에서 찾을 수 없음", false);
             }
 
-        } catch (RateLimitExceededException e) {
-            // 알라딘 API 쿼터 초과 예외 (Reactive Check)
-            log.warn("[AladinItemProcessor] 알라딘 API 쿼터 초과 - ISBN: {}, 메시지: {}. 이후 작업은 스킵됩니다.", isbn13, e.getMessage());
+        } catch (QuotaExhaustedException e) {
+            // null(Skip)이 아닌 실패 결과 반환하여 Chunk를 빠르게 채워서 Writer로 보냄
+            if (aladinQuotaTracker.isQuotaExhausted()) {
+                return new AladinEnrichmentResult(target, null, false, QUOTA_EXHAUSTED_FLAG, true);
+            }
+            log.warn("[AladinItemProcessor] 모든 API 키의 쿼터가 소진되었습니다. Batch ID: {}. 이후 작업은 스킵됩니다.", target.batchId());
             aladinQuotaTracker.setQuotaExhausted(true); // Global Flag 설정
             return new AladinEnrichmentResult(target, null, false, QUOTA_EXHAUSTED_FLAG, true);
 
+        } catch (RateLimitExceededException e) {
+            // 알라딘 API 쿼터 초과 응답 (Reactive Check) -> 일일 쿼터면 해당 키 당일 제외, 아니면 쿨다운 후 다른 키로 계속 진행
+            log.warn("[AladinItemProcessor] 알라딘 API 쿼터 초과 - ISBN: {}, 메시지: {}", isbn13, e.getMessage());
+            if (e.isDailyQuotaExceeded()) {
+                aladinKeyScheduler.exhaust(e.getApiKey());
+            } else {
+                aladinKeyScheduler.cooldown(e.getApiKey());
+            }
+            return new AladinEnrichmentResult(target, null, false, "API 키 쿼터 초과: " + e.getMessage(), true);
+
+        } catch (AladinApiException e) {
+            // 알라딘 에러 응답 (결과 없음과 구분, 캐시에 저장되지 않음 → 재시도 가능)
+            log.warn("[AladinItemProcessor] 알라딘 API 에러 응답 - ISBN: {}, 메시지: {}", isbn13, e.getMessage());
+            return new AladinEnrichmentResult(target, null, false, "API 에러 응답: " + e.getMessage(), true);
+
         } catch (RestClientException e) {
             // 네트워크 오류, 타임아웃 등 (재시도 가능) -> AOP 로깅 처리
             return new AladinEnrichmentResult(target, null, false, "네트워크/API 호출 오류: " + e.getMessage(), true);
 
+        } catch (InterruptedException e) {
+            // Step 중단 등으로 키/토큰 대기 중 인터럽트 (재시도 가능)
+            Thread.currentThread().interrupt();
+            return new AladinEnrichmentResult(target, null, false, "호출 대기 중 중단됨", true);
+
         } catch (Exception e) {
             // 예측 불가능한 기타 오류 (코드 버그, 데이터 이상 등 -> 영구 실패) -> AOP 로깅 처리
             return new AladinEnrichmentResult(target, null, false, "알 수 없는 오류: " + e.getMessage(), false);
@@ -89,14 +101,21 @@ public class AladinItemProcessor implements ItemProcessor<BookBatchTarget, Aladi
     }
 
     /**
-     * Round Robin 방식으로 다음 API 키를 가져옵니다.
-     * 여러 스레드에서 동시에 호출될 수 있으므로 AtomicInteger를 사용합니다.
+     * 캐시에 없을 때만 실행 - 스케줄러에서 키(쿼터)를 받아 호출
+     * (쿼터가 소진된 뒤에도 캐시에 있는 ISBN은 계속 처리됨)
      */
-    private String getNextApiKey() {
-        if (aladinApiKeys == null || aladinApiKeys.isEmpty()) {
-            throw new IllegalStateException("Aladin API 키 목록이 비어 있습니다.");
+    private Optional<AladinItemDto> lookupWithKey(String isbn13) throws InterruptedException {
+        if (aladinQuotaTracker.isQuotaExhausted()) {
+            throw new QuotaExhaustedException("쿼터 소진 상태");
+        }
+        Optional<AladinKeyScheduler.Permit> acquired = aladinKeyScheduler.acquire();
+        if (acquired.isEmpty()) {
+            throw new QuotaExhaustedException("모든 API 키의 일일 쿼터가 소진되었습니다.");
+        }
+        try (AladinKeyScheduler.Permit permit = acquired.get()) {
+            Optional<AladinItemDto> item = aladinApiClient.lookupByIsbn(isbn13, permit.apiKey());
+            permit.succeeded();
+            return item;
         }
-        int currentIdx = keyIndex.getAndUpdate(operand -> (operand + 1) % aladinApiKeys.size());
-        return aladinApiKeys.get(currentIdx);
     }
 }
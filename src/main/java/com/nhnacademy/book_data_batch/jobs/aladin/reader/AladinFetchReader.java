@@ -1,93 +1,309 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.reader;
 
+import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinApiClient;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.exception.AladinApiException;
+import com.nhnacademy.book_data_batch.jobs.aladin.exception.RateLimitExceededException;
+import com.nhnacademy.book_data_batch.jobs.aladin.reader.AladinHighWaterMarkStore.Mark;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.util.StringUtils;
 
-import java.util.LinkedList;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+/**
+ * <pre>
+ * 알라딘 신간 목록 Reader (페이지 선조회)
+ * - 첫 페이지로 전체 페이지 수를 알아낸 뒤, 다음 prefetchPages개 페이지를 동시에 요청 (키는 AladinKeyScheduler가 분배)
+ * - 결과는 요청한 페이지 순서대로 전달, 한 페이지를 다 읽으면 창을 한 칸 밀어 다음 페이지 요청
+ * - 빈 페이지/응답 없음/쿼터 소진이면 선조회 중인 요청을 취소하고 종료
+ *
+ * 증분 조회 (기준점: AladinHighWaterMarkStore)
+ * - 목록은 최신 출간순 → 이미 본 도서(기준일 + 본 ISBN, 또는 기준일 이전 출간 + book에 있는 ISBN)는 건너뜀
+ *   (기준일 이전 출간이어도 목록에 늦게 올라온 도서는 book에 없으므로 다시 읽음)
+ * - ISBN은 IsbnResolver로 ISBN13으로 맞춰 비교, ISBN13으로 정할 수 없는 도서는 전달하지 않음 (Processor에서도 스킵됨)
+ * - 한 페이지가 전부 이미 본 도서면 종료 (기준점 근처에서는 선조회 없이 한 페이지씩)
+ * - Step이 끝까지(또는 기준점까지) 스킵 없이 정상 완료됐을 때만 이번에 본 최신 출간일로 기준점 갱신
+ *   (쿼터 소진/오류로 중간에 멈췄거나 스킵된 도서가 있으면 갱신하지 않음 → 다음 실행에서 다시 조회)
+ * </pre>
+ */
 @Slf4j
 @RequiredArgsConstructor
-public class AladinFetchReader implements ItemReader<AladinItemDto> {
+public class AladinFetchReader implements ItemStreamReader<AladinItemDto>, StepExecutionListener {
 
     private final AladinApiClient aladinApiClient;
     private final AladinQuotaTracker aladinQuotaTracker;
-    private final List<String> apiKeys;
+    private final AladinKeyScheduler aladinKeyScheduler;
+    private final AladinHighWaterMarkStore highWaterMarkStore;
+    private final BookRepository bookRepository;
+    private final IsbnResolver isbnResolver;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int prefetchPages;
 
-    private int currentPage = 1;
+    private final Deque<AladinItemDto> buffer = new ArrayDeque<>();
+    private final Deque<Future<Page>> window = new ArrayDeque<>();
+    private int nextPage = 1;
     private int maxPage = Integer.MAX_VALUE;
-    private final Queue<AladinItemDto> buffer = new LinkedList<>();
     private boolean isFirstCall = true;
-    private final AtomicInteger keyIndex = new AtomicInteger(0);
+    private boolean finished;
+    private boolean reachedEnd;     // 끝(또는 기준점)까지 정상적으로 읽음
+
+    private Mark mark = Mark.EMPTY;
+    private boolean nearMark;
+    private LocalDate newestPubDate;
+    private final Set<String> newestIsbns = new HashSet<>();
 
     @Override
-    public AladinItemDto read() throws Exception {
-        if (!buffer.isEmpty()) {
-            return buffer.poll();
+    public void open(ExecutionContext executionContext) {
+        buffer.clear();
+        window.clear();
+        nextPage = 1;
+        maxPage = Integer.MAX_VALUE;
+        isFirstCall = true;
+        finished = false;
+        reachedEnd = false;
+
+        mark = highWaterMarkStore.load(AladinApiClient.CATEGORY_ID);
+        nearMark = false;
+        newestPubDate = null;
+        newestIsbns.clear();
+        if (!mark.isEmpty()) {
+            log.info("[AladinFetchReader] 기준점 - 출간일: {}, ISBN: {}건", mark.pubDate(), mark.isbns().size());
         }
+    }
 
-        if (aladinQuotaTracker.isQuotaExhausted()) {
-            log.warn("[AladinFetchReader] 쿼터 소진으로 작업을 중단합니다.");
-            return null;
+    @Override
+    public AladinItemDto read() throws Exception {
+        while (buffer.isEmpty()) {
+            if (finished) {
+                return null;
+            }
+
+            if (aladinQuotaTracker.isQuotaExhausted()) {
+                log.warn("[AladinFetchReader] 쿼터 소진으로 작업을 중단합니다.");
+                finish();
+                return null;
+            }
+
+            if (window.isEmpty()) {
+                if (nextPage > maxPage) {
+                    log.info("[AladinFetchReader] 데이터 종료. Next: {}, Max: {}", nextPage, maxPage);
+                    reachedEnd = true;
+                    finish();
+                    return null;
+                }
+                fillWindow();
+            }
+
+            if (!accept(await(window.poll()))) {
+                finish();
+                return null;
+            }
+            fillWindow();
         }
 
-        if (currentPage > maxPage) {
-            log.info("[AladinFetchReader] 데이터 종료. Current: {}, Max: {}", currentPage, maxPage);
-            return null;
+        return buffer.poll();
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (reachedEnd
+                && stepExecution.getStatus() == BatchStatus.COMPLETED
+                && stepExecution.getSkipCount() == 0
+                && !aladinQuotaTracker.isQuotaExhausted()) {
+            highWaterMarkStore.save(AladinApiClient.CATEGORY_ID, mark.merge(newestPubDate, newestIsbns));
         }
+        return stepExecution.getExitStatus();
+    }
 
-        String apiKey = getNextApiKey();
+    // 첫 페이지 전/기준점 근처에서는 1개, 이후에는 prefetchPages개까지 요청
+    private void fillWindow() {
+        int limit = isFirstCall || nearMark ? 1 : Math.max(1, prefetchPages);
+        while (window.size() < limit && nextPage <= maxPage) {
+            int page = nextPage++;
+            window.add(taskExecutor.submit(() -> new Page(page, fetchPage(page))));
+        }
+    }
 
-        if (!aladinQuotaTracker.tryAcquire(apiKey)) {
-            log.warn("[AladinFetchReader] API 키 {}의 쿼터가 소진되었습니다. 작업을 중단합니다.", apiKey);
+    /**
+     * 받은 페이지를 버퍼에 추가
+     *
+     * @return 계속 읽을 수 있으면 true
+     */
+    private boolean accept(Page page) {
+        if (page.response() == null) {
+            log.warn("[AladinFetchReader] 모든 API 키의 쿼터가 소진되었습니다. 작업을 중단합니다.");
             aladinQuotaTracker.setQuotaExhausted(true);
-            return null;
+            return false;
         }
-        
-        log.info("[AladinFetchReader] API 호출 시작 - Page: {}, Key: {}", currentPage, apiKey);
-        Optional<AladinResponseDto> responseOpt = aladinApiClient.listItems(currentPage, apiKey);
 
-        if (responseOpt.isEmpty()) {
-            log.warn("[AladinFetchReader] API 응답이 없습니다. Page: {}", currentPage);
-            return null;
+        if (page.response().isEmpty()) {
+            log.warn("[AladinFetchReader] API 응답이 없습니다. Page: {}", page.number());
+            return false;
         }
 
-        AladinResponseDto response = responseOpt.get();
+        AladinResponseDto response = page.response().get();
         List<AladinItemDto> items = response.item();
 
         if (items == null || items.isEmpty()) {
-            log.info("[AladinFetchReader] 더 이상 데이터가 없습니다. Page: {}", currentPage);
-            return null;
+            log.info("[AladinFetchReader] 더 이상 데이터가 없습니다. Page: {}", page.number());
+            reachedEnd = true;
+            return false;
         }
 
         if (isFirstCall) {
             if (response.totalResults() != null && response.itemsPerPage() != null && response.itemsPerPage() > 0) {
                 this.maxPage = (int) Math.ceil((double) response.totalResults() / response.itemsPerPage());
-                log.info("[AladinFetchReader] 전체 결과 수: {}, 페이지 당 아이템: {}, 총 페이지 수: {}", 
+                log.info("[AladinFetchReader] 전체 결과 수: {}, 페이지 당 아이템: {}, 총 페이지 수: {}",
                         response.totalResults(), response.itemsPerPage(), maxPage);
             }
             isFirstCall = false;
         }
 
-        buffer.addAll(items);
-        currentPage++;
+        List<AladinItemDto> resolved = new ArrayList<>(items.size());
+        List<LocalDate> pubDates = new ArrayList<>(items.size());
+        List<String> isbns = new ArrayList<>(items.size());
+        Set<String> covered = new HashSet<>();
+        for (AladinItemDto item : items) {
+            String isbn = isbnResolver.resolve(item.isbn13(), item.isbn());
+            if (isbn == null) {
+                log.debug("[AladinFetchReader] ISBN13으로 정할 수 없는 도서 제외 - Title: {}", item.title());
+                continue;
+            }
+            LocalDate pubDate = parsePubDate(item.pubDate());
+            trackNewest(pubDate, isbn);
+            resolved.add(item);
+            pubDates.add(pubDate);
+            isbns.add(isbn);
+            if (mark.covers(pubDate)) {
+                covered.add(isbn);
+            }
+        }
 
-        return buffer.poll();
+        // 기준일 이전 도서만 book 테이블에서 확인 (페이지당 한 번)
+        Set<String> stored = covered.isEmpty() ? Set.of() : bookRepository.findIdsByIsbns(covered).keySet();
+        List<AladinItemDto> fresh = new ArrayList<>(resolved.size());
+        for (int i = 0; i < resolved.size(); i++) {
+            if (!mark.isKnown(pubDates.get(i), isbns.get(i), stored)) {
+                fresh.add(resolved.get(i));
+            }
+        }
+
+        if (!mark.isEmpty() && fresh.isEmpty()) {
+            log.info("[AladinFetchReader] 기준점 도달 - Page: {}, 기준 출간일: {}", page.number(), mark.pubDate());
+            reachedEnd = true;
+            return false;
+        }
+
+        nearMark = fresh.size() < resolved.size();
+        buffer.addAll(fresh);
+        return true;
     }
 
-    private String getNextApiKey() {
-        if (apiKeys == null || apiKeys.isEmpty()) {
-            throw new IllegalStateException("Aladin API 키 목록이 비어 있습니다.");
+    // 기준점 후보 기록 (출간 예정일이 미래인 도서는 제외 → 오늘 이후로 기준점이 앞서가지 않음)
+    private void trackNewest(LocalDate pubDate, String isbn) {
+        if (pubDate == null || isbn == null || pubDate.isAfter(LocalDate.now())) {
+            return;
+        }
+        if (newestPubDate == null || pubDate.isAfter(newestPubDate)) {
+            newestPubDate = pubDate;
+            newestIsbns.clear();
+        }
+        if (pubDate.isEqual(newestPubDate)) {
+            newestIsbns.add(isbn);
+        }
+    }
+
+    private static LocalDate parsePubDate(String pubDate) {
+        if (!StringUtils.hasText(pubDate)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(pubDate);
+        } catch (DateTimeParseException e) {
+            return null;
         }
-        int currentIdx = keyIndex.getAndUpdate(operand -> (operand + 1) % apiKeys.size());
-        return apiKeys.get(currentIdx);
+    }
+
+    // 선조회 중인 요청 취소 (키 대기 중이면 중단되고, 이미 보낸 호출은 결과만 버림)
+    private void finish() {
+        finished = true;
+        for (Future<Page> pending : window) {
+            pending.cancel(true);
+        }
+        window.clear();
+    }
+
+    private static Page await(Future<Page> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 스케줄러가 고른 키로 페이지 조회 - 일일 쿼터 초과 응답을 받은 키는 당일 제외(그 밖의 속도 제한은 쿨다운)하고 다른 키로 재시도
+     * - 그 밖의 에러 응답은 빈 응답으로 처리 → 조회 종료 (기준점은 갱신하지 않음)
+     *
+     * @return 조회 결과, 모든 키의 쿼터가 소진됐으면 null
+     */
+    private Optional<AladinResponseDto> fetchPage(int page) throws InterruptedException {
+        while (true) {
+            Optional<AladinKeyScheduler.Permit> acquired = aladinKeyScheduler.acquire();
+            if (acquired.isEmpty()) {
+                return null;
+            }
+            try (AladinKeyScheduler.Permit permit = acquired.get()) {
+                log.info("[AladinFetchReader] API 호출 시작 - Page: {}", page);
+                Optional<AladinResponseDto> response = aladinApiClient.listItems(page, permit.apiKey());
+                permit.succeeded();
+                return response;
+            } catch (AladinApiException e) {
+                log.warn("[AladinFetchReader] API 에러 응답 - Page: {}, 메시지: {}", page, e.getMessage());
+                return Optional.empty();
+            } catch (RateLimitExceededException e) {
+                log.warn("[AladinFetchReader] API 쿼터 초과 응답 - Page: {}, 메시지: {}. 다른 키로 재시도합니다.", page, e.getMessage());
+                if (e.isDailyQuotaExceeded()) {
+                    aladinKeyScheduler.exhaust(e.getApiKey());
+                } else {
+                    aladinKeyScheduler.cooldown(e.getApiKey());
+                }
+            }
+        }
+    }
+
+    // response가 null이면 모든 키의 쿼터 소진
+    private record Page(int number, Optional<AladinResponseDto> response) {
     }
 }
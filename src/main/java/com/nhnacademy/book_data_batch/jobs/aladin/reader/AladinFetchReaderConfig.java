@@ -1,13 +1,17 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.reader;
 
+import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinApiClient;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-
-import java.util.List;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
 @RequiredArgsConstructor
@@ -15,12 +19,31 @@ public class AladinFetchReaderConfig {
 
     private final AladinApiClient aladinApiClient;
     private final AladinQuotaTracker aladinQuotaTracker;
+    private final AladinKeyScheduler aladinKeyScheduler;
+    private final AladinHighWaterMarkStore aladinHighWaterMarkStore;
+    private final BookRepository bookRepository;
+    private final IsbnResolver isbnResolver;
+
+    // 동시에 선조회할 페이지 수 (동시 호출 수는 키 스케줄러의 키별 속도 제한을 따름)
+    @Value("${aladin.fetch.prefetch-pages:4}")
+    private int prefetchPages = 4;
 
-    @Value("${aladin.api.keys}")
-    private List<String> aladinApiKeys;
+    /**
+     * 목록 페이지 선조회용 가상 스레드 실행기
+     */
+    @Bean
+    public AsyncTaskExecutor aladinFetchTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("aladin-fetch-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 
     @Bean
-    public AladinFetchReader aladinFetchReader() {
-        return new AladinFetchReader(aladinApiClient, aladinQuotaTracker, aladinApiKeys);
+    public AladinFetchReader aladinFetchReader(
+            @Qualifier("aladinFetchTaskExecutor") AsyncTaskExecutor aladinFetchTaskExecutor
+    ) {
+        return new AladinFetchReader(aladinApiClient, aladinQuotaTracker, aladinKeyScheduler,
+                aladinHighWaterMarkStore, bookRepository, isbnResolver,
+                aladinFetchTaskExecutor, prefetchPages);
     }
 }
@@ -0,0 +1,123 @@
+package com.nhnacademy.book_data_batch.jobs.aladin.reader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * 신간 목록 조회 기준점 (카테고리별, Redis 해시 aladin:fetch:hwm:{카테고리})
+ * - pubDate: 지금까지 본 가장 최근 출간일
+ * - isbns: 그 출간일에 본 ISBN 목록 (같은 날 출간된 책이 나중에 추가되는 경우 구분)
+ * - 기준일 이전 출간이라도 목록에 늦게 올라온 도서가 있으므로, 기준일 이전 도서는 book 테이블에 있을 때만 이미 본 도서로 봄
+ * - Redis 장애 시 기준점 없이 처음부터 조회 (기존 동작)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AladinHighWaterMarkStore {
+
+    private static final String KEY_PREFIX = "aladin:fetch:hwm:";
+    private static final String PUB_DATE_FIELD = "pubDate";
+    private static final String ISBNS_FIELD = "isbns";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 기준점 조회
+     *
+     * @param categoryId 알라딘 카테고리 ID
+     * @return 기준점 (없거나 조회 실패 시 Mark.EMPTY)
+     */
+    public Mark load(String categoryId) {
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(KEY_PREFIX + categoryId);
+            Object pubDate = hash.get(PUB_DATE_FIELD);
+            if (pubDate == null) {
+                return Mark.EMPTY;
+            }
+            Object isbns = hash.get(ISBNS_FIELD);
+            return new Mark(LocalDate.parse(pubDate.toString()),
+                    isbns == null ? Set.of() : StringUtils.commaDelimitedListToSet(isbns.toString()));
+        } catch (DataAccessException | DateTimeParseException e) {
+            log.warn("[AladinHighWaterMarkStore] 기준점 조회 실패, 처음부터 조회 - {}", e.getMessage());
+            return Mark.EMPTY;
+        }
+    }
+
+    /**
+     * 기준점 저장
+     */
+    public void save(String categoryId, Mark mark) {
+        if (mark.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().putAll(KEY_PREFIX + categoryId, Map.of(
+                    PUB_DATE_FIELD, mark.pubDate().toString(),
+                    ISBNS_FIELD, String.join(",", mark.isbns())
+            ));
+            log.info("[AladinHighWaterMarkStore] 기준점 저장 - 카테고리: {}, 출간일: {}, ISBN: {}건",
+                    categoryId, mark.pubDate(), mark.isbns().size());
+        } catch (DataAccessException e) {
+            log.warn("[AladinHighWaterMarkStore] 기준점 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param pubDate 가장 최근 출간일 (null이면 기준점 없음)
+     * @param isbns   그 출간일에 본 ISBN
+     */
+    public record Mark(LocalDate pubDate, Set<String> isbns) {
+
+        public static final Mark EMPTY = new Mark(null, Set.of());
+
+        public boolean isEmpty() {
+            return pubDate == null;
+        }
+
+        /**
+         * 기준일 이전(또는 당일) 출간인지 → isKnown 판단에 book 테이블 확인이 필요한 도서
+         */
+        public boolean covers(LocalDate itemPubDate) {
+            return pubDate != null && itemPubDate != null && !itemPubDate.isAfter(pubDate);
+        }
+
+        /**
+         * 이미 본 도서인지 (기준일 출간 + 본 ISBN, 또는 기준일 이전 출간 + 이미 저장된 ISBN)
+         *
+         * @param storedIsbns book 테이블에 있는 ISBN (기준일 이후 출간은 확인하지 않아도 됨)
+         */
+        public boolean isKnown(LocalDate itemPubDate, String isbn, Set<String> storedIsbns) {
+            if (!covers(itemPubDate) || isbn == null) {
+                return false;
+            }
+            return (itemPubDate.isEqual(pubDate) && isbns.contains(isbn)) || storedIsbns.contains(isbn);
+        }
+
+        /**
+         * 이번 실행에서 본 최신 출간일/ISBN을 합친 기준점
+         */
+        public Mark merge(LocalDate seenPubDate, Collection<String> seenIsbns) {
+            if (seenPubDate == null || (pubDate != null && seenPubDate.isBefore(pubDate))) {
+                return this;
+            }
+            Set<String> merged = new HashSet<>(seenIsbns);
+            if (seenPubDate.equals(pubDate)) {
+                merged.addAll(isbns);
+            }
+            return new Mark(seenPubDate, merged);
+        }
+    }
+}
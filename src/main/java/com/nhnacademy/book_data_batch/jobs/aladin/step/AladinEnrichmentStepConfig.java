@@ -8,13 +8,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.concurrent.Future;
+
 @Configuration
 @RequiredArgsConstructor
 public class AladinEnrichmentStepConfig {
@@ -31,15 +37,36 @@ public class AladinEnrichmentStepConfig {
     @Value("${app.batch.chunk-size}")
     private int chunkSize;
 
+    /**
+     * 알라딘 조회용 가상 스레드 실행기 (동시 호출 수는 Chunk 크기, 호출 속도는 AladinKeyScheduler의 키별 토큰 버킷이 제한)
+     */
+    @Bean
+    public TaskExecutor aladinEnrichmentTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("aladin-enrich-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
     @Bean
     public Step aladinEnrichmentStep(
-            @Qualifier("aladinEnrichmentReader") JpaPagingItemReader<BookBatchTarget> aladinBatchReader
+            @Qualifier("aladinEnrichmentReader") JpaPagingItemReader<BookBatchTarget> aladinBatchReader,
+            @Qualifier("aladinEnrichmentTaskExecutor") TaskExecutor aladinEnrichmentTaskExecutor
     ) {
+        // Chunk 안의 항목을 동시에 조회 (변환까지 비동기 단계에서 수행)
+        AsyncItemProcessor<BookBatchTarget, AladinEnrichmentResult> asyncProcessor = new AsyncItemProcessor<>();
+        asyncProcessor.setDelegate(aladinItemProcessor);
+        asyncProcessor.setTaskExecutor(aladinEnrichmentTaskExecutor);
+
+        // Future를 모아 기다린 뒤 Writer 실행
+        // (write-behind는 쓰기 실패가 skip 정책을 거치지 않으므로 이 Step에서는 쓰지 않음)
+        AsyncItemWriter<AladinEnrichmentResult> asyncWriter = new AsyncItemWriter<>();
+        asyncWriter.setDelegate(aladinItemWriter);
+
         return new StepBuilder(ALADIN_ENRICHMENT_STEP_NAME, jobRepository)
-                .<BookBatchTarget, AladinEnrichmentResult>chunk(chunkSize, transactionManager)
+                .<BookBatchTarget, Future<AladinEnrichmentResult>>chunk(chunkSize, transactionManager)
                 .reader(aladinBatchReader)
-                .processor(aladinItemProcessor)
-                .writer(aladinItemWriter)
+                .processor(asyncProcessor)
+                .writer(asyncWriter)
                 .listener(aladinItemWriter)
                 .faultTolerant()
                 .skipLimit(1000)
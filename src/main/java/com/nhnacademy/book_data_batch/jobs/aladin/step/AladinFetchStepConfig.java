@@ -37,6 +37,7 @@ public class AladinFetchStepConfig {
                 .reader(aladinFetchReader)
                 .processor(aladinFetchProcessor)
                 .writer(aladinFetchWriter)
+                .listener(aladinFetchReader)  // 기준점 저장 (afterStep)
                 .build();
     }
 }
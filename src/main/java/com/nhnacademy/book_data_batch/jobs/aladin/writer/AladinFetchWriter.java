@@ -1,13 +1,12 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.writer;
 
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.AladinFetchWrapper;
-import com.nhnacademy.book_data_batch.domain.entity.Batch;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.entity.Publisher;
 import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
-import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
-import jakarta.persistence.EntityManager;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
@@ -15,8 +14,10 @@ import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Component
@@ -25,37 +26,28 @@ public class AladinFetchWriter implements ItemWriter<AladinFetchWrapper> {
 
     private final BookRepository bookRepository;
     private final BatchRepository batchRepository;
-    private final PublisherRepository publisherRepository;
-    private final EntityManager entityManager;
+    private final PublisherDictionary publisherDictionary;
+    private final IsbnExistenceIndex isbnExistenceIndex;
 
     @Override
     @Transactional
     public void write(Chunk<? extends AladinFetchWrapper> chunk) {
-        // 1. Publisher 처리
-        Set<String> publisherNames = chunk.getItems().stream()
+        // 1. Publisher 처리 (공유 사전: 처음 보는 이름만 INSERT)
+        List<String> publisherNames = chunk.getItems().stream()
                 .map(AladinFetchWrapper::publisherName)
                 .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        if (!publisherNames.isEmpty()) {
-            publisherRepository.bulkInsert(publisherNames);
-            entityManager.clear();
-        }
-
-        // DB에서 ID가 포함된 Publisher 조회
-        List<Publisher> existingPublishers = publisherRepository.findByNameIn(publisherNames.stream().toList());
-        Map<String, Publisher> publisherMap = existingPublishers.stream()
-                .collect(Collectors.toMap(Publisher::getName, p -> p));
+                .toList();
+        PublisherDictionary.Resolved publishers = publisherDictionary.resolve(publisherNames);
 
         // 2. Book 처리 (Publisher 연결 및 Bulk Insert)
         List<Book> booksToInsert = new ArrayList<>();
-        List<String> isbns = new ArrayList<>();
 
         for (AladinFetchWrapper item : chunk) {
             Book book = item.book();
             String pubName = item.publisherName();
 
-            if (pubName != null && publisherMap.containsKey(pubName)) {
+            Publisher publisher = publishers.find(pubName);
+            if (publisher != null) {
                 // Book 객체 재빌드 (Re-build) - Publisher 주입
                 book = Book.builder()
                         .isbn(book.getIsbn())
@@ -66,39 +58,17 @@ public class AladinFetchWriter implements ItemWriter<AladinFetchWrapper> {
                         .priceSales(book.getPriceSales())
                         .category(book.getCategory())
                         .stock(book.getStock())
-                        .publisher(publisherMap.get(pubName))
+                        .publisher(publisher)
                         .build();
             }
             booksToInsert.add(book);
-            isbns.add(book.getIsbn());
         }
 
-        if (!booksToInsert.isEmpty()) {
-            bookRepository.bulkInsert(booksToInsert);
-            entityManager.clear();
-        }
-
-        // DB에서 ID가 포함된 Book 조회
-        List<Book> savedBooks = bookRepository.findAllByIsbnIn(isbns);
-        Map<String, Book> bookMap = savedBooks.stream()
-                .collect(Collectors.toMap(Book::getIsbn, b -> b));
+        // 생성 키로 ISBN → book_id (INSERT IGNORE로 건너뛴 기존 도서만 ID 조회)
+        Map<String, Long> bookIds = bookRepository.bulkInsertReturningIds(booksToInsert);
+        isbnExistenceIndex.addAll(bookIds.keySet());
 
-        // 3. Batch 처리 (Book 연결 및 Bulk Insert)
-        List<Batch> batchesToInsert = new ArrayList<>();
-        
-        for (AladinFetchWrapper item : chunk) {
-            String isbn = item.book().getIsbn();
-            if (bookMap.containsKey(isbn)) {
-                Book savedBook = bookMap.get(isbn);
-                Batch batch = Batch.builder()
-                        .book(savedBook)
-                        .build();
-                batchesToInsert.add(batch);
-            }
-        }
-
-        if (!batchesToInsert.isEmpty()) {
-            batchRepository.bulkInsert(batchesToInsert);
-        }
+        // 3. Batch 처리 (book_id로 Bulk Insert)
+        batchRepository.bulkInsertByBookIds(bookIds.values());
     }
 }
\ No newline at end of file
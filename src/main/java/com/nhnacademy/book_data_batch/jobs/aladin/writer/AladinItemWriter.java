@@ -7,6 +7,7 @@ import com.nhnacademy.book_data_batch.jobs.aladin.mapper.AladinDataMapper;
 import com.nhnacademy.book_data_batch.jobs.aladin.writer.persistence.AladinPersistenceService;
 import com.nhnacademy.book_data_batch.domain.enums.BatchStatus;
 import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.BulkWriteResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
@@ -20,6 +21,7 @@ import java.util.List;
  * AladinItemProcessor의 결과(AladinEnrichmentResult)를 받아 DB에 저장하는 Writer.
  * - 성공한 항목: 도서 보강 정보(저자, 태그, 이미지 등) Bulk 저장 + Batch 상태 완료 처리
  * - 실패한 항목: Batch 상태 실패 처리 (재시도 가능 여부에 따라 PENDING 유지 또는 FAILED 처리)
+ * - 값 오류로 도서 갱신이 거부된 항목: 해당 Batch만 FAILED (SQLState 기록), 나머지는 정상 완료
  * - 쿼터 소진 시: 상태만 유지(PENDING)하며 이후 스텝은 정상 진행
  */
 @Slf4j
@@ -43,11 +45,12 @@ public class AladinItemWriter implements ItemWriter<AladinEnrichmentResult> {
             if (result.isSuccess()) {
                 completedBatchIds.add(result.target().batchId());
                 log.debug("[AladinItemWriter] Success - Batch ID: {}, hasData: {}",
-                        result.target().batchId(), result.itemDto() != null);
+                        result.target().batchId(), result.enrichment() != null || result.itemDto() != null);
 
-                if (result.itemDto() != null) {
-                    EnrichmentSuccessDto dto = aladinDataMapper.map(result.target(), result.itemDto());
-                    successDataList.add(dto);
+                if (result.enrichment() != null) {
+                    successDataList.add(result.enrichment());  // 비동기 단계에서 변환 완료
+                } else if (result.itemDto() != null) {
+                    successDataList.add(aladinDataMapper.map(result.target(), result.itemDto()));
                 }
             } else {
                 String errorMsg = result.errorMessage();
@@ -63,7 +66,14 @@ public class AladinItemWriter implements ItemWriter<AladinEnrichmentResult> {
         }
 
         if (!successDataList.isEmpty()) {
-            aladinPersistenceService.saveEnrichmentData(successDataList);
+            List<BulkWriteResult.RejectedRow<EnrichmentSuccessDto>> rejects =
+                    aladinPersistenceService.saveEnrichmentData(successDataList);
+            for (BulkWriteResult.RejectedRow<EnrichmentSuccessDto> reject : rejects) {
+                Long batchId = reject.item().batchId();
+                completedBatchIds.remove(batchId);
+                failedBatches.add(new EnrichmentFailureDto(batchId,
+                        "DB 저장 거부 [SQLState " + reject.sqlState() + "] " + reject.message()));
+            }
         }
 
         if (!completedBatchIds.isEmpty()) {
@@ -5,6 +5,7 @@ import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImageDto;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.BookAuthorDto;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.EnrichmentSuccessDto;
 import com.nhnacademy.book_data_batch.domain.enums.ImageType;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.BulkWriteResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -38,20 +39,46 @@ public class AladinPersistenceService {
      * 저자, 태그, 책 정보, 책 이미지 등을 일괄 처리합니다.
      * 이 메소드 호출 전체가 하나의 트랜잭션으로 묶입니다.
      *
+     * 값 오류로 갱신이 거부된 도서는 나머지 도서 저장을 막지 않고 거부 목록으로 반환합니다.
+     * 도서 갱신을 먼저 실행하고, 저자/태그/이미지는 갱신이 반영된 도서에만 저장합니다.
+     *
      * @param results 보강 성공 데이터 목록
+     * @return 도서 갱신이 거부된 항목 (SQLState 포함)
      */
     @Transactional
-    public void saveEnrichmentData(List<EnrichmentSuccessDto> results) {
+    public List<BulkWriteResult.RejectedRow<EnrichmentSuccessDto>> saveEnrichmentData(List<EnrichmentSuccessDto> results) {
         if (results.isEmpty()) {
-            return;
+            return List.of();
         }
 
-        saveAuthors(results);
-        saveTags(results);
-        saveBooks(results);
-        saveImages(results);
-        
-        log.debug("[AladinPersistenceService] Saved enrichment data for {} books", results.size());
+        List<BulkWriteResult.RejectedRow<EnrichmentSuccessDto>> rejects = saveBooks(results);
+        List<EnrichmentSuccessDto> accepted = accepted(results, rejects);
+
+        saveAuthors(accepted);
+        saveTags(accepted);
+        saveImages(accepted);
+
+        log.debug("[AladinPersistenceService] Saved enrichment data for {} books ({} rejected)",
+                results.size() - rejects.size(), rejects.size());
+        return rejects;
+    }
+
+    /**
+     * 갱신이 거부된 도서를 뺀 목록
+     */
+    private List<EnrichmentSuccessDto> accepted(
+            List<EnrichmentSuccessDto> results,
+            List<BulkWriteResult.RejectedRow<EnrichmentSuccessDto>> rejects
+    ) {
+        if (rejects.isEmpty()) {
+            return results;
+        }
+        Set<Long> rejectedBookIds = rejects.stream()
+                .map(reject -> reject.item().bookId())
+                .collect(Collectors.toSet());
+        return results.stream()
+                .filter(result -> !rejectedBookIds.contains(result.bookId()))
+                .toList();
     }
 
     /**
@@ -138,10 +165,11 @@ public class AladinPersistenceService {
     /**
      * Book 엔티티 업데이트 (Aladin 보강 정보 반영)
      */
-    private void saveBooks(List<EnrichmentSuccessDto> results) {
-        if (!results.isEmpty()) {
-            bookRepository.bulkUpdateFromEnrichment(results);
+    private List<BulkWriteResult.RejectedRow<EnrichmentSuccessDto>> saveBooks(List<EnrichmentSuccessDto> results) {
+        if (results.isEmpty()) {
+            return List.of();
         }
+        return bookRepository.bulkUpdateFromEnrichment(results).rejects();
     }
 
     /**
@@ -0,0 +1,378 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.cache;
+
+import com.nhnacademy.book_data_batch.global.index.LongLongHashMap;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ * CompactBookRowStore
+ * - BookCsvRow를 객체 대신 UTF-8 바이트로 큰 페이지 버퍼에 이어 붙여 저장
+ * - 후속 Step에서 쓰는 12개 필드만 보관 (seqNo, editionSymbol, titleSearch, authorSearch,
+ *   internetBookstoreYn, portalSiteYn은 버림 → 조회 시 빈 문자열)
+ *
+ * [레코드 형식]
+ * - 필드마다 varint(바이트 길이) + UTF-8 바이트, 레코드는 한 페이지 안에만 위치
+ * - 행 주소 = (페이지 번호 << 32) | 페이지 내 오프셋, long[] 인덱스로 관리
+ *
+ * [저장 위치]
+ * - HEAP: byte[] 페이지 / DIRECT: off-heap 페이지 / MAPPED: 임시 파일 메모리 매핑 (OS 페이지 캐시로 spill)
+ *
+ * [공간 회수]
+ * - replace: 새 레코드가 기존 크기 이하면 제자리에 덮어씀, 크면 뒤에 새로 씀
+ * - retain 후 사용 중인 바이트가 절반 미만이면 레코드를 앞으로 당겨 압축하고 남는 페이지 해제
+ *
+ * 쓰기(append/replace/retain)는 단일 스레드, 읽기(get)는 여러 스레드에서 동시에 가능 (쓰기와 동시에 읽지 않음)
+ * </pre>
+ */
+@Slf4j
+public class CompactBookRowStore implements AutoCloseable {
+
+    public enum StorageMode { HEAP, DIRECT, MAPPED }
+
+    private static final int FIELD_COUNT = 12;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+    private final StorageMode mode;
+    private final int pageSize;
+    private final List<ByteBuffer> pages = new ArrayList<>();
+
+    private long[] addresses = new long[INITIAL_INDEX_CAPACITY];
+    private int size;
+    private int writeOffset;
+
+    private Path spillFile;
+    private FileChannel spillChannel;
+
+    public CompactBookRowStore(StorageMode mode, int pageSize) {
+        this.mode = mode;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 행 추가
+     *
+     * @return 추가된 행 번호
+     */
+    public int append(BookCsvRow row) {
+        ensureIndexCapacity(size + 1);
+        addresses[size] = write(row);
+        return size++;
+    }
+
+    /**
+     * 행 교체 - 기존 레코드 자리에 들어가면 덮어쓰고, 아니면 뒤에 새로 쓰고 주소만 바꿈
+     */
+    public void replace(int index, BookCsvRow row) {
+        checkIndex(index);
+        byte[][] fields = encode(row);
+        int recordSize = recordSize(fields);
+        long address = addresses[index];
+        if (recordSize <= recordLength(address)) {
+            writeFields(pageOf(address), (int) address, fields);
+            return;
+        }
+        addresses[index] = write(fields, recordSize);
+    }
+
+    /**
+     * 지정한 행만 순서대로 남김 (버린 행/교체 전 레코드가 절반 이상이면 압축)
+     *
+     * @param indices 남길 행 번호 (오름차순)
+     * @param count indices 중 유효한 개수
+     */
+    public void retain(int[] indices, int count) {
+        long[] retained = new long[Math.max(count, INITIAL_INDEX_CAPACITY)];
+        for (int i = 0; i < count; i++) {
+            checkIndex(indices[i]);
+            retained[i] = addresses[indices[i]];
+        }
+        addresses = retained;
+        size = count;
+
+        long usedBytes = usedBytes();
+        long liveBytes = 0;
+        for (int i = 0; i < size; i++) {
+            liveBytes += recordLength(addresses[i]);
+        }
+        if (liveBytes * 2 < usedBytes) {
+            compact(usedBytes, liveBytes);
+        }
+    }
+
+    public BookCsvRow get(int index) {
+        checkIndex(index);
+        long address = addresses[index];
+        ByteBuffer page = pageOf(address);
+        int[] cursor = {(int) address};
+
+        String isbn13 = readField(page, cursor);
+        String volumeNumber = readField(page, cursor);
+        String title = readField(page, cursor);
+        String author = readField(page, cursor);
+        String publisher = readField(page, cursor);
+        String publishedDate = readField(page, cursor);
+        String price = readField(page, cursor);
+        String imageUrl = readField(page, cursor);
+        String description = readField(page, cursor);
+        String kdcCode = readField(page, cursor);
+        String secondaryPublishedDate = readField(page, cursor);
+        String isbn10 = readField(page, cursor);
+
+        return new BookCsvRow(
+                "", isbn13, volumeNumber, title, author, publisher, publishedDate, "",
+                price, imageUrl, description, kdcCode, "", "", secondaryPublishedDate, "", "", isbn10);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 읽기 전용 List 뷰 (복사 없음, 조회 시마다 디코딩)
+     */
+    public List<BookCsvRow> asList() {
+        return new AbstractList<>() {
+            @Override
+            public BookCsvRow get(int index) {
+                return CompactBookRowStore.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * 사용 중인 버퍼 바이트 수 (페이지 단위)
+     */
+    public long allocatedBytes() {
+        return (long) pages.size() * pageSize + (long) addresses.length * Long.BYTES;
+    }
+
+    @Override
+    public void close() {
+        pages.clear();
+        addresses = new long[0];
+        size = 0;
+        writeOffset = 0;
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                log.warn("[Cache] 행 저장소 임시 파일 삭제 실패: {}", spillFile, e);
+            }
+            spillChannel = null;
+            spillFile = null;
+        }
+    }
+
+    private long write(BookCsvRow row) {
+        byte[][] fields = encode(row);
+        return write(fields, recordSize(fields));
+    }
+
+    private long write(byte[][] fields, int recordSize) {
+        if (recordSize > pageSize) {
+            throw new IllegalArgumentException("CSV 행이 페이지 크기보다 큽니다: " + recordSize + " bytes");
+        }
+        if (pages.isEmpty() || writeOffset + recordSize > pageSize) {
+            pages.add(allocatePage(pages.size()));
+            writeOffset = 0;
+        }
+
+        int pageIndex = pages.size() - 1;
+        long address = ((long) pageIndex << 32) | writeOffset;
+        writeOffset = writeFields(pages.get(pageIndex), writeOffset, fields);
+        return address;
+    }
+
+    private static byte[][] encode(BookCsvRow row) {
+        return new byte[][]{
+                bytes(row.isbn13()), bytes(row.volumeNumber()), bytes(row.title()), bytes(row.author()),
+                bytes(row.publisher()), bytes(row.publishedDate()), bytes(row.price()), bytes(row.imageUrl()),
+                bytes(row.description()), bytes(row.kdcCode()), bytes(row.secondaryPublishedDate()),
+                bytes(row.isbn10())
+        };
+    }
+
+    private static int recordSize(byte[][] fields) {
+        int recordSize = 0;
+        for (byte[] field : fields) {
+            recordSize += varintSize(field.length) + field.length;
+        }
+        return recordSize;
+    }
+
+    private static int writeFields(ByteBuffer page, int offset, byte[][] fields) {
+        for (byte[] field : fields) {
+            offset = writeVarint(page, offset, field.length);
+            page.put(offset, field);
+            offset += field.length;
+        }
+        return offset;
+    }
+
+    // 저장된 레코드의 바이트 수 (필드 길이 varint를 따라감)
+    private int recordLength(long address) {
+        ByteBuffer page = pageOf(address);
+        int start = (int) address;
+        int offset = start;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = page.get(offset++);
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            offset += length;
+        }
+        return offset - start;
+    }
+
+    private long usedBytes() {
+        return pages.isEmpty() ? 0 : (long) (pages.size() - 1) * pageSize + writeOffset;
+    }
+
+    /**
+     * 살아 있는 레코드를 주소 순서대로 앞으로 당겨 빈 공간 제거, 뒤쪽 빈 페이지 해제
+     * - 레코드는 원래 위치보다 뒤로 가지 않으므로 추가 버퍼 없이 같은 페이지들 안에서 이동
+     */
+    private void compact(long usedBytes, long liveBytes) {
+        long[] sorted = Arrays.copyOf(addresses, size);
+        Arrays.sort(sorted);
+        LongLongHashMap indexByAddress = new LongLongHashMap(Math.max(16, size));
+        for (int i = 0; i < size; i++) {
+            indexByAddress.put(addresses[i], i, -1);
+        }
+
+        int targetPage = 0;
+        int targetOffset = 0;
+        for (long address : sorted) {
+            int length = recordLength(address);
+            if (targetOffset + length > pageSize) {
+                targetPage++;
+                targetOffset = 0;
+            }
+            long target = ((long) targetPage << 32) | targetOffset;
+            if (target != address) {
+                byte[] record = new byte[length];
+                pageOf(address).get((int) address, record);
+                pages.get(targetPage).put(targetOffset, record);
+                addresses[(int) indexByAddress.get(address, -1)] = target;
+            }
+            targetOffset += length;
+        }
+
+        int usedPages = size == 0 ? 0 : targetPage + 1;
+        int releasedPages = pages.size() - usedPages;
+        pages.subList(usedPages, pages.size()).clear();
+        writeOffset = size == 0 ? 0 : targetOffset;
+        if (spillChannel != null) {
+            try {
+                spillChannel.truncate((long) usedPages * pageSize);
+            } catch (IOException e) {
+                log.warn("[Cache] 행 저장소 임시 파일 축소 실패: {}", spillFile, e);
+            }
+        }
+        log.debug("[Cache] 행 저장소 압축 - 사용 {} → {} bytes, 해제 페이지: {}", usedBytes, liveBytes, releasedPages);
+    }
+
+    private ByteBuffer pageOf(long address) {
+        return pages.get((int) (address >>> 32));
+    }
+
+    private ByteBuffer allocatePage(int pageIndex) {
+        return switch (mode) {
+            case HEAP -> ByteBuffer.allocate(pageSize);
+            case DIRECT -> ByteBuffer.allocateDirect(pageSize);
+            case MAPPED -> mapPage(pageIndex);
+        };
+    }
+
+    private ByteBuffer mapPage(int pageIndex) {
+        try {
+            if (spillChannel == null) {
+                spillFile = Files.createTempFile("book-csv-rows-", ".bin");
+                spillFile.toFile().deleteOnExit();
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            return spillChannel.map(FileChannel.MapMode.READ_WRITE, (long) pageIndex * pageSize, pageSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("행 저장소 페이지 매핑 실패", e);
+        }
+    }
+
+    private static String readField(ByteBuffer page, int[] cursor) {
+        int offset = cursor[0];
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = page.get(offset++);
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (length == 0) {
+            cursor[0] = offset;
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        page.get(offset, bytes);
+        cursor[0] = offset + length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int writeVarint(ByteBuffer page, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            page.put(offset++, (byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        page.put(offset++, (byte) value);
+        return offset;
+    }
+
+    private static int varintSize(int value) {
+        int bytes = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null || value.isEmpty() ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void ensureIndexCapacity(int required) {
+        if (required > addresses.length) {
+            addresses = Arrays.copyOf(addresses, Math.max(required, addresses.length * 2));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+}
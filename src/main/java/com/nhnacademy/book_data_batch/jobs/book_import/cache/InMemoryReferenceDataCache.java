@@ -1,13 +1,12 @@
 package com.nhnacademy.book_data_batch.jobs.book_import.cache;
 
 import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
-import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.entity.Category;
-import com.nhnacademy.book_data_batch.domain.entity.Publisher;
-import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
-import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
+import com.nhnacademy.book_data_batch.global.index.BookIdIndex;
+import com.nhnacademy.book_data_batch.jobs.book_import.processor.BookRowConsolidator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -16,52 +15,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 참조 데이터 캐시 구현체 (In-Memory)
- * Step 1: CSV 로드 + Publisher/Category 캐시
- * Step 2: Book 변환 + Bulk INSERT + Book 캐시
- * Step 3: BookImage/Batch 저장 (Book 캐시 사용)
+ * Step 1: CSV 로드 + ISBN 중복 병합 + Category 캐시 (Publisher는 PublisherDictionary)
+ * Step 2: Book 변환 + Bulk INSERT + Book ID 캐시 (생성 키)
+ * Step 3: BookImage/Batch 저장 (Book ID 캐시 사용)
  */
 @Slf4j
 @Component
 public class InMemoryReferenceDataCache implements ReferenceDataCache {
 
-    private final Map<String, Publisher> publisherCache = new ConcurrentHashMap<>();
     private final Map<String, Category> categoryCache = new ConcurrentHashMap<>();
-    private final Map<String, Book> bookCache = new ConcurrentHashMap<>();
-    private List<BookCsvRow> csvDataCache = Collections.emptyList();
+    private final BookIdIndex bookIdIndex = new BookIdIndex();
     private final AtomicBoolean ready = new AtomicBoolean(false);
 
 
-    // Publisher 캐시
-
-    @Override
-    public Publisher findPublisher(String publisherName) {
-        if (publisherName == null || publisherName.isBlank()) {
-            return null;
-        }
-        return publisherCache.get(normalizeKey(publisherName));
-    }
-
-    @Override
-    public void buildPublisherCache(PublisherRepository publisherRepository) {
-        log.info("[Cache] Publisher 캐시 구축 시작...");
-        long startTime = System.currentTimeMillis();
-
-        publisherRepository.findAll().forEach(publisher -> {
-            if (publisher.getName() != null) {
-                publisherCache.put(normalizeKey(publisher.getName()), publisher);
-            }
-        });
-
-        log.info("[Cache] Publisher 캐시 구축 완료: {}개, {}ms",
-                publisherCache.size(), System.currentTimeMillis() - startTime);
-    }
-
-    @Override
-    public int getPublisherCacheSize() {
-        return publisherCache.size();
-    }
-
-
     // Category 캐시
 
     private static final String UNCATEGORIZED_CODE = "UNC";
@@ -80,7 +46,8 @@ public class InMemoryReferenceDataCache implements ReferenceDataCache {
         log.info("[Cache] Category 캐시 구축 시작...");
         long startTime = System.currentTimeMillis();
 
-        categoryRepository.findAll().forEach(category -> {
+        // 엔티티 조회 대신 스트리밍 순회 (참조용 Category, 영속성 컨텍스트에 올리지 않음)
+        categoryRepository.forEachCategory(category -> {
             if (category.getKdcCode() != null) {
                 categoryCache.put(category.getKdcCode().trim(), category);
             }
@@ -96,58 +63,94 @@ public class InMemoryReferenceDataCache implements ReferenceDataCache {
     }
 
 
-    // Book 캐시
+    // Book ID 캐시 (ISBN → book_id, long 기반 인덱스)
 
     @Override
-    public Book findBook(String isbn13) {
+    public Long findBookId(String isbn13) {
         if (isbn13 == null || isbn13.isBlank()) {
             return null;
         }
-        return bookCache.get(isbn13.trim());
+        long bookId = bookIdIndex.find(isbn13);
+        return bookId != BookIdIndex.NOT_FOUND ? bookId : null;
     }
 
     @Override
-    public void buildBookCache(BookRepository bookRepository, Collection<String> isbns) {
-        log.info("[Cache] Book 캐시 구축 시작... (ISBN {}개)", isbns.size());
-        long startTime = System.currentTimeMillis();
-
-        bookRepository.findAllByIsbnIn(isbns).forEach(book -> {
-            if (book.getIsbn() != null) {
-                bookCache.put(book.getIsbn(), book);
-            }
-        });
-
-        log.info("[Cache] Book 캐시 구축 완료: {}개, {}ms",
-                bookCache.size(), System.currentTimeMillis() - startTime);
+    public void putBookIds(Map<String, Long> idsByIsbn) {
+        bookIdIndex.putAll(idsByIsbn);
+        log.info("[Cache] Book ID 캐시 갱신: {}개", bookIdIndex.size());
     }
 
     @Override
-    public Collection<Book> getAllBooks() {
-        return bookCache.values();
+    public Collection<Long> getAllBookIds() {
+        return bookIdIndex.bookIds();
     }
 
     @Override
     public int getBookCacheSize() {
-        return bookCache.size();
+        return bookIdIndex.size();
     }
 
 
-    // CSV 데이터 캐시
+    // CSV 데이터 캐시 (CompactBookRowStore에 바이트로 저장)
+
+    // heap | direct | mapped
+    @Value("${batch.book.row-store.mode:heap}")
+    private String rowStoreMode = "heap";
+
+    @Value("${batch.book.row-store.page-size-mb:64}")
+    private int rowStorePageSizeMb = 64;
+
+    private CompactBookRowStore csvRowStore;
 
     @Override
     public void setCsvData(List<BookCsvRow> csvData) {
-        this.csvDataCache = csvData != null ? new ArrayList<>(csvData) : Collections.emptyList();
-        log.info("[Cache] CSV 데이터 캐시 완료: {}건", csvDataCache.size());
+        closeCsvRowStore();
+        if (csvData != null) {
+            csvData.forEach(this::appendCsvRow);
+        }
+        log.info("[Cache] CSV 데이터 캐시 완료: {}건", getCsvDataSize());
+    }
+
+    @Override
+    public void appendCsvRow(BookCsvRow row) {
+        if (csvRowStore == null) {
+            csvRowStore = new CompactBookRowStore(
+                    CompactBookRowStore.StorageMode.valueOf(rowStoreMode.trim().toUpperCase()),
+                    rowStorePageBytes());
+        }
+        csvRowStore.append(row);
+    }
+
+    // 페이지는 ByteBuffer 하나이므로 2GB 미만 (int 곱셈 오버플로 방지를 위해 long으로 계산)
+    private int rowStorePageBytes() {
+        long bytes = rowStorePageSizeMb * 1024L * 1024L;
+        if (bytes <= 0 || bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                    "batch.book.row-store.page-size-mb는 1 ~ 2047 사이여야 합니다: " + rowStorePageSizeMb);
+        }
+        return (int) bytes;
     }
 
     @Override
     public List<BookCsvRow> getCsvData() {
-        return csvDataCache;
+        return csvRowStore != null ? csvRowStore.asList() : Collections.emptyList();
     }
 
     @Override
     public int getCsvDataSize() {
-        return csvDataCache.size();
+        return csvRowStore != null ? csvRowStore.size() : 0;
+    }
+
+    @Override
+    public int consolidateCsvRows(BookRowConsolidator consolidator) {
+        return csvRowStore != null ? consolidator.consolidate(csvRowStore) : 0;
+    }
+
+    private void closeCsvRowStore() {
+        if (csvRowStore != null) {
+            csvRowStore.close();
+            csvRowStore = null;
+        }
     }
 
 
@@ -155,10 +158,9 @@ public class InMemoryReferenceDataCache implements ReferenceDataCache {
 
     @Override
     public void clear() {
-        publisherCache.clear();
         categoryCache.clear();
-        bookCache.clear();
-        csvDataCache = Collections.emptyList();
+        bookIdIndex.clear();
+        closeCsvRowStore();
         ready.set(false);
         log.info("[Cache] 캐시 초기화 완료");
     }
@@ -171,8 +173,4 @@ public class InMemoryReferenceDataCache implements ReferenceDataCache {
     public void markReady() {
         ready.set(true);
     }
-
-    private String normalizeKey(String key) {
-        return key.trim().toLowerCase().replaceAll("\\s+", " ");
-    }
 }
@@ -1,19 +1,30 @@
 package com.nhnacademy.book_data_batch.jobs.book_import.config;
 
+import com.nhnacademy.book_data_batch.global.batch.IsbnExistenceIndexListener;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
 import com.nhnacademy.book_data_batch.jobs.book_import.cache.InMemoryReferenceDataCache;
 import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
 import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImportItem;
+import com.nhnacademy.book_data_batch.jobs.book_import.mapper.BookCsvRowMapper;
+import com.nhnacademy.book_data_batch.jobs.book_import.processor.BookCsvItemProcessor;
+import com.nhnacademy.book_data_batch.jobs.book_import.processor.BookRowConsolidator;
+import com.nhnacademy.book_data_batch.jobs.book_import.reader.BookCsvItemReader;
 import com.nhnacademy.book_data_batch.jobs.book_import.tasklet.BookImageTasklet;
 import com.nhnacademy.book_data_batch.jobs.book_import.tasklet.BookProcessingTasklet;
 import com.nhnacademy.book_data_batch.jobs.book_import.tasklet.ReferenceDataLoadTasklet;
+import com.nhnacademy.book_data_batch.jobs.book_import.writer.BookImportChunkWriter;
 import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookFingerprintRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookImageRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
-import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -27,10 +38,24 @@ import org.springframework.transaction.PlatformTransactionManager;
  * <pre>
  * BookDataJobConfig: 도서 CSV 데이터 등록 배치 Job 설정
  * 
- * [3단계 Tasklet 구조]
- * - Step 1: CSV 로드 + Publisher Bulk INSERT + Publisher/Category 캐시
+ * [tasklet 모드 (기본): 3단계 Tasklet 구조]
+ * - Step 1: CSV 로드 + ISBN 중복 병합 + 출판사 사전(처음 보는 이름만 INSERT) + Category 캐시
  * - Step 2: Book 변환 + Book Bulk INSERT + Book 캐시
  * - Step 3: BookImage Bulk INSERT + Batch 기록 저장
+ *   (book_image에는 unique 키가 없어 INSERT IGNORE로도 중복이 걸러지지 않음 → 트랜잭션 안에서 한 번에 커밋)
+ *
+ * [chunk 모드: batch.book.import-mode=chunk]
+ * - CSV를 스트리밍으로 읽어 Chunk 단위로 Publisher/Book/BookImage/Batch 저장
+ * - 메모리 사용량이 파일 크기가 아닌 Chunk 크기에 비례, 실패 시 해당 Chunk만 롤백
+ * - Reader가 읽은 행 수를 저장하므로 실패한 실행은 재시작하면 마지막 커밋 이후부터 이어서 처리
+ * - 저장한 행의 내용 지문 기록
+ *
+ * [delta 모드: batch.book.import-mode=delta]
+ * - chunk 모드와 같은 Step, 저장된 지문과 비교해 신규/변경 행만 반영 (월간 덤프 갱신용)
+ *
+ * [기존 도서 사전 필터: tasklet/chunk 모드]
+ * - Job 시작 시 book 테이블 ISBN 인덱스 적재, 이미 있는 ISBN은 DB 쓰기 전에 제외
+ * - delta 모드는 기존 도서의 변경도 반영해야 하므로 사용하지 않음
  * </pre>
  */
 @Configuration
@@ -41,21 +66,43 @@ public class BookDataJobConfig {
     private static final String STEP1_NAME = "csvAndPublisherStep";
     private static final String STEP2_NAME = "bookProcessingStep";
     private static final String STEP3_NAME = "bookImageStep";
+    private static final String CHUNK_STEP_NAME = "bookChunkImportStep";
+    private static final String IMPORT_MODE_CHUNK = "chunk";
+    private static final String IMPORT_MODE_DELTA = "delta";
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
     // Repositories
-    private final PublisherRepository publisherRepository;
     private final CategoryRepository categoryRepository;
     private final BookRepository bookRepository;
     private final BookImageRepository bookImageRepository;
     private final BatchRepository batchRepository;
+    private final BookFingerprintRepository bookFingerprintRepository;
 
     // Components
     private final InMemoryReferenceDataCache cache;
     private final IsbnResolver isbnResolver;
     private final FieldNormalizer fieldNormalizer;
+    private final PublisherDictionary publisherDictionary;
+    private final IsbnExistenceIndex isbnExistenceIndex;
+    private final IsbnExistenceIndexListener isbnExistenceIndexListener;
+    private final BookCsvRowMapper bookCsvRowMapper = new BookCsvRowMapper();
+
+    // tasklet | chunk | delta
+    @Value("${batch.book.import-mode:tasklet}")
+    private String importMode;
+
+    @Value("${batch.book.chunk-size:1000}")
+    private int chunkSize;
+
+    // CSV 병렬 파싱 스레드 수 (0이면 가용 코어 수)
+    @Value("${batch.book.parse-parallelism:0}")
+    private int parseParallelism;
+
+    // 같은 ISBN 행 병합 규칙 (first | latest | richest)
+    @Value("${batch.book.consolidation.policy:richest}")
+    private String consolidationPolicy;
 
     /**
      * Book Data Import Job
@@ -64,9 +111,24 @@ public class BookDataJobConfig {
     public Job bookDataImportJob(
             Step csvAndPublisherStep,
             Step bookProcessingStep,
-            Step bookImageStep) {
-        
+            Step bookImageStep,
+            Step bookChunkImportStep) {
+
+        if (isDeltaMode()) {
+            return new JobBuilder(JOB_NAME, jobRepository)
+                    .start(bookChunkImportStep)
+                    .build();
+        }
+
+        if (IMPORT_MODE_CHUNK.equalsIgnoreCase(importMode)) {
+            return new JobBuilder(JOB_NAME, jobRepository)
+                    .listener(isbnExistenceIndexListener)
+                    .start(bookChunkImportStep)
+                    .build();
+        }
+
         return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(isbnExistenceIndexListener)
                 .start(csvAndPublisherStep)
                 .next(bookProcessingStep)
                 .next(bookImageStep)
@@ -84,9 +146,12 @@ public class BookDataJobConfig {
         return new StepBuilder(STEP1_NAME, jobRepository)
                 .tasklet(new ReferenceDataLoadTasklet(
                         csvResource,
-                        publisherRepository,
+                        publisherDictionary,
                         categoryRepository,
-                        cache
+                        cache,
+                        bookCsvRowMapper,
+                        parseParallelism,
+                        new BookRowConsolidator(isbnResolver, fieldNormalizer, consolidationPolicy())
                 ), transactionManager)
                 .build();
     }
@@ -100,8 +165,9 @@ public class BookDataJobConfig {
                 .tasklet(new BookProcessingTasklet(
                         cache,
                         bookRepository,
-                        isbnResolver,
-                        fieldNormalizer
+                        publisherDictionary,
+                        fieldNormalizer,
+                        isbnExistenceIndex
                 ), transactionManager)
                 .build();
     }
@@ -115,9 +181,63 @@ public class BookDataJobConfig {
                 .tasklet(new BookImageTasklet(
                         cache,
                         bookImageRepository,
-                        batchRepository,
-                        isbnResolver
+                        batchRepository
                 ), transactionManager)
                 .build();
     }
+
+    /**
+     * Chunk 모드: CSV 스트리밍 → Publisher/Book/BookImage/Batch Chunk 단위 저장
+     */
+    @Bean
+    public Step bookChunkImportStep(
+            BookCsvItemReader bookCsvItemReader,
+            BookCsvItemProcessor bookCsvItemProcessor,
+            BookImportChunkWriter bookImportChunkWriter) {
+
+        return new StepBuilder(CHUNK_STEP_NAME, jobRepository)
+                .<BookCsvRow, BookImportItem>chunk(chunkSize, transactionManager)
+                .reader(bookCsvItemReader)
+                .processor(bookCsvItemProcessor)
+                .writer(bookImportChunkWriter)
+                .listener(bookCsvItemProcessor)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public BookCsvItemReader bookCsvItemReader(
+            @Value("${batch.book.resource:classpath:data/BOOK_DB_202112.csv}") Resource csvResource) {
+        return new BookCsvItemReader(csvResource, bookCsvRowMapper);
+    }
+
+    @Bean
+    @StepScope
+    public BookCsvItemProcessor bookCsvItemProcessor() {
+        return new BookCsvItemProcessor(
+                categoryRepository, isbnResolver, fieldNormalizer, isbnExistenceIndex, !isDeltaMode());
+    }
+
+    // Step 범위의 출판사 캐시를 가지므로 Step마다 새로 생성
+    @Bean
+    @StepScope
+    public BookImportChunkWriter bookImportChunkWriter() {
+        return new BookImportChunkWriter(
+                publisherDictionary,
+                bookRepository,
+                bookImageRepository,
+                batchRepository,
+                bookFingerprintRepository,
+                isbnExistenceIndex,
+                isDeltaMode()
+        );
+    }
+
+    private BookRowConsolidator.MergePolicy consolidationPolicy() {
+        return BookRowConsolidator.MergePolicy.valueOf(consolidationPolicy.trim().toUpperCase());
+    }
+
+    private boolean isDeltaMode() {
+        return IMPORT_MODE_DELTA.equalsIgnoreCase(importMode);
+    }
 }
@@ -0,0 +1,19 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.dto;
+
+import com.nhnacademy.book_data_batch.domain.entity.Book;
+
+/**
+ * Chunk 모드에서 Processor → Writer로 전달되는 도서 한 건
+ *
+ * @param book          변환된 Book (Publisher 미연결 상태)
+ * @param publisherName CSV의 출판사 이름 (Writer에서 ID로 치환)
+ * @param imageUrl      썸네일 이미지 URL (없으면 null)
+ * @param fingerprint   정규화된 필드의 내용 지문 (증분 임포트 비교용)
+ */
+public record BookImportItem(
+        Book book,
+        String publisherName,
+        String imageUrl,
+        long fingerprint
+) {
+}
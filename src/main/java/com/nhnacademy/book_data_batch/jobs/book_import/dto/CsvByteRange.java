@@ -0,0 +1,12 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.dto;
+
+// CSV 파일 내 레코드 경계에 맞춘 바이트 구간 [start, end)
+public record CsvByteRange(
+        int index,
+        long start,
+        long end
+) {
+    public long length() {
+        return end - start;
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.mapper;
+
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+
+import java.io.Reader;
+
+/**
+ * <pre>
+ * BookCsvRowMapper
+ * - 도서 CSV 컬럼 배열 → BookCsvRow 변환
+ * - Tasklet(전체 로드)과 Chunk Reader(스트리밍)가 같은 파싱 규칙을 공유
+ * </pre>
+ */
+public class BookCsvRowMapper {
+
+    // CSV 컬럼 인덱스
+    private static final int SEQ_NO = 0;
+    private static final int ISBN13 = 1;
+    private static final int VOLUME_NUMBER = 2;
+    private static final int TITLE = 3;
+    private static final int AUTHOR = 4;
+    private static final int PUBLISHER = 5;
+    private static final int PUBLISHED_DATE = 6;
+    private static final int EDITION_SYMBOL = 7;
+    private static final int PRICE = 8;
+    private static final int IMAGE_URL = 9;
+    private static final int DESCRIPTION = 10;
+    private static final int KDC_CODE = 11;
+    private static final int TITLE_SEARCH = 12;
+    private static final int AUTHOR_SEARCH = 13;
+    private static final int SECONDARY_PUBLISHED_DATE = 14;
+    private static final int INTERNET_BOOKSTORE_YN = 15;
+    private static final int PORTAL_SITE_YN = 16;
+    private static final int ISBN10 = 17;
+
+    /**
+     * 도서 CSV용 CSVReader 생성
+     *
+     * @param reader    원본 Reader
+     * @param skipLines 건너뛸 줄 수 (헤더 포함 시 1)
+     */
+    public CSVReader openReader(Reader reader, int skipLines) {
+        return new CSVReaderBuilder(reader)
+                .withSkipLines(skipLines)
+                .withCSVParser(new CSVParserBuilder()
+                        .withSeparator(',')
+                        .withQuoteChar('"')
+                        .build())
+                .build();
+    }
+
+    /**
+     * CSV 컬럼 배열 → BookCsvRow 변환
+     */
+    public BookCsvRow map(String[] columns) {
+        return new BookCsvRow(
+                getColumn(columns, SEQ_NO),
+                getColumn(columns, ISBN13),
+                getColumn(columns, VOLUME_NUMBER),
+                getColumn(columns, TITLE),
+                getColumn(columns, AUTHOR),
+                getColumn(columns, PUBLISHER),
+                getColumn(columns, PUBLISHED_DATE),
+                getColumn(columns, EDITION_SYMBOL),
+                getColumn(columns, PRICE),
+                getColumn(columns, IMAGE_URL),
+                getColumn(columns, DESCRIPTION),
+                getColumn(columns, KDC_CODE),
+                getColumn(columns, TITLE_SEARCH),
+                getColumn(columns, AUTHOR_SEARCH),
+                getColumn(columns, SECONDARY_PUBLISHED_DATE),
+                getColumn(columns, INTERNET_BOOKSTORE_YN),
+                getColumn(columns, PORTAL_SITE_YN),
+                getColumn(columns, ISBN10)
+        );
+    }
+
+    /**
+     * 안전한 컬럼 추출 (인덱스 초과 시 빈 문자열)
+     */
+    private String getColumn(String[] columns, int index) {
+        if (columns == null || index >= columns.length) {
+            return "";
+        }
+        String value = columns[index];
+        return value != null ? value.trim() : "";
+    }
+}
@@ -0,0 +1,118 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.processor;
+
+import com.nhnacademy.book_data_batch.domain.entity.Book;
+import com.nhnacademy.book_data_batch.domain.entity.Category;
+import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
+import com.nhnacademy.book_data_batch.global.util.ContentFingerprint;
+import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImportItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * BookCsvItemProcessor (Chunk 모드)
+ * - BookCsvRow → BookImportItem 변환
+ * - Category는 Step 시작 시 한 번만 캐시 (테이블 크기가 작음)
+ *   · KDC 코드 → Category 맵을 Processor(@StepScope)가 직접 소유 → tasklet 모드의 싱글톤 캐시와 공유하지 않음
+ * - Publisher는 Writer에서 Chunk 단위로 처리
+ * - 정규화된 값으로 내용 지문 계산 (증분 임포트에서 변경 여부 판단)
+ * - skipExisting이면 이미 등록된 ISBN은 제외 (delta 모드는 변경 반영을 위해 사용 안 함)
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class BookCsvItemProcessor implements ItemProcessor<BookCsvRow, BookImportItem>, StepExecutionListener {
+
+    private static final String UNCATEGORIZED_CODE = "UNC";
+
+    private final Map<String, Category> categories = new HashMap<>();
+    private final CategoryRepository categoryRepository;
+    private final IsbnResolver isbnResolver;
+    private final FieldNormalizer fieldNormalizer;
+    private final IsbnExistenceIndex isbnExistenceIndex;
+    private final boolean skipExisting;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        categories.clear();
+        categoryRepository.forEachCategory(category -> {
+            if (category.getKdcCode() != null) {
+                categories.put(category.getKdcCode().trim(), category);
+            }
+        });
+    }
+
+    @Override
+    public BookImportItem process(BookCsvRow row) {
+        // ISBN 결정
+        String isbn = isbnResolver.resolve(row.isbn13(), row.isbn10());
+        if (!StringUtils.hasText(isbn)) {
+            return null;  // ISBN 없으면 스킵
+        }
+
+        if (skipExisting && isbnExistenceIndex.contains(isbn)) {
+            return null; // 이미 등록된 도서
+        }
+
+        if (!StringUtils.hasText(row.title())) {
+            return null; // 제목 없으면 스킵
+        }
+
+        // Category 조회
+        Category category = findCategory(fieldNormalizer.normalizeKdc(row.kdcCode()));
+
+        // 필드 정규화
+        Integer priceStandard = fieldNormalizer.parsePrice(row.price());
+        int priceSales = priceStandard != null ? priceStandard * 9 / 10 : 0;
+
+        Book book = Book.builder()
+                .isbn(isbn)
+                .title(row.title())
+                .description(fieldNormalizer.blankToNull(row.description()))
+                .publishedDate(fieldNormalizer.parseDate(row.publishedDate(), row.secondaryPublishedDate()))
+                .priceStandard(priceStandard != null ? priceStandard : 0)
+                .priceSales(priceSales)
+                .stock(500)
+                .category(category)
+                .volumeNumber(fieldNormalizer.parseVolumeNumber(row.volumeNumber()))
+                .build();
+
+        String publisherName = fieldNormalizer.blankToNull(row.publisher());
+        String imageUrl = fieldNormalizer.blankToNull(row.imageUrl());
+
+        long fingerprint = ContentFingerprint.start()
+                .add(book.getTitle())
+                .add(book.getDescription())
+                .add(publisherName)
+                .add(book.getPublishedDate())
+                .add(book.getPriceStandard())
+                .add(category != null ? category.getKdcCode() : null)
+                .add(book.getVolumeNumber())
+                .add(imageUrl)
+                .value();
+
+        return new BookImportItem(book, publisherName, imageUrl, fingerprint);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        categories.clear();
+        return null;
+    }
+
+    // KDC 코드가 없거나 처음 보는 코드면 미분류
+    private Category findCategory(String kdcCode) {
+        Category category = StringUtils.hasText(kdcCode) ? categories.get(kdcCode.trim()) : null;
+        return category != null ? category : categories.get(UNCATEGORIZED_CODE);
+    }
+}
@@ -0,0 +1,149 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.processor;
+
+import com.nhnacademy.book_data_batch.global.index.IsbnKeys;
+import com.nhnacademy.book_data_batch.global.index.LongLongHashMap;
+import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
+import com.nhnacademy.book_data_batch.jobs.book_import.cache.CompactBookRowStore;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+
+/**
+ * <pre>
+ * BookRowConsolidator
+ * - 파싱과 저장 사이에서 같은 ISBN의 CSV 행을 하나로 병합 (tasklet 모드)
+ * - ISBN-13(ISBN-10 변환 포함)을 한 번만 결정해 long 키로 묶음 (LongLongHashMap: ISBN → 남길 행 위치)
+ * - 병합 결과 행의 isbn13에 결정된 ISBN-13을 기록, isbn10은 비움
+ *   → 이후 Step은 IsbnResolver 없이 row.isbn13() 사용
+ * - ISBN이 유효하지 않은 행은 제외
+ *
+ * [병합 규칙: batch.book.consolidation.policy]
+ * - FIRST: 먼저 나온 행 유지, 빈 필드만 뒤 행으로 채움
+ * - LATEST: 출판일이 가장 늦은 행 유지, 빈 필드만 다른 행으로 채움
+ * - RICHEST (기본): 필드별 선택 - 가장 긴 설명, 가장 늦은 출판일, 나머지는 먼저 나온 비어있지 않은 값
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BookRowConsolidator {
+
+    public enum MergePolicy { FIRST, LATEST, RICHEST }
+
+    private static final long ABSENT = -1L;
+
+    private final IsbnResolver isbnResolver;
+    private final FieldNormalizer fieldNormalizer;
+    private final MergePolicy policy;
+
+    /**
+     * 저장소의 행을 ISBN 기준으로 병합 (파일 순서 유지, 첫 등장 위치 기준)
+     *
+     * @return 병합 후 행 수
+     */
+    public int consolidate(CompactBookRowStore store) {
+        long start = System.currentTimeMillis();
+        int total = store.size();
+
+        LongLongHashMap positionByIsbn = new LongLongHashMap(Math.max(16, total));
+        int[] retained = new int[total];
+        int retainedCount = 0;
+        int invalid = 0;
+
+        for (int index = 0; index < total; index++) {
+            BookCsvRow row = store.get(index);
+            String isbn13 = isbnResolver.resolve(row.isbn13(), row.isbn10());
+            long key = IsbnKeys.toKey(isbn13);
+            if (key == IsbnKeys.INVALID) {
+                invalid++;
+                continue;
+            }
+
+            BookCsvRow resolved = withIsbn(row, isbn13);
+            long position = positionByIsbn.get(key, ABSENT);
+            if (position == ABSENT) {
+                positionByIsbn.put(key, retainedCount, ABSENT);
+                retained[retainedCount++] = index;
+                store.replace(index, resolved);
+                continue;
+            }
+
+            int keptIndex = retained[(int) position];
+            store.replace(keptIndex, merge(store.get(keptIndex), resolved));
+        }
+
+        store.retain(retained, retainedCount);
+
+        log.info("[Consolidate] ISBN 중복 병합 완료 ({}) - 입력: {}건, 유효하지 않은 ISBN: {}건, 병합: {}건 → {}건, {}ms",
+                policy, total, invalid, total - invalid - retainedCount, retainedCount,
+                System.currentTimeMillis() - start);
+        return retainedCount;
+    }
+
+    BookCsvRow merge(BookCsvRow kept, BookCsvRow incoming) {
+        return switch (policy) {
+            case FIRST -> fill(kept, incoming, pick(kept.description(), incoming.description()), kept);
+            case LATEST -> isLater(incoming, kept)
+                    ? fill(incoming, kept, pick(incoming.description(), kept.description()), incoming)
+                    : fill(kept, incoming, pick(kept.description(), incoming.description()), kept);
+            case RICHEST -> fill(kept, incoming, longer(kept.description(), incoming.description()),
+                    isLater(incoming, kept) ? incoming : kept);
+        };
+    }
+
+    /**
+     * base 값 우선, 빈 필드는 other로 채움 (설명/출판일은 규칙에 따라 선택된 값 사용)
+     */
+    private BookCsvRow fill(BookCsvRow base, BookCsvRow other, String description, BookCsvRow dateSource) {
+        return new BookCsvRow(
+                "",
+                base.isbn13(),
+                pick(base.volumeNumber(), other.volumeNumber()),
+                pick(base.title(), other.title()),
+                pick(base.author(), other.author()),
+                pick(base.publisher(), other.publisher()),
+                dateSource.publishedDate(),
+                "",
+                pick(base.price(), other.price()),
+                pick(base.imageUrl(), other.imageUrl()),
+                description,
+                pick(base.kdcCode(), other.kdcCode()),
+                "",
+                "",
+                dateSource.secondaryPublishedDate(),
+                "",
+                "",
+                ""
+        );
+    }
+
+    private boolean isLater(BookCsvRow candidate, BookCsvRow current) {
+        LocalDate candidateDate = fieldNormalizer.parseDate(candidate.publishedDate(), candidate.secondaryPublishedDate());
+        if (candidateDate == null) {
+            return false;
+        }
+        LocalDate currentDate = fieldNormalizer.parseDate(current.publishedDate(), current.secondaryPublishedDate());
+        return currentDate == null || candidateDate.isAfter(currentDate);
+    }
+
+    private static BookCsvRow withIsbn(BookCsvRow row, String isbn13) {
+        return new BookCsvRow(
+                row.seqNo(), isbn13, row.volumeNumber(), row.title(), row.author(), row.publisher(),
+                row.publishedDate(), row.editionSymbol(), row.price(), row.imageUrl(), row.description(),
+                row.kdcCode(), row.titleSearch(), row.authorSearch(), row.secondaryPublishedDate(),
+                row.internetBookstoreYn(), row.portalSiteYn(), "");
+    }
+
+    private static String pick(String preferred, String fallback) {
+        return StringUtils.hasText(preferred) ? preferred : fallback;
+    }
+
+    private static String longer(String a, String b) {
+        int aLength = StringUtils.hasText(a) ? a.trim().length() : 0;
+        int bLength = StringUtils.hasText(b) ? b.trim().length() : 0;
+        return bLength > aLength ? b : a;
+    }
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.reader;
+
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.nhnacademy.book_data_batch.jobs.book_import.mapper.BookCsvRowMapper;
+import com.opencsv.CSVReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * BookCsvItemReader
+ * - 도서 CSV를 한 행씩 스트리밍으로 읽는 Reader (Chunk 모드)
+ * - 파일 전체를 메모리에 올리지 않으므로 메모리 사용량은 Chunk 크기에만 비례
+ * - 따옴표로 감싼 여러 줄 설명(description)은 OpenCSV가 처리
+ * </pre>
+ */
+public class BookCsvItemReader extends AbstractItemCountingItemStreamItemReader<BookCsvRow> {
+
+    private final Resource csvResource;
+    private final BookCsvRowMapper rowMapper;
+
+    private CSVReader csvReader;
+
+    public BookCsvItemReader(Resource csvResource, BookCsvRowMapper rowMapper) {
+        this.csvResource = csvResource;
+        this.rowMapper = rowMapper;
+        setName("bookCsvItemReader");
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        csvReader = rowMapper.openReader(
+                new InputStreamReader(csvResource.getInputStream(), StandardCharsets.UTF_8), 1);  // 헤더 스킵
+    }
+
+    @Override
+    protected BookCsvRow doRead() throws Exception {
+        String[] columns = csvReader.readNext();
+        return columns != null ? rowMapper.map(columns) : null;
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        if (csvReader != null) {
+            csvReader.close();
+            csvReader = null;
+        }
+    }
+}
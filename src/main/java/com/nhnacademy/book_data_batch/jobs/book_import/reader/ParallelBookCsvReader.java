@@ -0,0 +1,343 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.reader;
+
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.CsvByteRange;
+import com.nhnacademy.book_data_batch.jobs.book_import.mapper.BookCsvRowMapper;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * ParallelBookCsvReader
+ * - 도서 CSV를 FileChannel로 메모리 매핑해 여러 코어에서 병렬 파싱
+ *
+ * [레코드 경계 분할]
+ * 1. 헤더 다음 위치부터 파일을 N개 구간으로 균등 절단
+ * 2. 구간별 따옴표(") 개수를 병렬 집계 → 누적 홀짝으로 각 절단점의 따옴표 내부 여부 판단
+ * 3. 절단점에서 따옴표 밖의 첫 줄바꿈까지 전진 → 실제 레코드 경계
+ *    (description 안의 줄바꿈에서 잘리지 않음, OpenCSV 기본 escape(\) 규칙 동일 적용)
+ *
+ * [결과 제공 방식]
+ * - readOrdered: 구간별 파싱 결과를 파일 순서대로 전달 (동시 진행 구간 수 제한)
+ * - split/readRange: 구간 분할 / 구간 하나만 파싱
+ * </pre>
+ */
+@Slf4j
+public class ParallelBookCsvReader {
+
+    // 구간 하나를 MappedByteBuffer 하나로 매핑하므로 2GB 미만 유지 (경계 보정 여유 포함)
+    private static final long MAX_RANGE_BYTES = 1L << 30;
+    private static final int SPLITS_PER_WORKER = 4;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte QUOTE = '"';
+    private static final byte ESCAPE = '\\';
+    private static final byte NEWLINE = '\n';
+
+    private final Path csvPath;
+    private final BookCsvRowMapper rowMapper;
+    private final int parallelism;
+
+    /**
+     * @param parallelism 파싱 스레드 수 (0 이하이면 가용 코어 수)
+     */
+    public ParallelBookCsvReader(Path csvPath, BookCsvRowMapper rowMapper, int parallelism) {
+        this.csvPath = csvPath;
+        this.rowMapper = rowMapper;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 전체 CSV를 병렬 파싱해 구간 순서대로 consumer에 전달
+     * - 동시에 메모리에 올라가는 구간은 parallelism * 2개로 제한
+     *
+     * @return 파싱한 전체 행 수
+     */
+    public long readOrdered(Consumer<List<BookCsvRow>> consumer) throws IOException {
+        ExecutorService executor = newExecutor();
+        try {
+            List<CsvByteRange> ranges = split(parallelism * SPLITS_PER_WORKER, executor);
+            int window = parallelism * 2;
+            Deque<Future<List<BookCsvRow>>> inFlight = new ArrayDeque<>(window);
+
+            int next = 0;
+            while (next < ranges.size() && inFlight.size() < window) {
+                CsvByteRange range = ranges.get(next++);
+                inFlight.add(executor.submit(() -> readRange(range)));
+            }
+
+            long total = 0;
+            while (!inFlight.isEmpty()) {
+                List<BookCsvRow> rows = await(inFlight.poll());
+                if (next < ranges.size()) {
+                    CsvByteRange range = ranges.get(next++);
+                    inFlight.add(executor.submit(() -> readRange(range)));
+                }
+                consumer.accept(rows);
+                total += rows.size();
+            }
+
+            log.debug("[CSV] 병렬 파싱 완료 - 구간: {}, 행: {}, 스레드: {}", ranges.size(), total, parallelism);
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 헤더를 제외한 데이터 영역을 레코드 경계에 맞춘 구간들로 분할
+     *
+     * @param partitionCount 목표 구간 수 (구간 크기 상한 때문에 더 늘어날 수 있고, 작은 파일은 줄어들 수 있음)
+     */
+    public List<CsvByteRange> split(int partitionCount) throws IOException {
+        ExecutorService executor = newExecutor();
+        try {
+            return split(partitionCount, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 구간 하나를 파싱해 BookCsvRow 목록으로 반환
+     */
+    public List<BookCsvRow> readRange(CsvByteRange range) throws IOException {
+        List<BookCsvRow> rows = new ArrayList<>();
+        try (CSVReader csvReader = openRange(range)) {
+            String[] columns;
+            while ((columns = csvReader.readNext()) != null) {
+                rows.add(rowMapper.map(columns));
+            }
+        } catch (CsvValidationException e) {
+            throw new IOException("CSV 파싱 실패 - 구간: " + range, e);
+        }
+        return rows;
+    }
+
+    // 구간 하나에 대한 CSVReader (헤더 스킵 없음)
+    private CSVReader openRange(CsvByteRange range) throws IOException {
+        if (range.length() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("CSV 구간이 너무 큽니다: " + range);
+        }
+        try (FileChannel channel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유효
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, range.start(), range.length());
+            return rowMapper.openReader(
+                    new InputStreamReader(new ByteBufferInputStream(buffer), StandardCharsets.UTF_8), 0);
+        }
+    }
+
+    private List<CsvByteRange> split(int partitionCount, ExecutorService executor) throws IOException {
+        try (FileChannel channel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = findRecordEnd(channel, 0, false, false, size);  // 헤더 스킵
+            if (dataStart >= size) {
+                return List.of();
+            }
+
+            long dataLength = size - dataStart;
+            int count = (int) Math.max(Math.max(1, partitionCount), ceilDiv(dataLength, MAX_RANGE_BYTES));
+            long[] cuts = new long[count + 1];
+            for (int i = 0; i <= count; i++) {
+                cuts[i] = dataStart + dataLength * i / count;
+            }
+
+            // 1. 구간별 따옴표 개수 병렬 집계
+            long[] quoteCounts = countQuotes(channel, cuts, dataStart, executor);
+
+            // 2. 누적 홀짝으로 절단점의 따옴표 상태 결정 → 다음 레코드 경계까지 전진
+            List<CsvByteRange> ranges = new ArrayList<>(count);
+            long start = dataStart;
+            long quotes = 0;
+            for (int i = 1; i < count; i++) {
+                quotes += quoteCounts[i - 1];
+                if (cuts[i] <= start) {
+                    continue;  // 이전 경계가 이미 이 절단점을 넘어섬
+                }
+
+                boolean inQuotes = (quotes & 1) == 1;
+                boolean escaped = isEscaped(channel, cuts[i], dataStart);
+                long boundary = findRecordEnd(channel, cuts[i], inQuotes, escaped, size);
+                if (boundary >= size) {
+                    break;
+                }
+                ranges.add(new CsvByteRange(ranges.size(), start, boundary));
+                start = boundary;
+            }
+            ranges.add(new CsvByteRange(ranges.size(), start, size));
+            return ranges;
+        }
+    }
+
+    /**
+     * [cuts[i], cuts[i+1]) 구간별 escape되지 않은 따옴표 수
+     */
+    private long[] countQuotes(FileChannel channel, long[] cuts, long dataStart, ExecutorService executor)
+            throws IOException {
+
+        int segments = cuts.length - 1;
+        List<Future<Long>> futures = new ArrayList<>(segments);
+        for (int i = 0; i < segments; i++) {
+            long from = cuts[i];
+            long to = cuts[i + 1];
+            futures.add(executor.submit(() -> {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+                boolean escaped = isEscaped(channel, from, dataStart);
+                long count = 0;
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b == ESCAPE) {
+                        escaped = !escaped;
+                        continue;
+                    }
+                    if (b == QUOTE && !escaped) {
+                        count++;
+                    }
+                    escaped = false;
+                }
+                return count;
+            }));
+        }
+
+        long[] counts = new long[segments];
+        for (int i = 0; i < segments; i++) {
+            counts[i] = await(futures.get(i));
+        }
+        return counts;
+    }
+
+    /**
+     * from부터 따옴표 밖의 첫 줄바꿈을 찾아 그 다음 위치 반환 (없으면 파일 끝)
+     */
+    private long findRecordEnd(FileChannel channel, long from, boolean inQuotes, boolean escaped, long size)
+            throws IOException {
+
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                position++;
+                if (b == ESCAPE) {
+                    escaped = !escaped;
+                    continue;
+                }
+                if (b == QUOTE && !escaped) {
+                    inQuotes = !inQuotes;
+                } else if (b == NEWLINE && !inQuotes) {
+                    return position;
+                }
+                escaped = false;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * position 직전의 연속된 역슬래시 개수가 홀수면 position의 문자는 escape 됨
+     */
+    private boolean isEscaped(FileChannel channel, long position, long lowerBound) throws IOException {
+        ByteBuffer one = ByteBuffer.allocate(1);
+        boolean escaped = false;
+        for (long p = position - 1; p >= lowerBound; p--) {
+            one.clear();
+            if (channel.read(one, p) <= 0 || one.get(0) != ESCAPE) {
+                break;
+            }
+            escaped = !escaped;
+        }
+        return escaped;
+    }
+
+    private ExecutorService newExecutor() {
+        return Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("csv-parser-", 0).daemon(true).factory());
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CSV 병렬 파싱 중단", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("CSV 병렬 파싱 실패", cause);
+        }
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return (x + y - 1) / y;
+    }
+
+    /**
+     * MappedByteBuffer → InputStream 어댑터 (동기화 없음, 단일 스레드 전용)
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
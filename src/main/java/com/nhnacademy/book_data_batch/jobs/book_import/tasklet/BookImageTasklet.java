@@ -3,9 +3,6 @@ package com.nhnacademy.book_data_batch.jobs.book_import.tasklet;
 import com.nhnacademy.book_data_batch.jobs.book_import.cache.InMemoryReferenceDataCache;
 import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
 import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImageDto;
-import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
-import com.nhnacademy.book_data_batch.domain.entity.Batch;
-import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.enums.ImageType;
 import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookImageRepository;
@@ -17,14 +14,13 @@ import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
  * Step 3: BookImage + Batch 저장 Tasklet
  * 
  * 1. CSV 데이터에서 이미지 URL 추출
- * 2. Book 캐시에서 Book.id 조회
+ * 2. Book ID 캐시에서 book_id 조회
  * 3. BookImage Bulk INSERT
  * 4. Batch 기록 Bulk INSERT
  */
@@ -34,14 +30,11 @@ public class BookImageTasklet implements Tasklet {
     private final InMemoryReferenceDataCache cache;
     private final BookImageRepository bookImageRepository;
     private final BatchRepository batchRepository;
-    private final IsbnResolver isbnResolver;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
 
         List<BookCsvRow> csvRows = cache.getCsvData();
-        Collection<Book> savedBooks = cache.getAllBooks();
-
 
         // 1. BookImage DTO 생성
         List<BookImageDto> bookImages = new ArrayList<>();
@@ -52,19 +45,14 @@ public class BookImageTasklet implements Tasklet {
                 continue; // 이미지 URL이 없으면 건너뜀
             }
 
-            // ISBN으로 Book 찾기
-            String isbn13 = isbnResolver.resolve(row.isbn13(), row.isbn10());
-            if (isbn13 == null) {
-                continue;
-            }
-
-            Book book = cache.findBook(isbn13);
-            if (book == null || book.getId() == null) {
+            // ISBN으로 Book 찾기 (병합 단계에서 결정된 ISBN-13)
+            Long bookId = cache.findBookId(row.isbn13());
+            if (bookId == null) {
                 continue;
             }
 
             bookImages.add(new BookImageDto(
-                    book.getId(),
+                    bookId,
                     imageUrl.trim(),
                     ImageType.THUMBNAIL.getCode(),
                     0
@@ -77,13 +65,7 @@ public class BookImageTasklet implements Tasklet {
         }
 
         // 3. Batch 기록 Bulk INSERT
-        List<Batch> batches = savedBooks.stream()
-                .map(Batch::new)
-                .toList();
-        
-        if (!batches.isEmpty()) {
-            batchRepository.bulkInsert(batches);
-        }
+        batchRepository.bulkInsertByBookIds(cache.getAllBookIds());
 
         contribution.incrementWriteCount(bookImages.size());
         return RepeatStatus.FINISHED;
@@ -2,12 +2,13 @@ package com.nhnacademy.book_data_batch.jobs.book_import.tasklet;
 
 import com.nhnacademy.book_data_batch.jobs.book_import.cache.InMemoryReferenceDataCache;
 import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
 import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
-import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.entity.Category;
 import com.nhnacademy.book_data_batch.domain.entity.Publisher;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
@@ -16,24 +17,26 @@ import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Step 2: Book 처리 Tasklet
  * 
- * 1. CSV 데이터 → Book 엔티티 변환 (캐시된 Publisher, Category 사용)
- * 2. Book Bulk INSERT
- * 3. ISBN으로 전체 조회 → Book 캐시 구축
+ * 1. CSV 데이터 → Book 엔티티 변환 (PublisherDictionary, 캐시된 Category 사용, ISBN은 병합 단계에서 결정된 값)
+ * 2. Book Bulk INSERT → 생성 키로 ISBN → book_id 캐시 구축
+ *    (INSERT IGNORE로 건너뛴 기존 도서만 ID 조회)
+ *
+ * 기존 도서 ISBN 인덱스에 있는 도서는 변환 단계에서 제외 (이후 Step의 이미지/Batch 등록도 생략)
  */
 @RequiredArgsConstructor
 public class BookProcessingTasklet implements Tasklet {
 
     private final InMemoryReferenceDataCache cache;
     private final BookRepository bookRepository;
-    private final IsbnResolver isbnResolver;
+    private final PublisherDictionary publisherDictionary;
     private final FieldNormalizer fieldNormalizer;
+    private final IsbnExistenceIndex isbnExistenceIndex;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
@@ -42,25 +45,21 @@ public class BookProcessingTasklet implements Tasklet {
 
         // 1. CSV → Book 변환
         List<Book> books = new ArrayList<>();
-        List<String> isbns = new ArrayList<>();
 
         for (BookCsvRow row : csvRows) {
             Book book = convertToBook(row);
             if (book != null) {
                 books.add(book);
-                isbns.add(book.getIsbn());
             }
         }
 
-        // 2. Book Bulk INSERT
+        // 2. Book Bulk INSERT + Book ID 캐시 구축
         if (!books.isEmpty()) {
-            bookRepository.bulkInsert(books);
+            Map<String, Long> bookIds = bookRepository.bulkInsertReturningIds(books);
+            cache.putBookIds(bookIds);
+            isbnExistenceIndex.addAll(bookIds.keySet());
         }
 
-        // 3. ISBN으로 Book 캐시 구축
-        Set<String> isbnSet = new HashSet<>(isbns);
-        cache.buildBookCache(bookRepository, isbnSet);
-
         contribution.incrementWriteCount(books.size());
         return RepeatStatus.FINISHED;
     }
@@ -69,18 +68,21 @@ public class BookProcessingTasklet implements Tasklet {
      * BookCsvRow → Book 엔티티 변환
      */
     private Book convertToBook(BookCsvRow row) {
-        // ISBN 결정
-        String isbn = isbnResolver.resolve(row.isbn13(), row.isbn10());
+        // ISBN (Step 1 병합 단계에서 ISBN-13으로 결정됨)
+        String isbn = row.isbn13();
         if (!StringUtils.hasText(isbn)) {
             return null;  // ISBN 없으면 스킵
         }
+        if (isbnExistenceIndex.contains(isbn)) {
+            return null;  // 이미 등록된 도서
+        }
 
         // Category 조회
         String kdcCode = fieldNormalizer.normalizeKdc(row.kdcCode());
         Category category = cache.findCategory(kdcCode);
 
         // Publisher 조회
-        Publisher publisher = cache.findPublisher(row.publisher());
+        Publisher publisher = publisherDictionary.find(row.publisher());
 
         if (row.title() == null || row.title().isBlank()) {
             return null; // 제목 없으면 스킵
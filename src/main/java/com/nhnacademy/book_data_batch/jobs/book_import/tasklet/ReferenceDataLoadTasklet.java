@@ -3,15 +3,14 @@ package com.nhnacademy.book_data_batch.jobs.book_import.tasklet;
 import com.nhnacademy.book_data_batch.jobs.book_import.cache.InMemoryReferenceDataCache;
 import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
-import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
-import com.opencsv.CSVParserBuilder;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
+import com.nhnacademy.book_data_batch.jobs.book_import.mapper.BookCsvRowMapper;
+import com.nhnacademy.book_data_batch.jobs.book_import.processor.BookRowConsolidator;
+import com.nhnacademy.book_data_batch.jobs.book_import.reader.ParallelBookCsvReader;
 import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.StepContribution;
@@ -26,49 +25,31 @@ import org.springframework.util.StringUtils;
  * ReferenceDataLoadTasklet
  * - CSV 전체 메모리 로드 + 참조 데이터 사전 로딩
  *
- * 1. CSV 파일 전체 메모리 로드 → List<BookCsvRow>
- * 2. 출판사 Bulk INSERT (INSERT IGNORE)
- * 3. Publisher 캐시 구축
+ * 1. CSV 파일 전체 로드 → 캐시 행 저장소(CompactBookRowStore)에 적재
+ *    (로컬 파일이면 ParallelBookCsvReader로 멀티 코어 병렬 파싱)
+ * 2. 같은 ISBN 행 병합 (BookRowConsolidator, 결정된 ISBN-13을 행에 기록)
+ * 3. 출판사 ID 확보 (PublisherDictionary: 처음 보는 이름만 INSERT)
  * 4. Category 캐시 구축
- * 5. CSV 데이터 캐시 저장
  * </pre>
  */
 @RequiredArgsConstructor
 public class ReferenceDataLoadTasklet implements Tasklet {
 
     private final Resource csvResource;
-    private final PublisherRepository publisherRepository;
+    private final PublisherDictionary publisherDictionary;
     private final CategoryRepository categoryRepository;
     private final InMemoryReferenceDataCache referenceDataCache;
-
-    // CSV 컬럼 인덱스
-    private static final int SEQ_NO = 0;
-    private static final int ISBN13 = 1;
-    private static final int VOLUME_NUMBER = 2;
-    private static final int TITLE = 3;
-    private static final int AUTHOR = 4;
-    private static final int PUBLISHER = 5;
-    private static final int PUBLISHED_DATE = 6;
-    private static final int EDITION_SYMBOL = 7;
-    private static final int PRICE = 8;
-    private static final int IMAGE_URL = 9;
-    private static final int DESCRIPTION = 10;
-    private static final int KDC_CODE = 11;
-    private static final int TITLE_SEARCH = 12;
-    private static final int AUTHOR_SEARCH = 13;
-    private static final int SECONDARY_PUBLISHED_DATE = 14;
-    private static final int INTERNET_BOOKSTORE_YN = 15;
-    private static final int PORTAL_SITE_YN = 16;
-    private static final int ISBN10 = 17;
+    private final BookCsvRowMapper rowMapper;
+    private final int parseParallelism;
+    private final BookRowConsolidator consolidator;
 
     /**
      * Tasklet 실행 메서드
      *
-     * 1. CSV 전체 메모리 로드 → List<BookCsvRow>
-     * 2. 출판사 Bulk INSERT
-     * 3. Publisher 캐시 구축
+     * 1. CSV 전체 로드 → 캐시 행 저장소
+     * 2. ISBN 중복 병합
+     * 3. 출판사 ID 확보
      * 4. Category 캐시 구축
-     * 5. CSV 데이터 캐시 저장
      */
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
@@ -76,86 +57,49 @@ public class ReferenceDataLoadTasklet implements Tasklet {
         // 캐시 초기화
         referenceDataCache.clear();
 
-        // 1. CSV 전체 메모리 로드
-        List<BookCsvRow> csvRows = new ArrayList<>();
+        // 1. CSV 전체 로드 → 캐시 행 저장소에 바로 적재 (중간 List 없음)
         Set<String> publisherNames = new HashSet<>();
 
-        try (CSVReader csvReader = new CSVReaderBuilder(
-                new InputStreamReader(csvResource.getInputStream(), StandardCharsets.UTF_8))
-                .withSkipLines(1)  // 헤더 스킵
-                .withCSVParser(new CSVParserBuilder()
-                        .withSeparator(',')
-                        .withQuoteChar('"')
-                        .build())
-                .build()) {
-
-            String[] columns;
-            while ((columns = csvReader.readNext()) != null) {
-                BookCsvRow row = mapToBookCsvRow(columns);
-                csvRows.add(row);
-
-                // 출판사 수집
-                if (StringUtils.hasText(row.publisher())) {
-                    publisherNames.add(row.publisher());
+        if (csvResource.isFile()) {
+            // 파일 시스템의 CSV → 바이트 구간 병렬 파싱 (결과는 파일 순서 유지)
+            new ParallelBookCsvReader(csvResource.getFile().toPath(), rowMapper, parseParallelism)
+                    .readOrdered(batch -> batch.forEach(row -> collect(row, publisherNames)));
+        } else {
+            // jar 내부 등 매핑 불가능한 리소스 → 단일 스레드 스트리밍
+            try (CSVReader csvReader = rowMapper.openReader(
+                    new InputStreamReader(csvResource.getInputStream(), StandardCharsets.UTF_8), 1)) {  // 헤더 스킵
+
+                String[] columns;
+                while ((columns = csvReader.readNext()) != null) {
+                    collect(rowMapper.map(columns), publisherNames);
                 }
             }
         }
 
-        // 2. 출판사 Bulk INSERT
-        publisherRepository.bulkInsert(publisherNames);
+        // 2. ISBN 중복 병합
+        referenceDataCache.consolidateCsvRows(consolidator);
 
-        // 3. Publisher 캐시 구축
-        referenceDataCache.buildPublisherCache(publisherRepository);
+        // 3. 출판사 ID 확보 (Step 커밋 후 사전에 반영 → Step 2에서 조회)
+        publisherDictionary.resolve(publisherNames);
 
         // 4. Category 캐시 구축
         referenceDataCache.buildCategoryCache(categoryRepository);
 
-        // 5. CSV 데이터 캐시 저장
-        referenceDataCache.setCsvData(csvRows);
-
         // 캐시 준비 완료 표시
         referenceDataCache.markReady();
 
         // StepContribution에 처리 건수 기록
-        contribution.incrementWriteCount(csvRows.size());
+        contribution.incrementWriteCount(referenceDataCache.getCsvDataSize());
 
         return RepeatStatus.FINISHED;
     }
 
-    /**
-     * CSV 컬럼 배열 → BookCsvRow 변환
-     */
-    private BookCsvRow mapToBookCsvRow(String[] columns) {
-        return new BookCsvRow(
-                getColumn(columns, SEQ_NO),
-                getColumn(columns, ISBN13),
-                getColumn(columns, VOLUME_NUMBER),
-                getColumn(columns, TITLE),
-                getColumn(columns, AUTHOR),
-                getColumn(columns, PUBLISHER),
-                getColumn(columns, PUBLISHED_DATE),
-                getColumn(columns, EDITION_SYMBOL),
-                getColumn(columns, PRICE),
-                getColumn(columns, IMAGE_URL),
-                getColumn(columns, DESCRIPTION),
-                getColumn(columns, KDC_CODE),
-                getColumn(columns, TITLE_SEARCH),
-                getColumn(columns, AUTHOR_SEARCH),
-                getColumn(columns, SECONDARY_PUBLISHED_DATE),
-                getColumn(columns, INTERNET_BOOKSTORE_YN),
-                getColumn(columns, PORTAL_SITE_YN),
-                getColumn(columns, ISBN10)
-        );
-    }
+    private void collect(BookCsvRow row, Set<String> publisherNames) {
+        referenceDataCache.appendCsvRow(row);
 
-    /**
-     * 안전한 컬럼 추출 (인덱스 초과 시 빈 문자열)
-     */
-    private String getColumn(String[] columns, int index) {
-        if (columns == null || index >= columns.length) {
-            return "";
+        // 출판사 수집
+        if (StringUtils.hasText(row.publisher())) {
+            publisherNames.add(row.publisher());
         }
-        String value = columns[index];
-        return value != null ? value.trim() : "";
     }
 }
@@ -0,0 +1,164 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.writer;
+
+import com.nhnacademy.book_data_batch.domain.entity.Book;
+import com.nhnacademy.book_data_batch.domain.entity.Publisher;
+import com.nhnacademy.book_data_batch.domain.enums.ImageType;
+import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookFingerprintRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookImageRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImageDto;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImportItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * BookImportChunkWriter (Chunk 모드)
+ * - Chunk 단위로 Publisher → Book → BookImage → Batch 순서로 저장
+ * - 출판사는 공유 사전(PublisherDictionary)으로 처리, 처음 보는 이름만 INSERT
+ * - 저장한 행의 내용 지문을 book_fingerprint에 기록
+ * - 실패 시 해당 Chunk만 롤백됨
+ *
+ * [증분(delta) 모드]
+ * - 저장된 지문과 비교해 다르거나 없으면 UPSERT, 같으면 건너뜀
+ *   (지문이 없는 행 = 처음 보는 도서 또는 지문 없이 적재된 기존 도서 → UPSERT 후 지문 기록)
+ * - 반영한 도서의 썸네일은 기존 행을 지우고 새로 저장 (URL이 바뀌어도 이전 이미지가 남지 않음)
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BookImportChunkWriter implements ItemWriter<BookImportItem> {
+
+    private final PublisherDictionary publisherDictionary;
+    private final BookRepository bookRepository;
+    private final BookImageRepository bookImageRepository;
+    private final BatchRepository batchRepository;
+    private final BookFingerprintRepository fingerprintRepository;
+    private final IsbnExistenceIndex isbnExistenceIndex;
+    private final boolean deltaMode;
+
+    @Override
+    public void write(Chunk<? extends BookImportItem> chunk) {
+        // 1. 신규/변경 분류 (Chunk 안의 중복 ISBN은 마지막 행 사용)
+        List<BookImportItem> newItems = new ArrayList<>();
+        List<BookImportItem> changedItems = new ArrayList<>();
+        classify(chunk, newItems, changedItems);
+
+        if (newItems.isEmpty() && changedItems.isEmpty()) {
+            return;
+        }
+
+        List<BookImportItem> items = new ArrayList<>(newItems.size() + changedItems.size());
+        items.addAll(newItems);
+        items.addAll(changedItems);
+
+        // 2. Publisher 처리
+        PublisherDictionary.Resolved publishers = publisherDictionary.resolve(
+                items.stream().map(BookImportItem::publisherName).toList());
+
+        // 3. Book 처리 (신규 INSERT IGNORE, 변경/지문 없음 UPSERT) → ISBN → book_id
+        Map<String, Long> bookIds = new HashMap<>(bookRepository.bulkInsertReturningIds(toBooks(newItems, publishers)));
+        bookIds.putAll(bookRepository.bulkUpsertReturningIds(toBooks(changedItems, publishers)));
+        isbnExistenceIndex.addAll(bookIds.keySet());
+
+        // 4. BookImage 처리
+        List<BookImageDto> bookImages = new ArrayList<>();
+        for (BookImportItem item : items) {
+            Long bookId = bookIds.get(item.book().getIsbn());
+            if (item.imageUrl() == null || bookId == null) {
+                continue;
+            }
+            bookImages.add(new BookImageDto(
+                    bookId,
+                    item.imageUrl(),
+                    ImageType.THUMBNAIL.getCode(),
+                    0
+            ));
+        }
+
+        if (!bookImages.isEmpty()) {
+            if (deltaMode) {
+                bookImageRepository.replaceImages(bookImages);
+            } else {
+                bookImageRepository.bulkInsert(bookImages);
+            }
+        }
+
+        // 5. Batch 처리
+        batchRepository.bulkInsertByBookIds(bookIds.values());
+
+        // 6. 지문 기록 (저장이 거부된 도서는 다음 실행에서 다시 처리되도록 제외)
+        Map<String, Long> fingerprints = new HashMap<>();
+        for (BookImportItem item : items) {
+            if (bookIds.containsKey(item.book().getIsbn())) {
+                fingerprints.put(item.book().getIsbn(), item.fingerprint());
+            }
+        }
+        fingerprintRepository.bulkUpsert(fingerprints);
+    }
+
+    private void classify(
+            Chunk<? extends BookImportItem> chunk,
+            List<BookImportItem> newItems,
+            List<BookImportItem> changedItems
+    ) {
+        Map<String, BookImportItem> byIsbn = new LinkedHashMap<>();
+        for (BookImportItem item : chunk) {
+            byIsbn.put(item.book().getIsbn(), item);
+        }
+
+        if (!deltaMode) {
+            newItems.addAll(byIsbn.values());
+            return;
+        }
+
+        Map<String, Long> stored = fingerprintRepository.findFingerprints(byIsbn.keySet());
+        int unchanged = 0;
+        for (BookImportItem item : byIsbn.values()) {
+            Long previous = stored.get(item.book().getIsbn());
+            if (previous != null && previous == item.fingerprint()) {
+                unchanged++;
+            } else {
+                changedItems.add(item);
+            }
+        }
+        log.debug("[BOOK] 증분 분류 - 변경(지문 없음 포함): {}, 동일: {}", changedItems.size(), unchanged);
+    }
+
+    private List<Book> toBooks(List<BookImportItem> items, PublisherDictionary.Resolved publishers) {
+        List<Book> books = new ArrayList<>(items.size());
+        for (BookImportItem item : items) {
+            books.add(withPublisher(item.book(), publishers.find(item.publisherName())));
+        }
+        return books;
+    }
+
+    private Book withPublisher(Book book, Publisher publisher) {
+        if (publisher == null) {
+            return book;
+        }
+        return Book.builder()
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .description(book.getDescription())
+                .publishedDate(book.getPublishedDate())
+                .priceStandard(book.getPriceStandard())
+                .priceSales(book.getPriceSales())
+                .category(book.getCategory())
+                .stock(book.getStock())
+                .volumeNumber(book.getVolumeNumber())
+                .publisher(publisher)
+                .build();
+    }
+}
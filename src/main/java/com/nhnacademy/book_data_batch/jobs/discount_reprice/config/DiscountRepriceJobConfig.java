@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.jobs.discount_reprice.config;
 
 import com.nhnacademy.book_data_batch.domain.service.discount.DiscountPolicyHierarchyResolver;
 import com.nhnacademy.book_data_batch.domain.service.discount.DiscountPriceCalculator;
+import com.nhnacademy.book_data_batch.global.batch.WriteBehindWriterFactory;
 import com.nhnacademy.book_data_batch.jobs.discount_reprice.dto.DiscountRepriceTarget;
 import com.nhnacademy.book_data_batch.jobs.discount_reprice.processor.DiscountRepriceItemProcessor;
 import com.nhnacademy.book_data_batch.jobs.discount_reprice.reader.DiscountRepriceItemReader;
@@ -37,6 +38,7 @@ public class DiscountRepriceJobConfig {
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
     private final JdbcExecutor jdbcExecutor;
+    private final WriteBehindWriterFactory writeBehindWriterFactory;
 
     @Bean
     public Job discountRepriceJob(Step discountRepriceStep) {
@@ -56,7 +58,7 @@ public class DiscountRepriceJobConfig {
                 .listener(discountRepriceProcessor) // Processor가 Listener 역할도 수행
                 .reader(discountRepriceReader)
                 .processor(discountRepriceProcessor)
-                .writer(discountRepriceWriter)
+                .writer(writeBehindWriterFactory.wrap(discountRepriceWriter))
                 .build();
     }
 
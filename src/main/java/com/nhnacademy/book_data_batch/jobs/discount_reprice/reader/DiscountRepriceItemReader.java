@@ -18,5 +18,6 @@ public class DiscountRepriceItemReader extends JpaPagingItemReader<DiscountRepri
         setParameterValues(parameterValues);
         setPageSize(pageSize);
         setName("discountRepriceItemReader");
+        setSaveState(false);  // write-behind: 재시작 시 처음부터 다시 읽음 (바뀐 가격만 쓰므로 반복해도 안전)
     }
 }
\ No newline at end of file
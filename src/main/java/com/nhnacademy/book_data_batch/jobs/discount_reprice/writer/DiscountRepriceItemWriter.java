@@ -2,6 +2,8 @@ package com.nhnacademy.book_data_batch.jobs.discount_reprice.writer;
 
 import com.nhnacademy.book_data_batch.jobs.discount_reprice.dto.DiscountRepriceTarget;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.UpsertResult;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.UpsertSpec;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
@@ -9,7 +11,9 @@ import org.springframework.batch.item.ItemWriter;
 
 @Slf4j
 public class DiscountRepriceItemWriter implements ItemWriter<DiscountRepriceTarget> {
-    private static final String UPDATE_SQL = "UPDATE book SET price_sales = ? WHERE book_id = ?";
+    // 판매가가 그대로인 도서는 쓰지 않음
+    private static final UpsertSpec PRICE_SALES_SPEC =
+            UpsertSpec.of("book", "book_id", List.of("book_id", "price_sales"), List.of("price_sales"));
 
     private final JdbcExecutor jdbcExecutor;
 
@@ -23,14 +27,14 @@ public class DiscountRepriceItemWriter implements ItemWriter<DiscountRepriceTarg
         if (items.isEmpty()) {
             return;
         }
-        jdbcExecutor.execute(
-                UPDATE_SQL,
+        UpsertResult<? extends DiscountRepriceTarget> result = jdbcExecutor.updateChanged(
+                PRICE_SALES_SPEC,
                 items,
-                (ps, item) -> {
-                    ps.setObject(1, item.priceSales());
-                    ps.setObject(2, item.bookId());
-                },
-                1000
+                item -> new Object[]{item.bookId(), item.priceSales()}
         );
+        log.debug("[DISCOUNT] 판매가 재계산 - 갱신: {}, 동일: {}",
+                result.count(UpsertResult.Outcome.UPDATED), result.count(UpsertResult.Outcome.UNCHANGED));
+        result.rejects().forEach(reject -> log.warn("[DISCOUNT] 판매가 갱신 거부 - bookId: {}, SQLState: {}, {}",
+                reject.item().bookId(), reject.sqlState(), reject.message()));
     }
 }
@@ -1,5 +1,6 @@
 package com.nhnacademy.book_data_batch.jobs.embedding.step;
 
+import com.nhnacademy.book_data_batch.global.batch.WriteBehindWriterFactory;
 import com.nhnacademy.book_data_batch.jobs.embedding.dto.EmbeddingEnrichmentResult;
 import com.nhnacademy.book_data_batch.jobs.embedding.processor.EmbeddingItemProcessor;
 import com.nhnacademy.book_data_batch.jobs.embedding.writer.EmbeddingItemWriter;
@@ -26,6 +27,7 @@ public class EmbeddingStepConfig {
 
     private final EmbeddingItemProcessor embeddingItemProcessor;
     private final EmbeddingItemWriter embeddingItemWriter;
+    private final WriteBehindWriterFactory writeBehindWriterFactory;
 
     @Value("${app.batch.chunk-size}")
     private int chunkSize;
@@ -38,7 +40,7 @@ public class EmbeddingStepConfig {
                 .<Batch, EmbeddingEnrichmentResult>chunk(chunkSize, transactionManager)
                 .reader(embeddingBatchReader)
                 .processor(embeddingItemProcessor)
-                .writer(embeddingItemWriter)
+                .writer(writeBehindWriterFactory.wrap(embeddingItemWriter)) // 다음 Chunk 임베딩 생성과 색인/DB 쓰기를 겹침
                 .listener(embeddingItemProcessor) // Register listener
                 .build();
     }
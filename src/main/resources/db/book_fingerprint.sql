@@ -0,0 +1,7 @@
+-- 도서 CSV 행 내용 지문 (증분 임포트용, BookFingerprint 엔티티)
+-- delta-import 프로필에서만 spring.sql.init으로 실행 (ddl-auto: validate 전), 이미 있으면 건너뜀
+CREATE TABLE IF NOT EXISTS book_fingerprint (
+    isbn_13     VARCHAR(13) NOT NULL,
+    fingerprint BIGINT      NOT NULL,
+    PRIMARY KEY (isbn_13)
+);
@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.entity.Author;
 import com.nhnacademy.book_data_batch.domain.repository.impl.AuthorRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.AuthorRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +22,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, AuthorRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, AuthorRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("AuthorRepositoryImpl 통합 테스트")
@@ -1,6 +1,7 @@
 package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.repository.impl.BatchRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.EnrichmentFailureDto;
 import com.nhnacademy.book_data_batch.jobs.embedding.dto.EmbeddingFailureDto;
 import com.nhnacademy.book_data_batch.domain.entity.Batch;
@@ -24,7 +25,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, BatchRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, BatchRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("BatchRepositoryImpl 통합 테스트")
@@ -65,6 +66,21 @@ class BatchRepositoryImplTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("bulkInsertByBookIds: book_id로 PENDING Batch 레코드 삽입")
+    void bulkInsertByBookIds_insertsPendingBatches() {
+        Book book1 = createBook("1234567890123", "Test Book 1", 1);
+        Book book2 = createBook("1234567890124", "Test Book 2", 2);
+
+        batchRepository.bulkInsertByBookIds(List.of(book1.getId(), book2.getId()));
+
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM batch", Integer.class);
+        assertThat(count).isEqualTo(2);
+
+        List<Integer> statuses = jdbcTemplate.queryForList("SELECT enrichment_status FROM batch", Integer.class);
+        assertThat(statuses).allMatch(s -> s == BatchStatus.PENDING.getCode());
+    }
+
     @Test
     @DisplayName("bulkInsert: 여러 Batch 레코드 삽입")
     void bulkInsert_multipleBatches_insertsCorrectly() {
@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.repository.AuthorRepository;
 import com.nhnacademy.book_data_batch.domain.repository.impl.BookAuthorRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.BookAuthorDto;
 import com.nhnacademy.book_data_batch.domain.entity.Author;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
@@ -24,7 +25,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, BookAuthorRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, BookAuthorRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("BookAuthorRepositoryImpl 통합 테스트")
@@ -0,0 +1,56 @@
+package com.nhnacademy.book_data_batch.domain.repository.impl;
+
+import com.nhnacademy.book_data_batch.domain.repository.BookFingerprintRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcExecutor.class, JdbcConfig.class, BookFingerprintRepositoryImpl.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("BookFingerprintRepositoryImpl 통합 테스트")
+class BookFingerprintRepositoryImplTest {
+
+    @Autowired
+    private BookFingerprintRepository bookFingerprintRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookFingerprintRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("bulkUpsert: 신규는 INSERT, 기존은 지문 갱신")
+    void bulkUpsert_insertsAndUpdates() {
+        bookFingerprintRepository.bulkUpsert(Map.of("1234567890123", 1L));
+
+        bookFingerprintRepository.bulkUpsert(Map.of("1234567890123", 2L, "1234567890124", 3L));
+
+        Map<String, Long> fingerprints = bookFingerprintRepository.findFingerprints(
+                List.of("1234567890123", "1234567890124", "9999999999999"));
+        assertThat(fingerprints).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "1234567890123", 2L,
+                "1234567890124", 3L));
+    }
+
+    @Test
+    @DisplayName("bulkUpsert: 빈 맵이면 아무것도 하지 않음")
+    void bulkUpsert_empty_noExecution() {
+        bookFingerprintRepository.bulkUpsert(Map.of());
+
+        assertThat(bookFingerprintRepository.count()).isZero();
+    }
+}
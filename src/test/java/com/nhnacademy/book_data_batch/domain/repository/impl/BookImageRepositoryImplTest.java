@@ -1,6 +1,7 @@
 package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.repository.impl.BookImageRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookImageDto;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.enums.ImageType;
@@ -23,7 +24,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, BookImageRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, BookImageRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("BookImageRepositoryImpl 통합 테스트")
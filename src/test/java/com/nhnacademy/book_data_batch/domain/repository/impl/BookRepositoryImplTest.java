@@ -1,11 +1,13 @@
 package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.repository.impl.BookRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.EnrichmentSuccessDto;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.entity.Category;
 import com.nhnacademy.book_data_batch.domain.entity.Publisher;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.UpsertResult;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
 import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
@@ -22,11 +24,12 @@ import org.springframework.test.annotation.DirtiesContext;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, BookRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, BookRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("BookRepositoryImpl 통합 테스트")
@@ -167,6 +170,38 @@ class BookRepositoryImplTest {
         assertThat(title).isEqualTo("Existing Book");
     }
 
+    @Test
+    @DisplayName("bulkInsertReturningIds: 신규/기존 도서 모두 ISBN → book_id 반환")
+    void bulkInsertReturningIds_newAndExisting_returnsAllIds() {
+        Publisher publisher = createPublisher("Test Publisher");
+        Category category = createCategory("100", "Test Category", "/1", 1);
+
+        Book existing = createBook("1234567890123", "Existing Book", publisher, category);
+
+        Book duplicate = new Book("1234567890123", "New Book", "Description", null, null, publisher, null, null, null, 10000, null, null, 1, category);
+        Book newBook = new Book("1234567890124", "Book 2", "Description", null, null, publisher, null, null, null, 20000, null, null, 1, category);
+
+        Map<String, Long> ids = bookRepository.bulkInsertReturningIds(List.of(duplicate, newBook));
+
+        Long newBookId = jdbcTemplate.queryForObject("SELECT book_id FROM book WHERE isbn_13 = ?", Long.class, "1234567890124");
+        assertThat(ids).containsEntry("1234567890123", existing.getId())
+                .containsEntry("1234567890124", newBookId)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("findIdsByIsbns: 존재하는 ISBN만 ID 반환")
+    void findIdsByIsbns_returnsOnlyExisting() {
+        Publisher publisher = createPublisher("Test Publisher");
+        Category category = createCategory("100", "Test Category", "/1", 1);
+
+        Book book = createBook("1234567890123", "Book 1", publisher, category);
+
+        Map<String, Long> ids = bookRepository.findIdsByIsbns(List.of("1234567890123", "9999999999999"));
+
+        assertThat(ids).containsExactly(Map.entry("1234567890123", book.getId()));
+    }
+
     @Test
     @DisplayName("bulkUpdateFromEnrichment: 빈 리스트일 때 아무것도 실행되지 않음")
     void bulkUpdateFromEnrichment_emptyList_noExecution() {
@@ -237,4 +272,54 @@ class BookRepositoryImplTest {
         List<String> descriptions = jdbcTemplate.queryForList("SELECT description FROM book ORDER BY book_id", String.class);
         assertThat(descriptions).containsExactly("Desc 1", "Desc 2");
     }
+
+    @Test
+    @DisplayName("bulkUpdateFromEnrichment: 값이 같은 행은 UNCHANGED, 없는 행은 MISSING")
+    void bulkUpdateFromEnrichment_reportsPerRowOutcomes() {
+        Publisher publisher = createPublisher("Test Publisher");
+        Category category = createCategory("100", "Test Category", "/1", 1);
+        Book book1 = createBook("1234567890123", "Book 1", publisher, category);
+        Book book2 = createBook("1234567890124", "Book 2", publisher, category);
+
+        EnrichmentSuccessDto first = new EnrichmentSuccessDto(book1.getId(), book1.getId(), "Desc 1", 10000,
+                LocalDate.of(2025, 1, 1), "Sub 1", 100, "Idx 1", List.of(), List.of(), null, "ko");
+        EnrichmentSuccessDto second = new EnrichmentSuccessDto(book2.getId(), book2.getId(), "Desc 2", 20000,
+                LocalDate.of(2025, 1, 1), "Sub 2", 200, "Idx 2", List.of(), List.of(), null, "en");
+        bookRepository.bulkUpdateFromEnrichment(List.of(first, second));
+
+        EnrichmentSuccessDto changed = new EnrichmentSuccessDto(book2.getId(), book2.getId(), "Desc 2 (개정)", 20000,
+                LocalDate.of(2025, 1, 1), "Sub 2", 200, "Idx 2", List.of(), List.of(), null, "en");
+        EnrichmentSuccessDto missing = new EnrichmentSuccessDto(-1L, -1L, "Desc", 10000,
+                LocalDate.of(2025, 1, 1), "Sub", 100, "Idx", List.of(), List.of(), null, "ko");
+
+        UpsertResult<EnrichmentSuccessDto> result =
+                bookRepository.bulkUpdateFromEnrichment(List.of(first, changed, missing));
+
+        assertThat(result.outcomes()).containsExactly(
+                UpsertResult.Outcome.UNCHANGED, UpsertResult.Outcome.UPDATED, UpsertResult.Outcome.MISSING);
+        assertThat(result.changedItems()).containsExactly(changed);
+        String description = jdbcTemplate.queryForObject(
+                "SELECT description FROM book WHERE book_id = ?", String.class, book2.getId());
+        assertThat(description).isEqualTo("Desc 2 (개정)");
+    }
+
+    @Test
+    @DisplayName("bulkUpsertReturningIds: 바뀐 행만 갱신하고 기존/신규 모두 ID 반환")
+    void bulkUpsertReturningIds_updatesChangedRowsOnly() {
+        Publisher publisher = createPublisher("Test Publisher");
+        Category category = createCategory("100", "Test Category", "/1", 1);
+        Book existing = createBook("1234567890123", "Book 1", publisher, category);
+        jdbcTemplate.update("UPDATE book SET updated_at = NULL WHERE book_id = ?", existing.getId());
+
+        Book same = new Book("1234567890123", "Book 1", null, null, null, publisher, null, null, null, null, null, null, 1, category);
+        Book added = new Book("1234567890124", "Book 2", null, null, null, publisher, null, null, null, null, null, null, 1, category);
+
+        Map<String, Long> ids = bookRepository.bulkUpsertReturningIds(List.of(same, added));
+
+        assertThat(ids).containsOnlyKeys("1234567890123", "1234567890124");
+        assertThat(ids.get("1234567890123")).isEqualTo(existing.getId());
+        Object updatedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM book WHERE book_id = ?", Object.class, existing.getId());
+        assertThat(updatedAt).isNull();
+    }
 }
@@ -0,0 +1,69 @@
+package com.nhnacademy.book_data_batch.domain.repository.impl;
+
+import com.nhnacademy.book_data_batch.domain.entity.Category;
+import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JdbcExecutor.class, JdbcConfig.class, CategoryRepositoryImpl.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("CategoryRepositoryImpl 통합 테스트")
+class CategoryRepositoryImplTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("forEachCategory: 전체 카테고리를 부모 없는 참조용 객체로 순회")
+    void forEachCategory_streamsAllCategories() {
+        Category parent = categoryRepository.save(Category.builder()
+                .kdcCode("8").categoryName("문학").path("/8").depth(1).build());
+        Category child = categoryRepository.save(Category.builder()
+                .parentCategory(parent).kdcCode("81").categoryName("한국문학").path("/8/81").depth(2).build());
+        categoryRepository.flush();
+
+        List<Category> categories = new ArrayList<>();
+        categoryRepository.forEachCategory(categories::add);
+
+        assertThat(categories).hasSize(2);
+        Category loadedChild = categories.stream()
+                .filter(category -> "81".equals(category.getKdcCode()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(loadedChild.getId()).isEqualTo(child.getId());
+        assertThat(loadedChild.getCategoryName()).isEqualTo("한국문학");
+        assertThat(loadedChild.getPath()).isEqualTo("/8/81");
+        assertThat(loadedChild.getDepth()).isEqualTo(2);
+        assertThat(loadedChild.getParentCategory()).isNull();
+    }
+
+    @Test
+    @DisplayName("forEachCategory: 카테고리가 없으면 콜백 호출 없음")
+    void forEachCategory_empty_noCallback() {
+        List<Category> categories = new ArrayList<>();
+
+        categoryRepository.forEachCategory(categories::add);
+
+        assertThat(categories).isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.entity.Publisher;
 import com.nhnacademy.book_data_batch.domain.repository.impl.PublisherRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +15,15 @@ import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, PublisherRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, PublisherRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("PublisherRepositoryImpl 통합 테스트")
@@ -89,4 +92,26 @@ class PublisherRepositoryImplTest {
         String name = jdbcTemplate.queryForObject("SELECT publisher_name FROM publisher", String.class);
         assertThat(name).isEqualTo("Sunny Books");
     }
+
+    @Test
+    @DisplayName("findIdsByNames: 이름 → ID 매핑, 없는 이름은 제외")
+    void findIdsByNames_returnsIdsForExistingNames() {
+        Publisher saved = publisherRepository.save(new Publisher("NHN Books"));
+
+        Map<String, Long> ids = publisherRepository.findIdsByNames(List.of("NHN Books", "Unknown"));
+
+        assertThat(ids).containsExactly(Map.entry("NHN Books", saved.getId()));
+    }
+
+    @Test
+    @DisplayName("forEachIdAndName: 전체 (ID, 이름) 순회")
+    void forEachIdAndName_visitsAllPublishers() {
+        publisherRepository.bulkInsert(Set.of("NHN Books", "Kakao Books"));
+
+        Map<String, Long> visited = new HashMap<>();
+        publisherRepository.forEachIdAndName((id, name) -> visited.put(name, id));
+
+        assertThat(visited).containsOnlyKeys("NHN Books", "Kakao Books");
+        assertThat(visited.values()).doesNotContainNull();
+    }
 }
@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.domain.repository.impl;
 
 import com.nhnacademy.book_data_batch.domain.entity.Tag;
 import com.nhnacademy.book_data_batch.domain.repository.impl.TagRepositoryImpl;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.TagRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +16,13 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({JdbcExecutor.class, TagRepositoryImpl.class})
+@Import({JdbcExecutor.class, JdbcConfig.class, TagRepositoryImpl.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("TagRepositoryImpl 통합 테스트")
@@ -89,4 +91,17 @@ class TagRepositoryImplTest {
         String name = jdbcTemplate.queryForObject("SELECT tag_name FROM tag", String.class);
         assertThat(name).isEqualTo("Sci-Fi");
     }
+
+    @Test
+    @DisplayName("findIdsByNames: 이름 → ID 맵 조회, 없는 이름은 제외")
+    void findIdsByNames_returnsIdsForExistingNames() {
+        tagRepository.bulkInsert(Set.of("Fantasy", "Sci-Fi"));
+        Long fantasyId = jdbcTemplate.queryForObject(
+                "SELECT tag_id FROM tag WHERE tag_name = 'Fantasy'", Long.class);
+
+        Map<String, Long> ids = tagRepository.findIdsByNames(List.of("Fantasy", "Fantasy", "Unknown"));
+
+        assertThat(ids).containsOnlyKeys("Fantasy");
+        assertThat(ids.get("Fantasy")).isEqualTo(fantasyId);
+    }
 }
@@ -0,0 +1,76 @@
+package com.nhnacademy.book_data_batch.domain.service.publisher;
+
+import com.nhnacademy.book_data_batch.domain.entity.Publisher;
+import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PublisherDictionary 테스트")
+class PublisherDictionaryTest {
+
+    private PublisherRepository publisherRepository;
+    private PublisherDictionary dictionary;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        publisherRepository = mock(PublisherRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<Long, String> consumer = invocation.getArgument(0);
+            consumer.accept(1L, "한빛  미디어");
+            return null;
+        }).when(publisherRepository).forEachIdAndName(any(BiConsumer.class));
+        dictionary = new PublisherDictionary(publisherRepository);
+    }
+
+    @Test
+    @DisplayName("normalize: 앞뒤 공백 제거, 소문자, 연속 공백 하나로")
+    void normalize_collapsesWhitespaceAndLowercases() {
+        assertEquals("nhn books", PublisherDictionary.normalize("  NHN \t  Books \n"));
+        assertEquals("", PublisherDictionary.normalize("   "));
+    }
+
+    @Test
+    @DisplayName("적재된 이름은 INSERT 없이 ID 반환")
+    void resolve_knownName_noInsert() {
+        PublisherDictionary.Resolved resolved = dictionary.resolve(List.of("한빛 미디어"));
+
+        Publisher publisher = resolved.find("한빛 미디어");
+        assertEquals(1L, publisher.getId());
+        verify(publisherRepository, never()).bulkInsert(any());
+    }
+
+    @Test
+    @DisplayName("처음 보는 이름만 INSERT 후 사전에 추가")
+    void resolve_unseenName_insertsOnlyNewNames() {
+        when(publisherRepository.findIdsByNames(anyCollection())).thenReturn(Map.of("새 출판사", 2L));
+
+        PublisherDictionary.Resolved resolved = dictionary.resolve(List.of("한빛 미디어", "새 출판사", " 새  출판사 "));
+
+        verify(publisherRepository).bulkInsert(Set.of("새 출판사"));
+        assertEquals(2L, resolved.find(" 새 출판사").getId());
+        assertEquals(2L, dictionary.find("새 출판사").getId());
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("사전 적재는 한 번만 수행")
+    @SuppressWarnings("unchecked")
+    void warmUp_onlyOnce() {
+        dictionary.resolve(List.of("한빛 미디어"));
+        dictionary.resolve(List.of("한빛 미디어"));
+
+        verify(publisherRepository, times(1)).forEachIdAndName(any(BiConsumer.class));
+    }
+}
@@ -0,0 +1,114 @@
+package com.nhnacademy.book_data_batch.global.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteBehindItemWriter 테스트")
+class WriteBehindItemWriterTest {
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+    private final List<String> writerThreads = new CopyOnWriteArrayList<>();
+
+    private CountDownLatch release;
+    private WriteBehindItemWriter<String> writer;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(0);
+        writer = new WriteBehindItemWriter<>(chunk -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            if (chunk.getItems().contains("bad")) {
+                throw new IllegalStateException("write failed");
+            }
+            writerThreads.add(Thread.currentThread().getName());
+            written.addAll(chunk.getItems());
+        }, new ResourcelessTransactionManager(), 1, 1);
+        writer.open(new ExecutionContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("write는 쓰기 완료를 기다리지 않고 반환, 쓰기는 writer 스레드에서 실행")
+    void write_returnsBeforeDelegateFinishes() throws Exception {
+        release = new CountDownLatch(1);
+
+        writer.write(Chunk.of("a", "b"));
+
+        assertThat(written).isEmpty();
+        release.countDown();
+        writer.update(new ExecutionContext());
+        writer.afterStep(new StepExecution("step", null));
+        assertThat(written).containsExactly("a", "b");
+        assertThat(writerThreads).allMatch(name -> name.startsWith("write-behind-"));
+    }
+
+    @Test
+    @DisplayName("afterStep: 남은 Chunk를 모두 쓴 뒤 반환")
+    void afterStep_drainsPendingChunks() throws Exception {
+        writer.write(Chunk.of("a"));
+        writer.update(new ExecutionContext());
+        writer.write(Chunk.of("b"));
+
+        assertNull(writer.afterStep(new StepExecution("step", null)));
+        assertThat(written).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("write는 앞 Chunk의 쓰기가 끝날 때까지 대기 (max-in-flight-chunks=1)")
+    void write_waitsForPreviousChunk() throws Exception {
+        release = new CountDownLatch(1);
+        writer.write(Chunk.of("a"));
+
+        CountDownLatch secondReturned = new CountDownLatch(1);
+        Thread second = Thread.ofPlatform().start(() -> {
+            try {
+                writer.write(Chunk.of("b"));
+                secondReturned.countDown();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertFalse(secondReturned.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(secondReturned.await(5, TimeUnit.SECONDS));
+        second.join();
+        assertThat(written).startsWith("a");
+    }
+
+    @Test
+    @DisplayName("쓰기 실패는 다음 write/update에서 드러나고 afterStep은 Step을 FAILED 처리")
+    void failure_surfacesOnNextWriteAndFailsStep() throws Exception {
+        writer.write(Chunk.of("bad"));
+
+        assertThrows(ItemStreamException.class, () -> writer.write(Chunk.of("c")));
+        assertThrows(ItemStreamException.class, () -> writer.update(new ExecutionContext()));
+
+        StepExecution stepExecution = new StepExecution("step", null);
+        assertEquals(ExitStatus.FAILED, writer.afterStep(stepExecution));
+        assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+        assertThat(written).doesNotContain("c");
+    }
+}
@@ -0,0 +1,47 @@
+package com.nhnacademy.book_data_batch.global.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookIdIndex 테스트")
+class BookIdIndexTest {
+
+    @Test
+    @DisplayName("ISBN 문자열로 저장/조회 (앞뒤 공백 무시)")
+    void putAndFind_byIsbnString() {
+        BookIdIndex index = new BookIdIndex();
+
+        index.putAll(Map.of("9780134685991", 1L, "9780321356680", 2L));
+
+        assertEquals(1L, index.find("9780134685991"));
+        assertEquals(2L, index.find(" 9780321356680 "));
+        assertEquals(BookIdIndex.NOT_FOUND, index.find("9791111111111"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("13자리 숫자가 아닌 ISBN도 별도 보관")
+    void put_irregularIsbn_storedSeparately() {
+        BookIdIndex index = new BookIdIndex();
+
+        index.put("97801346X", 3L);
+
+        assertEquals(3L, index.find("97801346X"));
+        assertTrue(index.bookIds().contains(3L));
+    }
+
+    @Test
+    @DisplayName("IsbnKeys: long 키 ↔ ISBN 문자열 왕복 변환")
+    void isbnKeys_roundTrip() {
+        long key = IsbnKeys.toKey("9780134685991");
+
+        assertEquals(9780134685991L, key);
+        assertEquals("9780134685991", IsbnKeys.toIsbn(key));
+        assertEquals(IsbnKeys.INVALID, IsbnKeys.toKey("978013468599"));
+        assertEquals(IsbnKeys.INVALID, IsbnKeys.toKey(null));
+    }
+}
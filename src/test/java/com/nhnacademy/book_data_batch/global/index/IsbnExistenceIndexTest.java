@@ -0,0 +1,71 @@
+package com.nhnacademy.book_data_batch.global.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IsbnExistenceIndex 테스트")
+class IsbnExistenceIndexTest {
+
+    @Test
+    @DisplayName("적재 전에는 모든 ISBN이 없는 것으로 판단")
+    void contains_notLoaded_returnsFalse() {
+        IsbnExistenceIndex index = new IsbnExistenceIndex();
+
+        index.addAll(List.of("9780134685991"));
+
+        assertFalse(index.isLoaded());
+        assertFalse(index.contains("9780134685991"));
+    }
+
+    @Test
+    @DisplayName("적재한 키는 정렬/중복 제거 후 조회 가능")
+    void load_unsortedWithDuplicates_containsAll() {
+        IsbnExistenceIndex index = new IsbnExistenceIndex();
+        long[] keys = {9780321356680L, 9780134685991L, 9780321356680L, 0L};
+
+        index.load(keys, 3);
+
+        assertTrue(index.contains("9780134685991"));
+        assertTrue(index.contains("9780321356680"));
+        assertFalse(index.contains("9791111111111"));
+        assertFalse(index.contains("invalid"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("추가한 ISBN은 병합 전후 모두 조회 가능")
+    void addAll_afterLoad_visibleBeforeAndAfterMerge() {
+        IsbnExistenceIndex index = new IsbnExistenceIndex();
+        index.load(new long[0], 0);
+
+        index.addAll(List.of("9780134685991"));
+        assertTrue(index.contains("9780134685991"));
+
+        List<String> many = new ArrayList<>();
+        for (long isbn = 9790000000000L; isbn < 9790000070000L; isbn++) {
+            many.add(Long.toString(isbn));
+        }
+        index.addAll(many);
+
+        assertTrue(index.contains("9780134685991"));
+        assertTrue(index.contains("9790000069999"));
+        assertEquals(70_001, index.size());
+    }
+
+    @Test
+    @DisplayName("clear 후 다시 미적재 상태")
+    void clear_resetsToNotLoaded() {
+        IsbnExistenceIndex index = new IsbnExistenceIndex();
+        index.load(new long[]{9780134685991L}, 1);
+
+        index.clear();
+
+        assertFalse(index.isLoaded());
+        assertFalse(index.contains("9780134685991"));
+    }
+}
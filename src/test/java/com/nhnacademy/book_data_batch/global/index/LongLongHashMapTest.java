@@ -0,0 +1,86 @@
+package com.nhnacademy.book_data_batch.global.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongLongHashMap 테스트")
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("재해시를 거쳐도 모든 키 조회 가능")
+    void put_manyKeys_survivesRehash() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long isbn = 9780000000000L; isbn < 9780000100000L; isbn++) {
+            map.put(isbn, isbn - 9780000000000L, -1);
+        }
+
+        assertEquals(100_000, map.size());
+        assertEquals(0, map.get(9780000000000L, -1));
+        assertEquals(99_999, map.get(9780000099999L, -1));
+        assertEquals(-1, map.get(9790000000000L, -1));
+    }
+
+    @Test
+    @DisplayName("같은 키는 값만 교체하고 이전 값 반환")
+    void put_existingKey_replacesValue() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        assertEquals(-1, map.put(42L, 1L, -1));
+        assertEquals(1L, map.put(42L, 2L, -1));
+
+        assertEquals(1, map.size());
+        assertEquals(2L, map.get(42L, -1));
+    }
+
+    @Test
+    @DisplayName("키 0도 저장 가능")
+    void put_zeroKey_supported() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        map.put(0L, 7L, -1);
+
+        assertTrue(map.containsKey(0L));
+        assertEquals(7L, map.get(0L, -1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("HashMap과 같은 결과")
+    void randomOperations_matchHashMap() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(1);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(20_000);
+            long value = random.nextLong();
+            map.put(key, value, -1);
+            expected.put(key, value);
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("clear 후 비어 있음")
+    void clear_removesAll() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(1L, 1L, -1);
+        map.put(0L, 1L, -1);
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+        assertFalse(map.containsKey(0L));
+    }
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.book_data_batch.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ContentFingerprint 테스트")
+class ContentFingerprintTest {
+
+    @Test
+    @DisplayName("같은 값이면 같은 지문")
+    void value_sameFields_sameFingerprint() {
+        long a = ContentFingerprint.start().add("제목").add(10000).add(LocalDate.of(2024, 1, 1)).value();
+        long b = ContentFingerprint.start().add("제목").add(10000).add(LocalDate.of(2024, 1, 1)).value();
+
+        assertEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("필드 하나만 달라도 다른 지문")
+    void value_changedField_differentFingerprint() {
+        long a = ContentFingerprint.start().add("제목").add(10000).value();
+        long b = ContentFingerprint.start().add("제목").add(12000).value();
+
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("필드 경계와 null/빈 문자열을 구분")
+    void value_fieldBoundariesAndNull_distinguished() {
+        assertNotEquals(
+                ContentFingerprint.start().add("ab").add("c").value(),
+                ContentFingerprint.start().add("a").add("bc").value());
+        assertNotEquals(
+                ContentFingerprint.start().add((String) null).value(),
+                ContentFingerprint.start().add("").value());
+    }
+}
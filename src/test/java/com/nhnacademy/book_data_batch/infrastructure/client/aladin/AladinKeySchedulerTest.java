@@ -0,0 +1,131 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AladinKeyScheduler 테스트")
+class AladinKeySchedulerTest {
+
+    @Mock
+    private AladinQuotaTracker quotaTracker;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    private AladinKeyScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(quotaTracker.getQuotaPerKey()).thenReturn(100);
+        when(quotaTracker.tryAcquire(anyString())).thenReturn(true);
+        // rate 0 → 토큰 대기 없음 (키 선택만 검증)
+        scheduler = new AladinKeyScheduler(quotaTracker, List.of("key-a", "key-b"), 0, 5, 1_000, 4_000, now::get);
+    }
+
+    @Test
+    @DisplayName("남은 예산이 많은 키 → 진행 중 호출이 적은 키 순으로 번갈아 선택")
+    void acquire_picksLeastLoadedKey() throws InterruptedException {
+        AladinKeyScheduler.Permit first = scheduler.acquire().orElseThrow();
+        AladinKeyScheduler.Permit second = scheduler.acquire().orElseThrow();
+
+        assertNotEquals(first.apiKey(), second.apiKey());
+        assertEquals(1, scheduler.inFlight("key-a"));
+        assertEquals(1, scheduler.inFlight("key-b"));
+
+        first.close();
+        second.close();
+        assertEquals(0, scheduler.inFlight("key-a"));
+        assertEquals(0, scheduler.inFlight("key-b"));
+    }
+
+    @Test
+    @DisplayName("쿨다운 중인 키는 건너뛰고, 쿨다운이 끝나면 다시 사용")
+    void cooldown_skipsKeyUntilExpired() throws InterruptedException {
+        scheduler.cooldown("key-a");
+
+        for (int i = 0; i < 3; i++) {
+            try (AladinKeyScheduler.Permit permit = scheduler.acquire().orElseThrow()) {
+                assertEquals("key-b", permit.apiKey());
+            }
+        }
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+
+        try (AladinKeyScheduler.Permit permit = scheduler.acquire().orElseThrow()) {
+            assertEquals("key-a", permit.apiKey());
+        }
+    }
+
+    @Test
+    @DisplayName("일일 쿼터가 소진된 키는 제외하고 다른 키로 넘어감")
+    void acquire_exhaustedKey_fallsOverToOtherKey() throws InterruptedException {
+        when(quotaTracker.tryAcquire("key-a")).thenReturn(false);
+
+        for (int i = 0; i < 3; i++) {
+            try (AladinKeyScheduler.Permit permit = scheduler.acquire().orElseThrow()) {
+                assertEquals("key-b", permit.apiKey());
+            }
+        }
+
+        verify(quotaTracker, times(1)).tryAcquire("key-a");
+        assertFalse(scheduler.isExhausted());
+    }
+
+    @Test
+    @DisplayName("일일 쿼터 초과 응답을 받은 키는 쿨다운이 지나도 당일 제외")
+    void exhaust_excludesKeyForTheDay() throws InterruptedException {
+        scheduler.exhaust("key-a");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(4_000));
+
+        for (int i = 0; i < 3; i++) {
+            try (AladinKeyScheduler.Permit permit = scheduler.acquire().orElseThrow()) {
+                assertEquals("key-b", permit.apiKey());
+            }
+        }
+        assertFalse(scheduler.isExhausted());
+    }
+
+    @Test
+    @DisplayName("남은 키가 모두 일일 쿼터 초과 응답을 받으면 대기하지 않고 빈 값")
+    void exhaust_allKeys_returnsEmptyWithoutWaiting() throws InterruptedException {
+        scheduler.cooldown("key-a");
+        scheduler.exhaust("key-a");
+        scheduler.exhaust("key-b");
+
+        assertTrue(scheduler.acquire().isEmpty());
+        assertTrue(scheduler.isExhausted());
+    }
+
+    @Test
+    @DisplayName("모든 키가 소진되면 빈 값, reset 후 다시 사용")
+    void acquire_allExhausted_returnsEmpty() throws InterruptedException {
+        when(quotaTracker.tryAcquire(anyString())).thenReturn(false);
+
+        Optional<AladinKeyScheduler.Permit> permit = scheduler.acquire();
+
+        assertTrue(permit.isEmpty());
+        assertTrue(scheduler.isExhausted());
+
+        when(quotaTracker.tryAcquire(anyString())).thenReturn(true);
+        scheduler.reset();
+
+        assertTrue(scheduler.acquire().isPresent());
+    }
+}
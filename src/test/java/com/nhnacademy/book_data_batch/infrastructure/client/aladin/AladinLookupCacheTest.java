@@ -0,0 +1,154 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AladinLookupCache 테스트")
+class AladinLookupCacheTest {
+
+    private static final String ISBN = "9780134685991";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private AladinLookupCache cache;
+
+    private final AladinItemDto item = new AladinItemDto(
+            "Effective Java", "Joshua Bloch", "2018-01-06", "설명", "0134685997", ISBN,
+            45000, "http://cover", "국내도서>컴퓨터/모바일", "Addison-Wesley", null);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new AladinLookupCache(redisTemplate, true, 30, 24);
+    }
+
+    @Test
+    @DisplayName("캐시 미스: 호출 후 gzip 값으로 저장, 다음 조회는 호출 없이 캐시에서 복원")
+    void lookup_missThenHit() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        Optional<AladinItemDto> first = cache.lookup(ISBN, () -> {
+            calls.incrementAndGet();
+            return Optional.of(item);
+        });
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("aladin:lookup:" + ISBN), stored.capture(), eq(Duration.ofDays(30)));
+        assertEquals(Optional.of(item), first);
+
+        when(valueOperations.get("aladin:lookup:" + ISBN)).thenReturn(stored.getValue());
+        Optional<AladinItemDto> second = cache.lookup(ISBN, () -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(Optional.of(item), second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("알라딘에 없는 ISBN은 negative TTL로 저장")
+    void lookup_notFound_storedWithNegativeTtl() throws Exception {
+        Optional<AladinItemDto> result = cache.lookup(ISBN, Optional::empty);
+
+        assertTrue(result.isEmpty());
+        verify(valueOperations).set("aladin:lookup:" + ISBN, "-", Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("호출 실패는 저장하지 않고 예외 전달")
+    void lookup_loaderFails_notCached() {
+        assertThrows(IllegalStateException.class, () -> cache.lookup(ISBN, () -> {
+            throw new IllegalStateException("fail");
+        }));
+
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 동시 조회는 한 번만 호출")
+    void lookup_concurrentSameIsbn_coalesced() throws Exception {
+        // 뒤늦게 도착한 조회는 캐시 적중으로 처리되도록 저장값을 그대로 돌려줌
+        Map<String, String> redis = new ConcurrentHashMap<>();
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Optional<AladinItemDto>> leader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.lookup(ISBN, () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    release.await();
+                    return Optional.of(item);
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Optional<AladinItemDto>> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.lookup(ISBN, () -> {
+                    calls.incrementAndGet();
+                    return Optional.empty();
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals(Optional.of(item), leader.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(item), follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 캐시 없이 호출")
+    void lookup_redisDown_callsLoader() throws Exception {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        Optional<AladinItemDto> result = cache.lookup(ISBN, () -> Optional.of(item));
+
+        assertEquals(Optional.of(item), result);
+    }
+}
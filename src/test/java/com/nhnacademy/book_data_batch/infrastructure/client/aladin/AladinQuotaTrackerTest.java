@@ -0,0 +1,129 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AladinQuotaTracker 테스트")
+class AladinQuotaTrackerTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private AladinQuotaTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        // 2025-01-01 23:30 KST (UTC 14:30)
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T14:30:00Z"), ZoneId.of("UTC"));
+        tracker = new AladinQuotaTracker(redisTemplate, 20, 5, KST, clock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLeaseGrants(Long... grants) {
+        when(redisTemplate.execute(eq(AladinQuotaTracker.LEASE_SCRIPT), anyList(), any(), any(), any()))
+                .thenReturn(grants[0], java.util.Arrays.copyOfRange(grants, 1, grants.length));
+    }
+
+    @Test
+    @DisplayName("블록 단위로 받아 로컬에서 차감 (블록당 Redis 호출 1번)")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_leasesInBlocks() {
+        givenLeaseGrants(5L, 5L);
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(tracker.tryAcquire("key-1"));
+        }
+
+        verify(redisTemplate, times(2)).execute(eq(AladinQuotaTracker.LEASE_SCRIPT), anyList(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 버킷이 다 차면 false")
+    void tryAcquire_bucketFull_returnsFalse() {
+        givenLeaseGrants(0L);
+
+        assertFalse(tracker.tryAcquire("key-1"));
+    }
+
+    @Test
+    @DisplayName("버킷 키는 KST 날짜 + 키 해시, 만료는 다음 KST 자정")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_usesKstDailyBucket() {
+        givenLeaseGrants(5L);
+
+        tracker.tryAcquire("secret-key");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object> expireAt = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(eq(AladinQuotaTracker.LEASE_SCRIPT), keys.capture(), any(), any(), expireAt.capture());
+
+        String bucket = keys.getValue().get(0);
+        assertTrue(bucket.startsWith("aladin:quota:20250101:"));
+        assertFalse(bucket.contains("secret-key"));
+        long nextMidnight = LocalDate.of(2025, 1, 2).atStartOfDay(KST).toEpochSecond();
+        assertEquals(String.valueOf(nextMidnight), expireAt.getValue());
+    }
+
+    @Test
+    @DisplayName("releaseLeases: 쓰지 않은 블록을 반납")
+    @SuppressWarnings("unchecked")
+    void releaseLeases_returnsUnusedPermits() {
+        givenLeaseGrants(5L);
+        tracker.tryAcquire("key-1");
+        tracker.tryAcquire("key-1");
+
+        tracker.releaseLeases();
+
+        verify(redisTemplate).execute(eq(AladinQuotaTracker.RELEASE_SCRIPT), anyList(), eq("3"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 카운트로 키당 쿼터까지 허용")
+    void tryAcquire_redisDown_fallsBackToLocalCount() {
+        when(redisTemplate.execute(eq(AladinQuotaTracker.LEASE_SCRIPT), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        int acquired = 0;
+        for (int i = 0; i < 25; i++) {
+            if (tracker.tryAcquire("key-1")) {
+                acquired++;
+            }
+        }
+
+        assertEquals(20, acquired);
+    }
+
+    @Test
+    @DisplayName("reset: 소진 플래그만 초기화 (Redis 사용량은 유지)")
+    void reset_clearsFlagOnly() {
+        tracker.setQuotaExhausted(true);
+
+        tracker.reset();
+
+        assertFalse(tracker.isQuotaExhausted());
+        verifyNoInteractions(redisTemplate);
+    }
+}
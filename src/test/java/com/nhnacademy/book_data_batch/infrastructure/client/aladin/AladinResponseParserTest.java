@@ -0,0 +1,106 @@
+package com.nhnacademy.book_data_batch.infrastructure.client.aladin;
+
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AladinResponseParser 테스트")
+class AladinResponseParserTest {
+
+    private final AladinResponseParser parser = new AladinResponseParser();
+
+    private AladinResponseDto parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("필요한 필드만 추출하고 나머지는 건너뜀")
+    void parse_lookupResponse() throws IOException {
+        AladinResponseDto response = parse("""
+                {
+                  "version": "20131101",
+                  "totalResults": 1,
+                  "startIndex": 1,
+                  "itemsPerPage": 1,
+                  "item": [{
+                    "title": "  이펙티브 자바  ",
+                    "author": "조슈아 블로크 (지은이), 이복연 (옮긴이)",
+                    "pubDate": "2018-11-01",
+                    "description": "설명",
+                    "isbn": "8966262287",
+                    "isbn13": "9788966262281",
+                    "priceStandard": 36000,
+                    "cover": "http://cover",
+                    "categoryName": "국내도서>컴퓨터/모바일",
+                    "publisher": "인사이트",
+                    "subInfo": {"ratingInfo": {"ratingScore": 9.5}, "packing": [1, 2, 3]},
+                    "bookinfo": {
+                      "subTitle": "3판",
+                      "itemPage": "520",
+                      "toc": "<p>1장</p>",
+                      "authors": [
+                        {"authorType": "author", "authorid": 1, "desc": "지은이", "name": "조슈아 블로크", "authorInfo": "긴 소개"},
+                        {"desc": "옮긴이", "name": "이복연"}
+                      ],
+                      "packing": {"weight": 1000}
+                    }
+                  }]
+                }
+                """);
+
+        assertEquals(1, response.totalResults());
+        assertEquals(1, response.item().size());
+        assertFalse(response.hasError());
+
+        AladinItemDto item = response.item().getFirst();
+        assertEquals("이펙티브 자바", item.title());
+        assertEquals("9788966262281", item.isbn13());
+        assertEquals(36000, item.priceStandard());
+        assertEquals("인사이트", item.publisher());
+        assertEquals("3판", item.bookinfo().subTitle());
+        assertEquals(520, item.bookinfo().itemPage());
+        assertEquals(2, item.bookinfo().authors().size());
+        assertEquals("조슈아 블로크", item.bookinfo().authors().getFirst().name());
+        assertEquals("옮긴이", item.bookinfo().authors().get(1).desc());
+    }
+
+    @Test
+    @DisplayName("긴 텍스트는 상한까지만 저장")
+    void parse_capsOversizedText() throws IOException {
+        String longToc = "가".repeat(AladinResponseParser.MAX_TEXT_LENGTH + 100);
+        String longTitle = "a".repeat(AladinResponseParser.MAX_TITLE_LENGTH + 10);
+
+        AladinResponseDto response = parse("""
+                {"item": [{"title": "%s", "bookinfo": {"toc": "%s"}}]}
+                """.formatted(longTitle, longToc));
+
+        AladinItemDto item = response.item().getFirst();
+        assertEquals(AladinResponseParser.MAX_TITLE_LENGTH, item.title().length());
+        assertEquals(AladinResponseParser.MAX_TEXT_LENGTH, item.bookinfo().toc().length());
+    }
+
+    @Test
+    @DisplayName("에러 응답 (HTTP 200)")
+    void parse_errorResponse() throws IOException {
+        AladinResponseDto response = parse("""
+                {"errorCode": 10, "errorMessage": "일일 쿼터 초과"}
+                """);
+
+        assertTrue(response.hasError());
+        assertTrue(response.isQuotaExceeded());
+        assertNull(response.item());
+    }
+
+    @Test
+    @DisplayName("빈 본문은 null")
+    void parse_emptyBody() throws IOException {
+        assertNull(parse(""));
+    }
+}
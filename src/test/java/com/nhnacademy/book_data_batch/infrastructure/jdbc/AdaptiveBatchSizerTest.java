@@ -0,0 +1,130 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AdaptiveBatchSizer 테스트")
+class AdaptiveBatchSizerTest {
+
+    private static final String SQL = "INSERT IGNORE INTO book_tag (book_id, tag_id) VALUES (?, ?)";
+    private static final JdbcExecutor.PreparedStatementSetter<long[]> PAIR_SETTER = (ps, pair) -> {
+        ps.setLong(1, pair[0]);
+        ps.setLong(2, pair[1]);
+    };
+
+    private MeterRegistry meterRegistry;
+    private AdaptiveBatchSizer sizer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        sizer = new AdaptiveBatchSizer(provider);
+    }
+
+    private static List<long[]> pairs(int count) {
+        return Collections.nCopies(count, new long[]{1L, 2L});
+    }
+
+    @Test
+    @DisplayName("넓은 행은 packet-budget-bytes / 행 크기로 제한")
+    void nextBatchSize_wideRows_cappedByPacketBudget() {
+        ReflectionTestUtils.setField(sizer, "packetBudgetBytes", 1_000_000L);
+        List<String> rows = Collections.nCopies(100, "가".repeat(1000)); // UTF-8 3000 bytes
+
+        int size = sizer.nextBatchSize("INSERT INTO book (description) VALUES (?)", rows, 0,
+                (ps, row) -> ps.setString(1, row));
+
+        assertEquals(3004, sizer.estimatedRowBytes("INSERT INTO book (description) VALUES (?)"));
+        assertEquals(1_000_000 / 3004, size);
+    }
+
+    @Test
+    @DisplayName("처리량이 오르는 동안 배치 크기를 키움 (max 범위 내)")
+    void record_improvingThroughput_growsBatchSize() {
+        List<long[]> items = pairs(10);
+        int size = sizer.nextBatchSize(SQL, items, 0, PAIR_SETTER);
+        assertEquals(1000, size);
+
+        long nanosPerBatch = 1_000_000L;  // 배치당 시간 고정 → 크기가 클수록 rows/sec 증가
+        for (int i = 0; i < 5; i++) {
+            sizer.record(SQL, size, nanosPerBatch);
+            size = sizer.nextBatchSize(SQL, items, 0, PAIR_SETTER);
+        }
+
+        assertTrue(size > 1000);
+        assertTrue(size <= 20_000);
+    }
+
+    @Test
+    @DisplayName("처리량이 떨어지면 방향을 바꿔 배치 크기를 줄임")
+    void record_degradingThroughput_reversesDirection() {
+        List<long[]> items = pairs(10);
+        int size = sizer.nextBatchSize(SQL, items, 0, PAIR_SETTER);
+        sizer.record(SQL, size, 1_000_000L);
+        int grown = sizer.nextBatchSize(SQL, items, 0, PAIR_SETTER);
+        assertTrue(grown > size);
+
+        // 배치가 커졌는데 시간이 훨씬 더 걸림 → 처리량 하락
+        sizer.record(SQL, grown, 10_000_000L);
+
+        assertTrue(sizer.currentBatchSize(SQL) < grown);
+    }
+
+    @Test
+    @DisplayName("자투리 배치는 처리량 비교에서 제외")
+    void record_partialBatch_ignored() {
+        sizer.nextBatchSize(SQL, pairs(10), 0, PAIR_SETTER);
+
+        sizer.record(SQL, 10, 1L);
+
+        assertEquals(1000, sizer.currentBatchSize(SQL));
+    }
+
+    @Test
+    @DisplayName("선택된 크기를 statement 태그 게이지로 노출")
+    void nextBatchSize_registersGauge() {
+        sizer.nextBatchSize(SQL, pairs(10), 0, PAIR_SETTER);
+
+        Gauge gauge = meterRegistry.find("jdbc.batch.size").tag("statement", "book_tag").gauge();
+        assertNotNull(gauge);
+        assertEquals(1000, gauge.value());
+    }
+
+    @Test
+    @DisplayName("fixedBatchSize: 패킷 상한만 적용하고 SQL 상태/게이지는 만들지 않음")
+    void fixedBatchSize_doesNotTouchState() {
+        ReflectionTestUtils.setField(sizer, "packetBudgetBytes", 1_000_000L);
+        String sql = "INSERT INTO book (description) VALUES (?)";
+        List<String> rows = Collections.nCopies(100, "가".repeat(1000)); // UTF-8 3000 bytes
+
+        int size = sizer.fixedBatchSize(sql, rows, (ps, row) -> ps.setString(1, row));
+
+        assertEquals(1_000_000 / 3004, size);
+        assertEquals(0, sizer.estimatedRowBytes(sql));
+        assertNull(meterRegistry.find("jdbc.batch.size").gauge());
+    }
+
+    @Test
+    @DisplayName("statementLabel: SQL에서 대상 테이블 추출")
+    void statementLabel_extractsTable() {
+        assertEquals("book_tag", AdaptiveBatchSizer.statementLabel(SQL));
+        assertEquals("book", AdaptiveBatchSizer.statementLabel("UPDATE book SET price = ? WHERE book_id = ?"));
+        assertEquals("book_image", AdaptiveBatchSizer.statementLabel("DELETE FROM `book_image` WHERE book_id = ?"));
+        assertEquals("other", AdaptiveBatchSizer.statementLabel("SELECT 1"));
+    }
+}
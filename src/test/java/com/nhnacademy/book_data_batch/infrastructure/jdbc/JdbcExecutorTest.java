@@ -1,24 +1,41 @@
 package com.nhnacademy.book_data_batch.infrastructure.jdbc;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -33,9 +50,24 @@ class JdbcExecutorTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    private ExecutorService parallelExecutor;
+
     @BeforeEach
     void setUp() {
-        jdbcExecutor = new JdbcExecutor(jdbcTemplate);
+        parallelExecutor = Executors.newFixedThreadPool(4);
+        jdbcExecutor = new JdbcExecutor(jdbcTemplate, parallelExecutor, sizerProvider(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelExecutor.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<AdaptiveBatchSizer> sizerProvider(AdaptiveBatchSizer sizer) {
+        ObjectProvider<AdaptiveBatchSizer> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(sizer);
+        return provider;
     }
 
     // ========== execute (배치 INSERT/UPDATE) 테스트 ==========
@@ -283,7 +315,460 @@ class JdbcExecutorTest {
         verify(jdbcTemplate).query(eq(sql2), any(RowMapper.class), eq("C"));
     }
 
+    // ========== lookupIds (키 → ID 조회) 테스트 ==========
+
+    @Test
+    @DisplayName("lookupIds: 빈 키면 조회 없이 빈 맵 반환")
+    void lookupIds_emptyKeys_returnsEmptyMap() {
+        Map<String, Long> result = jdbcExecutor.lookupIds("tag", "tag_name", "tag_id", List.of());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("lookupIds: 자투리 청크는 마지막 키를 반복해 2의 거듭제곱 크기 IN 절로 조회")
+    void lookupIds_partialChunk_paddedToPowerOfTwo() {
+        jdbcExecutor.lookupIds("tag", "tag_name", "tag_id", List.of("A", "B", "C", "A"), 8);
+
+        verify(jdbcTemplate).query(
+                eq("SELECT tag_name, tag_id FROM tag WHERE tag_name IN (?,?,?,?)"),
+                any(org.springframework.jdbc.core.RowCallbackHandler.class),
+                eq("A"), eq("B"), eq("C"), eq("C"));
+    }
+
+    @Test
+    @DisplayName("isTempTableNotAllowed: 권한/서버 설정 거부만 임시 테이블 비활성 대상")
+    void isTempTableNotAllowed_onlyForPermissionOrUnsupported() {
+        assertTrue(JdbcExecutor.isTempTableNotAllowed(new UncategorizedSQLException("lookup",
+                "CREATE TEMPORARY TABLE", new SQLException("CREATE TEMPORARY TABLES command denied", "42000", 1142))));
+        assertTrue(JdbcExecutor.isTempTableNotAllowed(new UncategorizedSQLException("lookup",
+                "CREATE TEMPORARY TABLE", new SQLException("Statement violates GTID consistency", "HY000", 1786))));
+        assertFalse(JdbcExecutor.isTempTableNotAllowed(new UncategorizedSQLException("lookup",
+                "CREATE TEMPORARY TABLE", new SQLException("Lock wait timeout exceeded", "HY000", 1205))));
+    }
+
+    @Test
+    @DisplayName("paddedSize: 배치 크기 이상이면 배치 크기, 아니면 2의 거듭제곱으로 올림")
+    void paddedSize_roundsUpToPowerOfTwo() {
+        assertEquals(1, JdbcExecutor.paddedSize(1, 1000));
+        assertEquals(4, JdbcExecutor.paddedSize(3, 1000));
+        assertEquals(512, JdbcExecutor.paddedSize(300, 1000));
+        assertEquals(1000, JdbcExecutor.paddedSize(700, 1000));
+        assertEquals(1000, JdbcExecutor.paddedSize(1000, 1000));
+    }
+
+
+
+    // ========== executeReturningKeys (생성 키 수집) 테스트 ==========
+
+    private PreparedStatement mockKeyedInsert(int[] updateCounts, long... keys) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet keySet = mock(ResultSet.class);
+
+        when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(ps);
+        when(ps.executeBatch()).thenReturn(updateCounts);
+        when(ps.getGeneratedKeys()).thenReturn(keySet);
+
+        int[] cursor = {-1};
+        when(keySet.next()).thenAnswer(inv -> ++cursor[0] < keys.length);
+        when(keySet.getLong(1)).thenAnswer(inv -> keys[cursor[0]]);
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(inv -> ((ConnectionCallback<?>) inv.getArgument(0)).doInConnection(connection));
+        return ps;
+    }
+
+    @Test
+    @DisplayName("executeReturningKeys: 모든 행이 INSERT 되면 순서대로 키 매핑")
+    void executeReturningKeys_allInserted_mapsPositionally() throws SQLException {
+        PreparedStatement ps = mockKeyedInsert(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}, 10L, 11L);
+
+        Map<String, Long> keys = jdbcExecutor.executeReturningKeys(
+                "INSERT INTO test VALUES (?)", List.of("a", "b"), (p, item) -> p.setString(1, item), item -> item);
+
+        assertEquals(Map.of("a", 10L, "b", 11L), keys);
+        verify(ps, times(2)).addBatch();
+    }
+
+    @Test
+    @DisplayName("executeReturningKeys: 행별 결과가 있으면 INSERT 된 행에만 매핑")
+    void executeReturningKeys_someIgnored_mapsByUpdateCounts() throws SQLException {
+        mockKeyedInsert(new int[]{1, 0, 1}, 20L, 21L);
+
+        Map<String, Long> keys = jdbcExecutor.executeReturningKeys(
+                "INSERT IGNORE INTO test VALUES (?)", List.of("a", "b", "c"), (p, item) -> p.setString(1, item), item -> item);
+
+        assertEquals(Map.of("a", 20L, "c", 21L), keys);
+    }
+
+    @Test
+    @DisplayName("executeReturningKeys: 대응이 불확실하면 매핑하지 않음")
+    void executeReturningKeys_ambiguous_returnsEmpty() throws SQLException {
+        mockKeyedInsert(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}, 30L, 31L);
+
+        Map<String, Long> keys = jdbcExecutor.executeReturningKeys(
+                "INSERT IGNORE INTO test VALUES (?)", List.of("a", "b", "c"), (p, item) -> p.setString(1, item), item -> item);
+
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    @DisplayName("executeReturningKeys: 빈 컬렉션이면 실행하지 않음")
+    void executeReturningKeys_emptyCollection_noExecution() {
+        Map<String, Long> keys = jdbcExecutor.executeReturningKeys(
+                "INSERT INTO test VALUES (?)", List.<String>of(), (p, item) -> p.setString(1, item), item -> item);
+
+        assertTrue(keys.isEmpty());
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+    // ========== insertIgnore (LOAD DATA / 배치 INSERT) 테스트 ==========
+
+    @Test
+    @DisplayName("insertIgnore: LOAD DATA 비활성 시 같은 컬럼의 배치 INSERT IGNORE 실행")
+    void insertIgnore_loadDataDisabled_fallsBackToBatchInsert() throws SQLException {
+        List<String> items = Arrays.asList("a", "b");
+        String expectedSql = "INSERT IGNORE INTO test (id, name) VALUES (?, ?)";
+
+        when(jdbcTemplate.batchUpdate(eq(expectedSql), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{1, 1});
+
+        jdbcExecutor.insertIgnore("test", List.of("id", "name"), items, item -> new Object[]{1L, item});
+
+        ArgumentCaptor<BatchPreparedStatementSetter> captor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(eq(expectedSql), captor.capture());
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        captor.getValue().setValues(ps, 1);
+        verify(ps).setObject(1, 1L);
+        verify(ps).setObject(2, "b");
+    }
+
+    @Test
+    @DisplayName("shouldLoadData: 기본 설정에서는 사용하지 않음")
+    void shouldLoadData_disabledByDefault() {
+        assertFalse(jdbcExecutor.shouldLoadData(1_000_000));
+    }
+
+    @Test
+    @DisplayName("isLoadDataNotAllowed: LOCAL INFILE 거부 오류만 해당, 그 외 오류는 아님")
+    void isLoadDataNotAllowed_onlyForRefusal() {
+        assertTrue(JdbcExecutor.isLoadDataNotAllowed(new UncategorizedSQLException("load",
+                "LOAD DATA", new SQLException("Loading local data is disabled", "42000", 3948))));
+        assertTrue(JdbcExecutor.isLoadDataNotAllowed(new UncategorizedSQLException("load",
+                "LOAD DATA", new SQLException("The used command is not allowed", "42000", 1148))));
+        assertFalse(JdbcExecutor.isLoadDataNotAllowed(new UncategorizedSQLException("load",
+                "LOAD DATA", new SQLException("Communications link failure", "08S01", 0))));
+    }
+
+    // ========== executeParallel (병렬 Bulk) 테스트 ==========
+
+    @Test
+    @DisplayName("executeParallel: 서브 배치마다 한 번씩 실행하고 적재 건수 반환")
+    void executeParallel_splitsIntoPartitions() {
+        String sql = "INSERT IGNORE INTO test VALUES (?)";
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            items.add(i);
+        }
+
+        ParallelWriteResult result = jdbcExecutor.executeParallel(sql, items, (ps, item) -> ps.setInt(1, item), null, 1000);
+
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class));
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.partitions());
+        assertEquals(2500, result.writtenRows());
+    }
+
+    @Test
+    @DisplayName("executeParallel: 실패한 파티션은 예외 대신 결과로 반환")
+    void executeParallel_partitionFailure_reported() {
+        String sql = "INSERT IGNORE INTO test VALUES (?)";
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            items.add(i);
+        }
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            if (setter.getBatchSize() == 500) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return new int[setter.getBatchSize()];
+        });
+
+        ParallelWriteResult result = jdbcExecutor.executeParallel(sql, items, (ps, item) -> ps.setInt(1, item), null, 1000);
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.failures().size());
+        assertEquals(2000, result.failures().get(0).fromIndex());
+        assertEquals(2500, result.failures().get(0).toIndex());
+        assertEquals(2000, result.writtenRows());
+        assertThrows(DataIntegrityViolationException.class, result::throwIfFailed);
+    }
+
+    @Test
+    @DisplayName("executeParallel: 정렬 순서를 주면 정렬된 연속 구간으로 분할")
+    void executeParallel_withOrder_partitionsSortedRanges() throws SQLException {
+        String sql = "INSERT IGNORE INTO test VALUES (?)";
+        List<Integer> items = Arrays.asList(5, 3, 1, 4, 2, 0);
+        List<Integer> firstItems = Collections.synchronizedList(new ArrayList<>());
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            setter.setValues(mock(PreparedStatement.class), 0);
+            return new int[setter.getBatchSize()];
+        });
 
+        jdbcExecutor.executeParallel(sql, items, (ps, item) -> firstItems.add(item), Comparator.naturalOrder(), 2);
+
+        assertThat(firstItems).containsExactlyInAnyOrder(0, 2, 4);
+    }
+
+    @Test
+    @DisplayName("insertIgnore: 병렬 경로는 첫 컬럼(키) 순으로 정렬해 분할")
+    void insertIgnore_parallel_sortsByLeadingKey() throws SQLException {
+        ReflectionTestUtils.setField(jdbcExecutor, "parallelEnabled", true);
+        List<Object> firstKeys = Collections.synchronizedList(new ArrayList<>());
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            PreparedStatement ps = mock(PreparedStatement.class);
+            setter.setValues(ps, 0);
+            ArgumentCaptor<Object> key = ArgumentCaptor.forClass(Object.class);
+            verify(ps).setObject(eq(1), key.capture());
+            firstKeys.add(key.getValue());
+            return new int[setter.getBatchSize()];
+        });
+
+        List<String> names = new ArrayList<>();
+        for (int i = 2499; i >= 0; i--) {
+            names.add(String.format("p%04d", i));
+        }
+        jdbcExecutor.insertIgnore("publisher", List.of("publisher_name"), names, name -> new Object[]{name});
+
+        assertThat(firstKeys).containsExactlyInAnyOrder("p0000", "p1000", "p2000");
+    }
+
+    @Test
+    @DisplayName("parallelism: DBCP2 풀이면 maxTotal에서 예비 커넥션을 뺀 값, max-concurrency로 제한")
+    void parallelism_derivedFromPoolSize() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxTotal(10);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+
+        assertEquals(8, jdbcExecutor.parallelism());
+
+        ReflectionTestUtils.setField(jdbcExecutor, "parallelMaxConcurrency", 3);
+        assertEquals(3, jdbcExecutor.parallelism());
+    }
+
+    @Test
+    @DisplayName("execute: AdaptiveBatchSizer가 있으면 행 크기 기준 패킷 상한으로 분할")
+    void execute_adaptive_splitsByPacketBudget() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(sizer, "enabled", true);
+        ReflectionTestUtils.setField(sizer, "packetBudgetBytes", 100_000L);
+        jdbcExecutor = new JdbcExecutor(jdbcTemplate, parallelExecutor, sizerProvider(sizer));
+
+        String sql = "INSERT INTO book (description) VALUES (?)";
+        String description = "x".repeat(996);
+        List<String> items = Collections.nCopies(1000, description);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            batchSizes.add(setter.getBatchSize());
+            return new int[setter.getBatchSize()];
+        });
+
+        jdbcExecutor.execute(sql, items, (ps, item) -> ps.setString(1, item));
+
+        // 행당 약 1000 bytes → 한 배치 100건 이하
+        assertThat(batchSizes).allMatch(size -> size <= 100);
+        assertEquals(1000, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    // ========== 재시도 / 불량 행 격리 테스트 ==========
+
+    @Test
+    @DisplayName("execute: 락 대기 초과는 지터 대기 후 재시도")
+    void execute_lockTimeout_retried() {
+        ReflectionTestUtils.setField(jdbcExecutor, "retryBackoffMs", 1L);
+        String sql = "INSERT INTO test VALUES (?)";
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class)))
+                .thenThrow(new org.springframework.dao.CannotAcquireLockException("Lock wait timeout exceeded"))
+                .thenReturn(new int[]{1});
+
+        jdbcExecutor.execute(sql, List.of("item"), (ps, item) -> ps.setString(1, item));
+
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("execute: 재시도 횟수를 넘으면 락 예외를 그대로 던짐")
+    void execute_lockTimeoutExhausted_throws() {
+        ReflectionTestUtils.setField(jdbcExecutor, "retryBackoffMs", 1L);
+        String sql = "INSERT INTO test VALUES (?)";
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class)))
+                .thenThrow(new org.springframework.dao.CannotAcquireLockException("Lock wait timeout exceeded"));
+
+        assertThrows(org.springframework.dao.CannotAcquireLockException.class,
+                () -> jdbcExecutor.execute(sql, List.of("item"), (ps, item) -> ps.setString(1, item)));
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("executeIsolating: 데이터 오류 서브 배치를 이분해 불량 행만 거부, SQLState 반환")
+    void executeIsolating_dataError_bisectsAndRejectsBadRow() throws SQLException {
+        String sql = "INSERT INTO book (title) VALUES (?) ON DUPLICATE KEY UPDATE title = VALUES(title)";
+        List<String> items = List.of("a", "b", "c", "d", "e", "bad", "g", "h");
+        List<String> bound = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            bound.clear();
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                setter.setValues(null, i);
+            }
+            if (bound.contains("bad")) {
+                throw new DataIntegrityViolationException("Data too long",
+                        new SQLException("Data too long for column 'title'", "22001", 1406));
+            }
+            return new int[setter.getBatchSize()];
+        });
+
+        BulkWriteResult<String> result = jdbcExecutor.executeIsolating(sql, items, (ps, item) -> bound.add(item), 8);
+
+        assertEquals(7, result.writtenRows());
+        assertEquals(List.of("bad"), result.rejectedItems());
+        assertEquals("22001", result.rejects().get(0).sqlState());
+        assertEquals(1406, result.rejects().get(0).errorCode());
+    }
+
+    @Test
+    @DisplayName("executeIsolating: 데이터 오류가 아닌 예외는 이분하지 않고 던짐")
+    void executeIsolating_nonDataError_rethrown() {
+        String sql = "INSERT INTO book (title) VALUES (?)";
+        when(jdbcTemplate.batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class)))
+                .thenThrow(new org.springframework.dao.DataAccessResourceFailureException("Communications link failure"));
+
+        assertThrows(org.springframework.dao.DataAccessResourceFailureException.class,
+                () -> jdbcExecutor.executeIsolating(sql, List.of("a", "b"), (ps, item) -> ps.setString(1, item), 10));
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(sql), any(BatchPreparedStatementSetter.class));
+    }
+
+    // ========== forEachRow (스트리밍 조회) 테스트 ==========
+
+    @Test
+    @DisplayName("forEachRow: MySQL 커넥션이면 fetchSize Integer.MIN_VALUE로 스트리밍")
+    void forEachRow_mysqlConnection_streamsRowByRow() throws SQLException {
+        jdbcExecutor.forEachRow("SELECT isbn_13 FROM book WHERE book_id > ?", rs -> {
+        }, 10L);
+
+        ArgumentCaptor<org.springframework.jdbc.core.PreparedStatementCreator> captor =
+                ArgumentCaptor.forClass(org.springframework.jdbc.core.PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(captor.capture(), any(org.springframework.jdbc.core.RowCallbackHandler.class));
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(connection.isWrapperFor(com.mysql.cj.jdbc.JdbcConnection.class)).thenReturn(true);
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(ps);
+
+        captor.getValue().createPreparedStatement(connection);
+
+        verify(ps).setFetchSize(Integer.MIN_VALUE);
+        verify(ps).setObject(1, 10L);
+    }
+
+    @Test
+    @DisplayName("forEachRow: MySQL 외 드라이버면 설정된 fetchSize 사용")
+    void forEachRow_otherDriver_usesConfiguredFetchSize() throws SQLException {
+        jdbcExecutor.forEachRow("SELECT isbn_13 FROM book", rs -> {
+        });
+
+        ArgumentCaptor<org.springframework.jdbc.core.PreparedStatementCreator> captor =
+                ArgumentCaptor.forClass(org.springframework.jdbc.core.PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(captor.capture(), any(org.springframework.jdbc.core.RowCallbackHandler.class));
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(ps);
+
+        captor.getValue().createPreparedStatement(connection);
+
+        verify(ps).setFetchSize(1000);
+    }
+
+    // ========== upsert / updateChanged 테스트 ==========
+
+    @Test
+    @DisplayName("sameValue: 드라이버 타입과 바인딩 타입이 달라도 값이 같으면 동일")
+    void sameValue_comparesAcrossDriverTypes() {
+        assertTrue(JdbcExecutor.sameValue(10L, 10));
+        assertTrue(JdbcExecutor.sameValue(new java.math.BigDecimal("1.50"), 1.5));
+        assertTrue(JdbcExecutor.sameValue(1, true));
+        assertTrue(JdbcExecutor.sameValue(java.sql.Date.valueOf("2025-01-01"), java.time.LocalDate.of(2025, 1, 1)));
+        assertTrue(JdbcExecutor.sameValue(null, null));
+
+        assertFalse(JdbcExecutor.sameValue(null, "a"));
+        assertFalse(JdbcExecutor.sameValue(10, 11));
+        assertFalse(JdbcExecutor.sameValue("a", "b"));
+    }
+
+    @Test
+    @DisplayName("UpsertSpec: 가드 컬럼만 갱신하고 touchColumn은 SQL에 추가")
+    void upsertSpec_buildsSql() {
+        UpsertSpec spec = UpsertSpec.of("book", "isbn_13", List.of("isbn_13", "title", "stock"), List.of("title"))
+                .touching("updated_at");
+
+        assertEquals("INSERT INTO book (isbn_13, title, stock) VALUES (?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE title = VALUES(title), updated_at = CURRENT_DATE", spec.upsertSql());
+        assertEquals("UPDATE book SET title = ?, updated_at = CURRENT_DATE WHERE isbn_13 = ?", spec.updateSql());
+        assertEquals("SELECT isbn_13, title FROM book WHERE isbn_13 IN (", spec.selectCurrentPrefix());
+        assertThrows(IllegalArgumentException.class,
+                () -> UpsertSpec.of("book", "book_id", List.of("title"), List.of("title")));
+    }
+
+    @Test
+    @DisplayName("upsertSpec: hashing 컬럼은 MySQL 조회 시 MD5로 읽음")
+    void upsertSpec_hashedColumns_selectMd5() {
+        UpsertSpec spec = UpsertSpec.of("book", "book_id", List.of("book_id", "title", "description"),
+                List.of("title", "description")).hashing("description");
+
+        assertEquals("SELECT book_id, title, MD5(description) FROM book WHERE book_id IN (",
+                spec.selectCurrentPrefix(true));
+        assertEquals("SELECT book_id, title, description FROM book WHERE book_id IN (",
+                spec.selectCurrentPrefix());
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", JdbcExecutor.md5Hex("abc"));
+        assertNull(JdbcExecutor.md5Hex(null));
+        assertThrows(IllegalArgumentException.class, () -> spec.hashing("book_id"));
+    }
+
+    @Test
+    @DisplayName("updateChanged: 현재 값과 같은 행은 쓰지 않고 UNCHANGED, 없는 행은 MISSING")
+    @SuppressWarnings("unchecked")
+    void updateChanged_writesChangedRowsOnly() throws SQLException {
+        UpsertSpec spec = UpsertSpec.of("book", "book_id", List.of("book_id", "price_sales"), List.of("price_sales"));
+        doAnswer(invocation -> {
+            org.springframework.jdbc.core.RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject(1)).thenReturn(1L, 2L);
+            when(rs.getObject(2)).thenReturn(9000, 18000);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(org.springframework.jdbc.core.RowCallbackHandler.class), any(Object[].class));
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenReturn(new int[]{1});
+
+        List<long[]> items = List.of(new long[]{1, 9000}, new long[]{2, 17000}, new long[]{3, 100});
+        UpsertResult<long[]> result = jdbcExecutor.updateChanged(spec, items, item -> new Object[]{item[0], (int) item[1]});
+
+        assertThat(result.outcomes()).containsExactly(
+                UpsertResult.Outcome.UNCHANGED, UpsertResult.Outcome.UPDATED, UpsertResult.Outcome.MISSING);
+        ArgumentCaptor<BatchPreparedStatementSetter> captor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE book SET price_sales = ? WHERE book_id = ?"), captor.capture());
+        assertEquals(1, captor.getValue().getBatchSize());
+    }
 
     // ========== 함수형 인터페이스 테스트 ==========
 
@@ -0,0 +1,50 @@
+package com.nhnacademy.book_data_batch.infrastructure.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TsvRowInputStream 테스트")
+class TsvRowInputStreamTest {
+
+    private String readAll(List<Object[]> rows) throws IOException {
+        try (TsvRowInputStream in = new TsvRowInputStream(rows.iterator(), row -> row)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("필드는 탭, 행은 줄바꿈으로 구분하고 NULL은 \\N")
+    void encode_basicRow() throws IOException {
+        String tsv = readAll(List.<Object[]>of(
+                new Object[]{1L, "도서", null, true, Date.valueOf(LocalDate.of(2024, 1, 2))},
+                new Object[]{2L, "책", 9000, false, null}
+        ));
+
+        assertEquals("1\t도서\t\\N\t1\t2024-01-02\n2\t책\t9000\t0\t\\N\n", tsv);
+    }
+
+    @Test
+    @DisplayName("역슬래시, 탭, 줄바꿈은 escape")
+    void encode_escapesSpecialCharacters() throws IOException {
+        String tsv = readAll(List.<Object[]>of(new Object[]{"a\\b\tc\nd\re"}));
+
+        assertEquals("a\\\\b\\tc\\nd\\re\n", tsv);
+    }
+
+    @Test
+    @DisplayName("빈 입력은 바로 EOF")
+    void read_empty_returnsEof() throws IOException {
+        try (TsvRowInputStream in = new TsvRowInputStream(List.<Object[]>of().iterator(), row -> row)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[8], 0, 8));
+        }
+    }
+}
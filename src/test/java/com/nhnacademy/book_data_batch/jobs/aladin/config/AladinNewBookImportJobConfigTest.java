@@ -1,16 +1,22 @@
 package com.nhnacademy.book_data_batch.jobs.aladin.config;
 
 import com.nhnacademy.book_data_batch.domain.entity.Category;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinApiClient;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
 import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
 import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
 import com.nhnacademy.book_data_batch.jobs.aladin.processor.AladinFetchProcessor;
 import com.nhnacademy.book_data_batch.jobs.aladin.reader.AladinFetchReader;
 import com.nhnacademy.book_data_batch.jobs.aladin.reader.AladinFetchReaderConfig;
+import com.nhnacademy.book_data_batch.jobs.aladin.reader.AladinHighWaterMarkStore;
 import com.nhnacademy.book_data_batch.jobs.aladin.step.AladinFetchStepConfig;
 import com.nhnacademy.book_data_batch.jobs.aladin.writer.AladinFetchWriter;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import com.nhnacademy.book_data_batch.global.batch.IsbnExistenceIndexListener;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
 import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
 import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
@@ -52,10 +58,15 @@ import static org.mockito.Mockito.when;
     AladinNewBookImportJobConfig.class,
     AladinFetchStepConfig.class,
     AladinFetchReaderConfig.class,
+    AladinKeyScheduler.class,
     AladinFetchProcessor.class,
     AladinFetchWriter.class,
     AladinNewBookImportJobConfigTest.TestConfig.class,
     JdbcExecutor.class,
+    JdbcConfig.class,
+    IsbnExistenceIndex.class,
+    IsbnExistenceIndexListener.class,
+    PublisherDictionary.class,
     IsbnResolver.class,
     FieldNormalizer.class
 }, properties = {
@@ -75,6 +86,9 @@ class AladinNewBookImportJobConfigTest {
     @MockitoBean
     private AladinQuotaTracker aladinQuotaTracker;
 
+    @MockitoBean
+    private AladinHighWaterMarkStore aladinHighWaterMarkStore;
+
     @Autowired
     private CategoryRepository categoryRepository;
 
@@ -84,6 +98,9 @@ class AladinNewBookImportJobConfigTest {
     @Autowired
     private PublisherRepository publisherRepository;
 
+    @Autowired
+    private PublisherDictionary publisherDictionary;
+
     @Autowired
     private Job aladinNewBookImportJob;
 
@@ -121,6 +138,7 @@ class AladinNewBookImportJobConfigTest {
         bookRepository.deleteAll();
         categoryRepository.deleteAll();
         publisherRepository.deleteAll();
+        publisherDictionary.clear();
     }
 
     @Test
@@ -146,6 +164,7 @@ class AladinNewBookImportJobConfigTest {
 
         when(aladinQuotaTracker.isQuotaExhausted()).thenReturn(false);
         when(aladinQuotaTracker.tryAcquire(anyString())).thenReturn(true);
+        when(aladinHighWaterMarkStore.load(anyString())).thenReturn(AladinHighWaterMarkStore.Mark.EMPTY);
         when(aladinApiClient.listItems(anyInt(), anyString())).thenReturn(Optional.of(response));
 
         // When
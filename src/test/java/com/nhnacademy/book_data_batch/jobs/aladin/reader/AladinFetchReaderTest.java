@@ -0,0 +1,326 @@
+package com.nhnacademy.book_data_batch.jobs.aladin.reader;
+
+import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinApiClient;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinKeyScheduler;
+import com.nhnacademy.book_data_batch.infrastructure.client.aladin.AladinQuotaTracker;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinItemDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.dto.api.AladinResponseDto;
+import com.nhnacademy.book_data_batch.jobs.aladin.exception.RateLimitExceededException;
+import com.nhnacademy.book_data_batch.jobs.aladin.reader.AladinHighWaterMarkStore.Mark;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AladinFetchReader 테스트")
+class AladinFetchReaderTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Mock
+    private AladinApiClient aladinApiClient;
+
+    @Mock
+    private AladinQuotaTracker aladinQuotaTracker;
+
+    @Mock
+    private AladinHighWaterMarkStore highWaterMarkStore;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private AladinFetchReader reader;
+
+    @BeforeEach
+    void setUp() {
+        when(aladinQuotaTracker.getQuotaPerKey()).thenReturn(100);
+        when(aladinQuotaTracker.tryAcquire(anyString())).thenReturn(true);
+        when(highWaterMarkStore.load(anyString())).thenReturn(Mark.EMPTY);
+        AladinKeyScheduler scheduler = new AladinKeyScheduler(
+                aladinQuotaTracker, List.of("key-1", "key-2"), 0, 5, 1_000, 4_000);
+
+        reader = new AladinFetchReader(aladinApiClient, aladinQuotaTracker, scheduler, highWaterMarkStore, bookRepository, new IsbnResolver(),
+                new SimpleAsyncTaskExecutor("test-fetch-"), 3);
+        reader.open(new ExecutionContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reader.close();
+    }
+
+    // 번호별로 유효한 ISBN13 (979 + 11 + 번호 7자리 + 체크 숫자)
+    private static String isbn(int number) {
+        String body = "97911" + String.format("%07d", number);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+
+    private static AladinResponseDto page(int number, int totalResults) {
+        List<AladinItemDto> items = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new AladinItemDto("title-" + number + "-" + i, null, null, null, null,
+                        isbn(number * 100 + i), 1000, null, null, null, null))
+                .toList();
+        return new AladinResponseDto(totalResults, number, PAGE_SIZE, items, null, null);
+    }
+
+    private List<String> readAll() throws Exception {
+        List<String> titles = new ArrayList<>();
+        AladinItemDto item;
+        while ((item = reader.read()) != null) {
+            titles.add(item.title());
+        }
+        return titles;
+    }
+
+    @Test
+    @DisplayName("선조회한 페이지를 페이지 순서대로 전달")
+    void read_deliversPagesInOrder() throws Exception {
+        int pages = 5;
+        when(aladinApiClient.listItems(anyInt(), anyString())).thenAnswer(invocation -> {
+            int number = invocation.getArgument(0);
+            Thread.sleep((pages - number) * 10L);  // 뒤 페이지가 먼저 도착하도록
+            return Optional.of(page(number, pages * PAGE_SIZE));
+        });
+
+        List<String> titles = readAll();
+
+        assertEquals(pages * PAGE_SIZE, titles.size());
+        for (int p = 1; p <= pages; p++) {
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                assertEquals("title-" + p + "-" + i, titles.get((p - 1) * PAGE_SIZE + i));
+            }
+        }
+        verify(aladinApiClient, times(pages)).listItems(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("빈 페이지를 만나면 이후 페이지는 전달하지 않고 종료")
+    void read_stopsAtEmptyPage() throws Exception {
+        when(aladinApiClient.listItems(anyInt(), anyString())).thenAnswer(invocation -> {
+            int number = invocation.getArgument(0);
+            if (number == 2) {
+                return Optional.of(new AladinResponseDto(30, 2, PAGE_SIZE, List.of(), null, null));
+            }
+            return Optional.of(page(number, 30));
+        });
+
+        List<String> titles = readAll();
+
+        assertEquals(PAGE_SIZE, titles.size());
+        assertTrue(titles.stream().allMatch(title -> title.startsWith("title-1-")));
+        // 창 크기(3)를 넘는 페이지는 요청하지 않음
+        verify(aladinApiClient, never()).listItems(eq(6), anyString());
+    }
+
+    @Test
+    @DisplayName("모든 키의 쿼터가 소진되면 전체 소진 처리 후 종료")
+    void read_allKeysExhausted_setsGlobalFlag() throws Exception {
+        when(aladinQuotaTracker.tryAcquire(anyString())).thenReturn(false);
+
+        assertNull(reader.read());
+
+        verify(aladinQuotaTracker).setQuotaExhausted(true);
+        verify(aladinApiClient, never()).listItems(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("한 키가 일일 쿼터 초과 응답을 받으면 그 키는 제외하고 다른 키로 같은 페이지를 조회")
+    void read_keyQuotaExceeded_retriesOnOtherKey() throws Exception {
+        when(aladinApiClient.listItems(anyInt(), eq("key-1")))
+                .thenThrow(new RateLimitExceededException("key-1", 10, "일일 쿼터 초과"));
+        when(aladinApiClient.listItems(anyInt(), eq("key-2")))
+                .thenAnswer(invocation -> Optional.of(page(invocation.getArgument(0), 2 * PAGE_SIZE)));
+
+        List<String> titles = readAll();
+
+        assertEquals(2 * PAGE_SIZE, titles.size());
+        assertEquals("title-1-0", titles.getFirst());
+        verify(aladinApiClient, times(1)).listItems(anyInt(), eq("key-1"));
+        verify(aladinQuotaTracker, never()).setQuotaExhausted(true);
+    }
+
+    @Test
+    @DisplayName("선조회 중인 페이지에서 한 키의 쿼터가 소진돼도 나머지 페이지는 다른 키로 순서대로 전달")
+    void read_prefetchWindow_keyQuotaExceeded_continuesOnOtherKey() throws Exception {
+        int pages = 6;
+        when(aladinApiClient.listItems(anyInt(), eq("key-1"))).thenAnswer(invocation -> {
+            int number = invocation.getArgument(0);
+            if (number >= 3) {
+                throw new RateLimitExceededException("key-1", 10, "일일 쿼터 초과");
+            }
+            return Optional.of(page(number, pages * PAGE_SIZE));
+        });
+        when(aladinApiClient.listItems(anyInt(), eq("key-2"))).thenAnswer(invocation -> {
+            int number = invocation.getArgument(0);
+            Thread.sleep((pages - number) * 10L);  // 뒤 페이지가 먼저 도착하도록
+            return Optional.of(page(number, pages * PAGE_SIZE));
+        });
+
+        List<String> titles = readAll();
+
+        assertEquals(pages * PAGE_SIZE, titles.size());
+        for (int p = 1; p <= pages; p++) {
+            assertEquals("title-" + p + "-0", titles.get((p - 1) * PAGE_SIZE));
+        }
+        verify(aladinQuotaTracker, never()).setQuotaExhausted(true);
+    }
+
+    // 페이지 번호가 클수록 오래된 출간일 (page p, item i → 2025-01-(20-p), ISBN p*10+i)
+    private static AladinResponseDto datedPage(int number, int totalResults) {
+        List<AladinItemDto> items = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new AladinItemDto("title-" + number + "-" + i, null,
+                        LocalDate.of(2025, 1, 20 - number).toString(), null, null,
+                        isbn(number * 10 + i), 1000, null, null, null, null))
+                .toList();
+        return new AladinResponseDto(totalResults, number, PAGE_SIZE, items, null, null);
+    }
+
+    // 주어진 번호의 ISBN만 book 테이블에 있는 것으로 응답
+    private void storedIsbns(Integer... numbers) {
+        Set<String> stored = Arrays.stream(numbers).map(AladinFetchReaderTest::isbn).collect(Collectors.toSet());
+        when(bookRepository.findIdsByIsbns(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> isbns = invocation.getArgument(0);
+            return isbns.stream().filter(stored::contains)
+                    .collect(Collectors.toMap(Function.identity(), isbn -> 1L));
+        });
+    }
+
+    private static StepExecution completedStep() {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        return stepExecution;
+    }
+
+    @Test
+    @DisplayName("기준점: 이미 본 도서는 건너뛰고, 전부 본 페이지에서 종료")
+    void read_stopsAtHighWaterMark() throws Exception {
+        // 기준점 = 2025-01-17 (3페이지), ISBN 30만 봄
+        when(highWaterMarkStore.load(anyString())).thenReturn(new Mark(LocalDate.of(2025, 1, 17), Set.of(isbn(30))));
+        // 4페이지 도서(기준일 이전)는 모두 저장되어 있음
+        storedIsbns(40, 41, 42);
+        reader.open(new ExecutionContext());
+        when(aladinApiClient.listItems(anyInt(), anyString()))
+                .thenAnswer(invocation -> Optional.of(datedPage(invocation.getArgument(0), 30)));
+
+        List<String> titles = readAll();
+
+        // 1, 2페이지 전체 + 3페이지 중 처음 보는 2건, 4페이지(전부 기준일 이전)에서 종료
+        assertEquals(PAGE_SIZE * 2 + 2, titles.size());
+        assertFalse(titles.contains("title-3-0"));
+        // 기준점 근처(3페이지)부터는 선조회 없이 한 페이지씩
+        verify(aladinApiClient, never()).listItems(eq(6), anyString());
+    }
+
+    @Test
+    @DisplayName("기준점: 기준일 이전 출간이라도 book에 없는 도서는 다시 읽음")
+    void read_olderButNotStored_isDelivered() throws Exception {
+        when(highWaterMarkStore.load(anyString())).thenReturn(new Mark(LocalDate.of(2025, 1, 17), Set.of(isbn(30))));
+        // 4페이지의 41은 목록에 늦게 올라와 아직 저장되지 않음, 5페이지는 전부 저장됨
+        storedIsbns(40, 42, 50, 51, 52);
+        reader.open(new ExecutionContext());
+        when(aladinApiClient.listItems(anyInt(), anyString()))
+                .thenAnswer(invocation -> Optional.of(datedPage(invocation.getArgument(0), 30)));
+
+        List<String> titles = readAll();
+
+        assertTrue(titles.contains("title-4-1"));
+        assertFalse(titles.contains("title-4-0"));
+        assertEquals(PAGE_SIZE * 2 + 2 + 1, titles.size());
+        // 기준일 이후 출간(1, 2페이지)은 book 테이블을 확인하지 않음
+        verify(bookRepository, times(3)).findIdsByIsbns(anyCollection());
+    }
+
+    @Test
+    @DisplayName("정상 완료 시 이번에 본 최신 출간일로 기준점 저장")
+    void afterStep_savesNewestMark() throws Exception {
+        when(aladinApiClient.listItems(anyInt(), anyString()))
+                .thenAnswer(invocation -> Optional.of(datedPage(invocation.getArgument(0), 6)));
+        readAll();
+
+        reader.afterStep(completedStep());
+
+        ArgumentCaptor<Mark> saved = ArgumentCaptor.forClass(Mark.class);
+        verify(highWaterMarkStore).save(anyString(), saved.capture());
+        assertEquals(LocalDate.of(2025, 1, 19), saved.getValue().pubDate());
+        assertEquals(Set.of(isbn(10), isbn(11), isbn(12)), saved.getValue().isbns());
+    }
+
+    @Test
+    @DisplayName("쿼터 소진으로 중간에 멈추면 기준점을 저장하지 않음")
+    void afterStep_quotaExhausted_keepsMark() throws Exception {
+        when(aladinQuotaTracker.tryAcquire(anyString())).thenReturn(false);
+        when(aladinQuotaTracker.isQuotaExhausted()).thenReturn(true);
+        readAll();
+
+        reader.afterStep(completedStep());
+
+        verify(highWaterMarkStore, never()).save(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("ISBN10만 있는 도서는 ISBN13으로 기준점에 기록, ISBN13으로 정할 수 없는 도서는 전달하지 않음")
+    void read_resolvesIsbn13ForMark() throws Exception {
+        AladinItemDto isbn10Only = new AladinItemDto("isbn10-only", null, "2025-01-19", null,
+                "0134685997", null, 1000, null, null, null, null);
+        AladinItemDto noIsbn = new AladinItemDto("no-isbn", null, "2025-01-19", null,
+                null, "12345", 1000, null, null, null, null);
+        when(aladinApiClient.listItems(anyInt(), anyString())).thenReturn(
+                Optional.of(new AladinResponseDto(2, 1, PAGE_SIZE, List.of(isbn10Only, noIsbn), null, null)));
+
+        List<String> titles = readAll();
+        reader.afterStep(completedStep());
+
+        assertEquals(List.of("isbn10-only"), titles);
+        ArgumentCaptor<Mark> saved = ArgumentCaptor.forClass(Mark.class);
+        verify(highWaterMarkStore).save(anyString(), saved.capture());
+        assertEquals(Set.of("9780134685991"), saved.getValue().isbns());
+    }
+
+    @Test
+    @DisplayName("스킵된 도서가 있으면 기준점을 저장하지 않음")
+    void afterStep_withSkips_keepsMark() throws Exception {
+        when(aladinApiClient.listItems(anyInt(), anyString()))
+                .thenAnswer(invocation -> Optional.of(datedPage(invocation.getArgument(0), 6)));
+        readAll();
+
+        StepExecution stepExecution = completedStep();
+        stepExecution.setProcessSkipCount(1);
+        reader.afterStep(stepExecution);
+
+        verify(highWaterMarkStore, never()).save(anyString(), any());
+    }
+}
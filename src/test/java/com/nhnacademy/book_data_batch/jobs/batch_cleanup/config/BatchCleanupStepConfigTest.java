@@ -5,6 +5,7 @@ import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.enums.BatchStatus;
 import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.jobs.batch_cleanup.step.BatchCleanupStepConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -38,7 +39,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest(classes = {
     BatchCleanupStepConfig.class,
     BatchCleanupStepConfigTest.TestConfig.class,
-    JdbcExecutor.class
+    JdbcExecutor.class,
+    JdbcConfig.class
 })
 @EnableAutoConfiguration
 @ActiveProfiles("test")
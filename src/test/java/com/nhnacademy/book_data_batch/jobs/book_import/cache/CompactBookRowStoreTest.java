@@ -0,0 +1,151 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.cache;
+
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompactBookRowStore 테스트")
+class CompactBookRowStoreTest {
+
+    private static BookCsvRow row(int i) {
+        return new BookCsvRow(
+                String.valueOf(i), "978000000000" + (i % 10), "1", "제목 " + i, "저자", "출판사",
+                "2023-01-01", "초판", String.valueOf(10000 + i), "http://img/" + i,
+                "설명 ".repeat(i % 50), "813.6", "제목검색", "저자검색", "", "Y", "Y", "");
+    }
+
+    @ParameterizedTest
+    @EnumSource(CompactBookRowStore.StorageMode.class)
+    @DisplayName("여러 페이지에 걸쳐 저장해도 필요한 필드는 그대로 복원")
+    void appendAndGet_acrossPages_restoresFields(CompactBookRowStore.StorageMode mode) {
+        try (CompactBookRowStore store = new CompactBookRowStore(mode, 4 * 1024)) {
+            for (int i = 0; i < 2000; i++) {
+                store.append(row(i));
+            }
+
+            assertEquals(2000, store.size());
+            for (int i = 0; i < 2000; i++) {
+                BookCsvRow expected = row(i);
+                BookCsvRow actual = store.get(i);
+                assertEquals(expected.isbn13(), actual.isbn13());
+                assertEquals(expected.title(), actual.title());
+                assertEquals(expected.price(), actual.price());
+                assertEquals(expected.imageUrl(), actual.imageUrl());
+                assertEquals(expected.description(), actual.description());
+                assertEquals(expected.kdcCode(), actual.kdcCode());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("후속 Step에서 쓰지 않는 필드는 저장하지 않음")
+    void get_droppedFields_returnsEmpty() {
+        try (CompactBookRowStore store = new CompactBookRowStore(CompactBookRowStore.StorageMode.HEAP, 1024)) {
+            store.append(row(1));
+
+            BookCsvRow actual = store.get(0);
+            assertEquals("", actual.seqNo());
+            assertEquals("", actual.titleSearch());
+            assertEquals("", actual.authorSearch());
+            assertEquals("", actual.internetBookstoreYn());
+        }
+    }
+
+    @Test
+    @DisplayName("replace 후 List 뷰에 교체된 행이 보임")
+    void replace_updatesListView() {
+        try (CompactBookRowStore store = new CompactBookRowStore(CompactBookRowStore.StorageMode.HEAP, 1024)) {
+            store.append(row(1));
+            store.append(row(2));
+            List<BookCsvRow> view = store.asList();
+
+            store.replace(0, row(3));
+
+            assertEquals(2, view.size());
+            assertEquals("제목 3", view.get(0).title());
+            assertEquals("제목 2", view.get(1).title());
+        }
+    }
+
+    @Test
+    @DisplayName("retain 후 지정한 행만 순서대로 남음")
+    void retain_keepsSelectedRowsInOrder() {
+        try (CompactBookRowStore store = new CompactBookRowStore(CompactBookRowStore.StorageMode.HEAP, 1024)) {
+            for (int i = 0; i < 5; i++) {
+                store.append(row(i));
+            }
+
+            store.retain(new int[]{1, 3, 4, 0}, 2);
+            store.append(row(9));
+
+            assertEquals(3, store.size());
+            assertEquals("제목 1", store.get(0).title());
+            assertEquals("제목 3", store.get(1).title());
+            assertEquals("제목 9", store.get(2).title());
+        }
+    }
+
+    @Test
+    @DisplayName("기존 크기 이하로 교체하면 제자리에 덮어써 공간이 늘지 않음")
+    void replace_fitsInPlace_doesNotGrow() {
+        try (CompactBookRowStore store = new CompactBookRowStore(CompactBookRowStore.StorageMode.HEAP, 1024)) {
+            store.append(row(41));
+            store.append(row(2));
+            long allocated = store.allocatedBytes();
+
+            for (int i = 0; i < 100; i++) {
+                store.replace(0, row(1));
+            }
+
+            assertEquals(allocated, store.allocatedBytes());
+            assertEquals("제목 1", store.get(0).title());
+            assertEquals("제목 2", store.get(1).title());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(CompactBookRowStore.StorageMode.class)
+    @DisplayName("retain 후 버린 행/교체 전 레코드가 대부분이면 압축해 페이지 해제")
+    void retain_mostlyGarbage_compactsPages(CompactBookRowStore.StorageMode mode) {
+        try (CompactBookRowStore store = new CompactBookRowStore(mode, 4 * 1024)) {
+            for (int i = 0; i < 500; i++) {
+                store.append(row(i % 10));
+            }
+            for (int i = 0; i < 50; i++) {
+                store.replace(i, row(40 + i % 10));  // 더 큰 레코드 → 뒤에 새로 씀
+            }
+            long allocated = store.allocatedBytes();
+
+            int[] kept = new int[50];
+            for (int i = 0; i < 50; i++) {
+                kept[i] = i * 2;
+            }
+            store.retain(kept, 50);
+            store.append(row(7));
+
+            assertTrue(store.allocatedBytes() < allocated);
+            assertEquals(51, store.size());
+            for (int i = 0; i < 50; i++) {
+                int original = i * 2;
+                BookCsvRow expected = original < 50 ? row(40 + original % 10) : row(original % 10);
+                assertEquals(expected.title(), store.get(i).title());
+                assertEquals(expected.description(), store.get(i).description());
+            }
+            assertEquals("제목 7", store.get(50).title());
+        }
+    }
+
+    @Test
+    @DisplayName("페이지보다 큰 행은 거부")
+    void append_rowLargerThanPage_throws() {
+        try (CompactBookRowStore store = new CompactBookRowStore(CompactBookRowStore.StorageMode.HEAP, 64)) {
+            assertThrows(IllegalArgumentException.class, () -> store.append(row(40)));
+        }
+    }
+}
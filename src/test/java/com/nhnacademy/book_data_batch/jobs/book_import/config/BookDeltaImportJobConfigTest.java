@@ -0,0 +1,173 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.config;
+
+import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookFingerprintRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookImageRepository;
+import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
+import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
+import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
+import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import com.nhnacademy.book_data_batch.global.batch.IsbnExistenceIndexListener;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
+import com.nhnacademy.book_data_batch.jobs.book_import.cache.InMemoryReferenceDataCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest(classes = {
+    BookDataJobConfig.class,
+    BookDeltaImportJobConfigTest.TestConfig.class,
+    InMemoryReferenceDataCache.class,
+    IsbnResolver.class,
+    FieldNormalizer.class,
+    JdbcExecutor.class,
+    JdbcConfig.class,
+    IsbnExistenceIndex.class,
+    IsbnExistenceIndexListener.class,
+    PublisherDictionary.class
+})
+@EnableAutoConfiguration
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "batch.book.resource=classpath:data/book_test.csv",
+        "batch.book.import-mode=delta"
+})
+class BookDeltaImportJobConfigTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private PublisherDictionary publisherDictionary;
+
+    @Autowired
+    private BookImageRepository bookImageRepository;
+
+    @Autowired
+    private BatchRepository batchRepository;
+
+    @Autowired
+    private BookFingerprintRepository bookFingerprintRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job bookDataImportJob;
+
+    @TestConfiguration
+    @EnableJpaRepositories(basePackages = "com.nhnacademy.book_data_batch.domain.repository")
+    @EntityScan(basePackages = "com.nhnacademy.book_data_batch.domain")
+    @ComponentScan(basePackages = "com.nhnacademy.book_data_batch.domain.repository.impl")
+    @EnableTransactionManagement
+    @EnableJpaAuditing
+    static class TestConfig {
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookFingerprintRepository.deleteAll();
+        bookImageRepository.deleteAll();
+        bookRepository.deleteAll();
+        publisherRepository.deleteAll();
+        publisherDictionary.clear();
+        batchRepository.deleteAll();
+    }
+
+    private JobExecution launch() throws Exception {
+        jobLauncherTestUtils.setJob(bookDataImportJob);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.nanoTime())
+                .toJobParameters();
+        return jobLauncherTestUtils.launchJob(jobParameters);
+    }
+
+    @Test
+    @DisplayName("증분 임포트: 첫 실행은 전체 적재 + 지문 기록")
+    void bookDataImportJob_deltaMode_firstRunImportsAll() throws Exception {
+        JobExecution jobExecution = launch();
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(bookRepository.count()).isEqualTo(2);
+        assertThat(bookImageRepository.count()).isEqualTo(2);
+        assertThat(bookFingerprintRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("증분 임포트: 지문이 달라진 행만 갱신")
+    void bookDataImportJob_deltaMode_updatesChangedRowsOnly() throws Exception {
+        launch();
+
+        // 이전 덤프와 내용이 달랐던 것처럼 한 행의 제목/지문 변경
+        jdbcTemplate.update("UPDATE book SET title = 'Old Title' WHERE isbn_13 = ?", "9780134685991");
+        jdbcTemplate.update("UPDATE book_fingerprint SET fingerprint = 0 WHERE isbn_13 = ?", "9780134685991");
+        jdbcTemplate.update("UPDATE book SET title = 'Untouched' WHERE isbn_13 = ?", "9780321356680");
+
+        JobExecution jobExecution = launch();
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(bookRepository.count()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM book WHERE isbn_13 = ?", String.class, "9780134685991"))
+                .isEqualTo("Test Book");
+        // 지문이 같은 행은 건드리지 않음
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM book WHERE isbn_13 = ?", String.class, "9780321356680"))
+                .isEqualTo("Untouched");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT fingerprint FROM book_fingerprint WHERE isbn_13 = ?", Long.class, "9780134685991"))
+                .isNotZero();
+        // 변경된 도서의 썸네일은 교체 (추가로 쌓이지 않음)
+        assertThat(bookImageRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("증분 임포트: 지문이 없는 기존 도서는 변경으로 보고 갱신 후 지문 기록")
+    void bookDataImportJob_deltaMode_missingFingerprintTreatedAsChanged() throws Exception {
+        launch();
+
+        // 지문 없이 적재된 도서 (tasklet 모드 등)
+        jdbcTemplate.update("UPDATE book SET title = 'Old Title' WHERE isbn_13 = ?", "9780134685991");
+        jdbcTemplate.update("DELETE FROM book_fingerprint WHERE isbn_13 = ?", "9780134685991");
+
+        JobExecution jobExecution = launch();
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM book WHERE isbn_13 = ?", String.class, "9780134685991"))
+                .isEqualTo("Test Book");
+        assertThat(bookFingerprintRepository.count()).isEqualTo(2);
+        assertThat(bookImageRepository.count()).isEqualTo(2);
+    }
+}
@@ -7,9 +7,13 @@ import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookImageRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
 import com.nhnacademy.book_data_batch.domain.repository.PublisherRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
 import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
+import com.nhnacademy.book_data_batch.global.batch.IsbnExistenceIndexListener;
+import com.nhnacademy.book_data_batch.global.index.IsbnExistenceIndex;
+import com.nhnacademy.book_data_batch.domain.service.publisher.PublisherDictionary;
 import com.nhnacademy.book_data_batch.jobs.book_import.cache.InMemoryReferenceDataCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,7 +50,11 @@ import static org.assertj.core.api.Assertions.assertThat;
     InMemoryReferenceDataCache.class,
     IsbnResolver.class,
     FieldNormalizer.class,
-    JdbcExecutor.class
+    JdbcExecutor.class,
+    JdbcConfig.class,
+    IsbnExistenceIndex.class,
+    IsbnExistenceIndexListener.class,
+    PublisherDictionary.class
 })
 @EnableAutoConfiguration
 @ActiveProfiles("test")
@@ -62,6 +70,9 @@ class BookImportJobConfigTest {
     @Autowired
     private PublisherRepository publisherRepository;
 
+    @Autowired
+    private PublisherDictionary publisherDictionary;
+
     @Autowired
     private BookImageRepository bookImageRepository;
 
@@ -88,6 +99,7 @@ class BookImportJobConfigTest {
         bookImageRepository.deleteAll();
         bookRepository.deleteAll();
         publisherRepository.deleteAll();
+        publisherDictionary.clear();
         batchRepository.deleteAll();
     }
 
@@ -0,0 +1,106 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.processor;
+
+import com.nhnacademy.book_data_batch.global.util.FieldNormalizer;
+import com.nhnacademy.book_data_batch.global.util.IsbnResolver;
+import com.nhnacademy.book_data_batch.jobs.book_import.cache.CompactBookRowStore;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookRowConsolidator 테스트")
+class BookRowConsolidatorTest {
+
+    private final IsbnResolver isbnResolver = new IsbnResolver();
+    private final FieldNormalizer fieldNormalizer = new FieldNormalizer();
+
+    private static BookCsvRow row(String isbn13, String isbn10, String title, String publishedDate,
+                                  String imageUrl, String description) {
+        return new BookCsvRow(
+                "1", isbn13, "1", title, "저자", "출판사", publishedDate, "", "10000",
+                imageUrl, description, "813.6", "", "", "", "Y", "Y", isbn10);
+    }
+
+    private CompactBookRowStore storeOf(BookCsvRow... rows) {
+        CompactBookRowStore store = new CompactBookRowStore(CompactBookRowStore.StorageMode.HEAP, 4096);
+        for (BookCsvRow row : rows) {
+            store.append(row);
+        }
+        return store;
+    }
+
+    @Test
+    @DisplayName("ISBN-10 행도 ISBN-13으로 결정해 같은 도서로 병합, 결정된 ISBN을 기록")
+    void consolidate_isbn10Duplicate_mergedWithResolvedIsbn() {
+        try (CompactBookRowStore store = storeOf(
+                row("9780321356680", "", "원본", "2020-01-01", "", "짧은 설명"),
+                row("", "0321356683", "재판", "2022-05-01", "http://img", "조금 더 긴 설명"),
+                row("9780134685991", "", "다른 책", "2021-01-01", "", ""))) {
+
+            int remaining = new BookRowConsolidator(isbnResolver, fieldNormalizer,
+                    BookRowConsolidator.MergePolicy.RICHEST).consolidate(store);
+
+            assertEquals(2, remaining);
+            BookCsvRow merged = store.get(0);
+            assertEquals("9780321356680", merged.isbn13());
+            assertEquals("", merged.isbn10());
+            assertEquals("원본", merged.title());
+            assertEquals("조금 더 긴 설명", merged.description());
+            assertEquals("2022-05-01", merged.publishedDate());
+            assertEquals("http://img", merged.imageUrl());
+            assertEquals("9780134685991", store.get(1).isbn13());
+        }
+    }
+
+    @Test
+    @DisplayName("FIRST: 먼저 나온 행 유지, 빈 필드만 채움")
+    void consolidate_firstPolicy_keepsFirstRow() {
+        try (CompactBookRowStore store = storeOf(
+                row("9780321356680", "", "원본", "2020-01-01", "", "짧은 설명"),
+                row("9780321356680", "", "재판", "2022-05-01", "http://img", "조금 더 긴 설명"))) {
+
+            new BookRowConsolidator(isbnResolver, fieldNormalizer,
+                    BookRowConsolidator.MergePolicy.FIRST).consolidate(store);
+
+            BookCsvRow merged = store.get(0);
+            assertEquals(1, store.size());
+            assertEquals("원본", merged.title());
+            assertEquals("짧은 설명", merged.description());
+            assertEquals("2020-01-01", merged.publishedDate());
+            assertEquals("http://img", merged.imageUrl());
+        }
+    }
+
+    @Test
+    @DisplayName("LATEST: 출판일이 가장 늦은 행 유지")
+    void consolidate_latestPolicy_keepsLatestRow() {
+        try (CompactBookRowStore store = storeOf(
+                row("9780321356680", "", "원본", "2020-01-01", "", "짧은 설명"),
+                row("9780321356680", "", "재판", "2022-05-01", "", ""))) {
+
+            new BookRowConsolidator(isbnResolver, fieldNormalizer,
+                    BookRowConsolidator.MergePolicy.LATEST).consolidate(store);
+
+            BookCsvRow merged = store.get(0);
+            assertEquals("재판", merged.title());
+            assertEquals("짧은 설명", merged.description());
+            assertEquals("2022-05-01", merged.publishedDate());
+        }
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 ISBN 행은 제외")
+    void consolidate_invalidIsbn_dropped() {
+        try (CompactBookRowStore store = storeOf(
+                row("", "", "ISBN 없음", "2020-01-01", "", ""),
+                row("9780134685991", "", "정상", "2021-01-01", "", ""))) {
+
+            int remaining = new BookRowConsolidator(isbnResolver, fieldNormalizer,
+                    BookRowConsolidator.MergePolicy.RICHEST).consolidate(store);
+
+            assertEquals(1, remaining);
+            assertEquals("정상", store.get(0).title());
+        }
+    }
+}
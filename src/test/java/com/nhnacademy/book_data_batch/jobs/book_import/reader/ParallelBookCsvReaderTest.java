@@ -0,0 +1,89 @@
+package com.nhnacademy.book_data_batch.jobs.book_import.reader;
+
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.BookCsvRow;
+import com.nhnacademy.book_data_batch.jobs.book_import.dto.CsvByteRange;
+import com.nhnacademy.book_data_batch.jobs.book_import.mapper.BookCsvRowMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelBookCsvReader 테스트")
+class ParallelBookCsvReaderTest {
+
+    private static final String HEADER = "seq,isbn13,vol,title,author,publisher,pubDate,edition,price,img,desc\n";
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeCsv(int rowCount) throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rowCount; i++) {
+            csv.append(i).append(",978").append(String.format("%010d", i)).append(",1,제목 ").append(i)
+                    .append(",저자,출판사").append(i % 7).append(",2023-01-01,,10000,http://img/").append(i)
+                    // 따옴표 안의 줄바꿈, 쉼표, 이중 따옴표가 섞인 설명
+                    .append(",\"첫 줄, 설명\n둘째 줄 \"\"인용\"\"\n셋째 줄\"\n");
+        }
+        Path file = tempDir.resolve("books.csv");
+        Files.writeString(file, csv.toString(), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 줄바꿈이 있어도 레코드 경계로만 분할")
+    void split_quotedNewlines_alignsToRecordBoundaries() throws Exception {
+        Path file = writeCsv(500);
+        ParallelBookCsvReader reader = new ParallelBookCsvReader(file, new BookCsvRowMapper(), 4);
+
+        List<CsvByteRange> ranges = reader.split(16);
+
+        assertTrue(ranges.size() > 1);
+        assertEquals(HEADER.getBytes(StandardCharsets.UTF_8).length, ranges.get(0).start());
+        assertEquals(Files.size(file), ranges.get(ranges.size() - 1).end());
+
+        int total = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                assertEquals(ranges.get(i - 1).end(), ranges.get(i).start());
+            }
+            for (BookCsvRow row : reader.readRange(ranges.get(i))) {
+                assertTrue(row.description().startsWith("첫 줄, 설명\n둘째 줄 \"인용\""));
+                total++;
+            }
+        }
+        assertEquals(500, total);
+    }
+
+    @Test
+    @DisplayName("병렬 파싱 결과는 파일 순서를 유지")
+    void readOrdered_preservesFileOrder() throws Exception {
+        Path file = writeCsv(1000);
+        ParallelBookCsvReader reader = new ParallelBookCsvReader(file, new BookCsvRowMapper(), 3);
+
+        List<BookCsvRow> rows = new ArrayList<>();
+        long count = reader.readOrdered(rows::addAll);
+
+        assertEquals(1000, count);
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(String.valueOf(i), rows.get(i).seqNo());
+        }
+    }
+
+    @Test
+    @DisplayName("헤더만 있는 파일은 빈 결과")
+    void split_headerOnly_returnsEmpty() throws Exception {
+        Path file = tempDir.resolve("empty.csv");
+        Files.writeString(file, HEADER, StandardCharsets.UTF_8);
+        ParallelBookCsvReader reader = new ParallelBookCsvReader(file, new BookCsvRowMapper(), 2);
+
+        assertTrue(reader.split(4).isEmpty());
+        assertEquals(0, reader.readOrdered(batch -> fail("호출되면 안 됨")));
+    }
+}
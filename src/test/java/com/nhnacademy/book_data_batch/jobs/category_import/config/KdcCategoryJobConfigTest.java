@@ -2,6 +2,7 @@ package com.nhnacademy.book_data_batch.jobs.category_import.config;
 
 import com.nhnacademy.book_data_batch.domain.entity.Category;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,7 +32,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest(classes = {
     KdcCategoryJobConfig.class,
     KdcCategoryJobConfigTest.TestConfig.class,
-    JdbcExecutor.class
+    JdbcExecutor.class,
+    JdbcConfig.class
 })
 @EnableAutoConfiguration
 @ActiveProfiles("test")
@@ -6,6 +6,8 @@ import com.nhnacademy.book_data_batch.domain.entity.DiscountPolicy;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
 import com.nhnacademy.book_data_batch.domain.repository.CategoryRepository;
 import com.nhnacademy.book_data_batch.domain.repository.DiscountPolicyRepository;
+import com.nhnacademy.book_data_batch.global.batch.WriteBehindWriterFactory;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,7 +41,9 @@ import org.junit.jupiter.api.BeforeEach;
 @SpringBootTest(classes = {
     DiscountRepriceJobConfig.class,
     DiscountRepriceJobConfigTest.TestConfig.class,
-    JdbcExecutor.class
+    JdbcExecutor.class,
+    JdbcConfig.class,
+    WriteBehindWriterFactory.class
 })
 @EnableAutoConfiguration
 @ActiveProfiles("test")
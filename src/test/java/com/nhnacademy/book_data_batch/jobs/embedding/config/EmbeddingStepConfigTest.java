@@ -6,7 +6,9 @@ import com.nhnacademy.book_data_batch.domain.enums.BatchStatus;
 import com.nhnacademy.book_data_batch.domain.repository.BatchRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
 import com.nhnacademy.book_data_batch.domain.repository.search.BookSearchRepository;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.client.ollama.OllamaClient;
+import com.nhnacademy.book_data_batch.global.batch.WriteBehindWriterFactory;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.jobs.embedding.processor.EmbeddingItemProcessor;
 import com.nhnacademy.book_data_batch.jobs.embedding.reader.EmbeddingReaderConfig;
@@ -48,7 +50,9 @@ import static org.mockito.Mockito.when;
     EmbeddingItemProcessor.class,
     EmbeddingItemWriter.class,
     EmbeddingStepConfigTest.TestConfig.class,
-    JdbcExecutor.class
+    JdbcExecutor.class,
+    JdbcConfig.class,
+    WriteBehindWriterFactory.class
 }, properties = {
     "app.batch.chunk-size=10"
 })
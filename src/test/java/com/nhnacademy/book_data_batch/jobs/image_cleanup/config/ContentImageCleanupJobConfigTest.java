@@ -3,6 +3,7 @@ package com.nhnacademy.book_data_batch.jobs.image_cleanup.config;
 import com.amazonaws.services.s3.AmazonS3;
 import com.nhnacademy.book_data_batch.domain.entity.Book;
 import com.nhnacademy.book_data_batch.domain.entity.BookDescriptionImage;
+import com.nhnacademy.book_data_batch.global.config.JdbcConfig;
 import com.nhnacademy.book_data_batch.infrastructure.jdbc.JdbcExecutor;
 import com.nhnacademy.book_data_batch.domain.repository.BookDescriptionImageRepository;
 import com.nhnacademy.book_data_batch.domain.repository.BookRepository;
@@ -46,7 +47,8 @@ import static org.mockito.Mockito.verify;
     ContentImageCleanupProcessor.class,
     ContentImageCleanupWriter.class,
     ContentImageCleanupJobConfigTest.TestConfig.class,
-    JdbcExecutor.class
+    JdbcExecutor.class,
+    JdbcConfig.class
 })
 @EnableAutoConfiguration
 @ActiveProfiles("test")